@@ -2,11 +2,17 @@ package com.example.lostfound;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class LostFoundApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(LostFoundApplication.class, args);
+        SpringApplication application = new SpringApplication(LostFoundApplication.class);
+        // Startup steps with their durations, served by /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(2048));
+        application.run(args);
     }
-} 
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.example.lostfound.config;
 import com.example.lostfound.entity.Role;
 import com.example.lostfound.entity.User;
 import com.example.lostfound.repository.UserRepository;
+import com.example.lostfound.service.LostItemService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +19,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final LostItemService lostItemService;
 
     @Value("${app.admin.default-username:admin}")
     private String adminUsername;
@@ -28,6 +30,8 @@ public class DataInitializer implements CommandLineRunner {
     @Override
     public void run(String... args) throws Exception {
         initializeAdminUser();
+        lostItemService.backfillMergeKeys();
+        lostItemService.backfillSearchKeys();
     }
 
     @Transactional
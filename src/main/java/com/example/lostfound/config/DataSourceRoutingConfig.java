@@ -0,0 +1,130 @@
+package com.example.lostfound.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read/write splitting, enabled with {@code app.datasource.routing.enabled}. {@code @Transactional(readOnly = true)}
+ * work goes to the replicas in {@code app.datasource.replicas}, all other work to the primary configured
+ * under {@code spring.datasource}. Without this configuration Spring Boot's single data source is used.
+ * <p>
+ * A replica may lag behind the primary. What a session reads from it must not go into the second-level
+ * and query caches, which all sessions share and take as current: a claim would load a stale item from
+ * there and fail its version check, and listings would stay stale until the entries expire. So a
+ * read-only transaction that may read from a replica loads entities without storing them (store mode
+ * BYPASS) and runs its queries past the query cache (cache mode IGNORE). This is decided when it begins:
+ * a query decides whether to cache its results before it gets a connection.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+
+    private static final String CACHE_STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    private final RoutingDataSourceProperties properties;
+    private final ReadYourWrites readYourWrites;
+
+    public DataSourceRoutingConfig(RoutingDataSourceProperties properties) {
+        this.properties = properties;
+        this.readYourWrites = new ReadYourWrites(properties.getRouting().getReadYourWritesWindow());
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<RoutingDataSourceProperties.Replica> replicaProperties = properties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            RoutingDataSourceProperties.Replica replica = replicaProperties.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            if (replica.getDriverClassName() != null) {
+                dataSource.setDriverClassName(replica.getDriverClassName());
+            }
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // A replica that is down at startup must not stop the application; reads use the primary meanwhile
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, readYourWrites);
+    }
+
+    /**
+     * The data source used by JPA. The lazy proxy defers fetching a connection to the first statement,
+     * when the transaction's read-only flag is known to the router.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    /**
+     * Applied to the JPA transaction manager by Spring Boot
+     */
+    @Bean
+    public TransactionExecutionListener replicaReadCacheMode(ReadWriteRoutingDataSource readWriteRoutingDataSource,
+                                                             ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new TransactionExecutionListener() {
+            @Override
+            public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+                if (beginFailure == null && transaction.isNewTransaction() && transaction.isReadOnly()
+                        && readWriteRoutingDataSource.mayRouteToReplica()
+                        && TransactionSynchronizationManager.getResource(entityManagerFactory.getObject())
+                                instanceof EntityManagerHolder holder) {
+                    // a session property, so that finds with hints of their own keep it too
+                    holder.getEntityManager().setProperty(CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+                    // queries run in the session's mode, and one that only reads still puts what it missed
+                    holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return readYourWrites;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWrites));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.lostfound.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+public class ImportExecutorConfig {
+
+    /**
+     * Bounded pool that parses the files of one upload request (archive entries) concurrently.
+     * Persistence stays on the request thread; workers only parse.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService importParsingExecutor(@Value("${file.upload.parallelism:4}") int parallelism) {
+        ThreadFactory threadFactory = Thread.ofPlatform()
+                .name("import-parser-", 0)
+                .daemon(true)
+                .factory();
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+}
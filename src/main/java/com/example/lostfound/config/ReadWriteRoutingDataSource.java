@@ -0,0 +1,169 @@
+package com.example.lostfound.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the connections of read-only transactions to the replicas, round-robin over those that passed
+ * their last health check, and everything else to the primary. Reads of a user who has just written
+ * stay on the primary (see {@link ReadYourWrites}); without a healthy replica all reads do.
+ * <p>
+ * The transaction's read-only flag is only known once the transaction has begun, so this must sit behind
+ * a LazyConnectionDataSourceProxy, which asks for the connection at the first statement.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements HealthIndicator, AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                      ReadYourWrites readYourWrites) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue()))
+                .toList();
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = route();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            markDown(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = route();
+        if (replica == null) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.dataSource.getConnection(username, password);
+        } catch (SQLException e) {
+            markDown(replica, e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Validate a connection of every replica; replicas come back into rotation once they pass again
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:PT10S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    if (!replica.healthy) {
+                        log.info("Replica {} is healthy again", replica.name);
+                    }
+                    replica.healthy = true;
+                } else {
+                    markDown(replica, null);
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    /**
+     * Close the replica pools; the primary is closed by its own bean
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Health health() {
+        Map<String, String> states = new LinkedHashMap<>();
+        replicas.forEach(replica -> states.put(replica.name, replica.healthy ? "UP" : "DOWN"));
+        // Reads fall back to the primary, so unhealthy replicas only degrade this instance
+        return Health.up()
+                .withDetail("replicas", states)
+                .withDetail("healthyReplicas", replicas.stream().filter(replica -> replica.healthy).count())
+                .build();
+    }
+
+    /**
+     * Whether the read-only transaction begun on this thread may get its connection from a replica: it is
+     * not pinned to the primary, and there are replicas, one of which may be healthy by its first statement
+     */
+    public boolean mayRouteToReplica() {
+        return !replicas.isEmpty() && !readYourWrites.isPinnedToPrimary();
+    }
+
+    /**
+     * @return the replica for the current connection request, or null for the primary
+     */
+    private Replica route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.markWrite();
+            }
+            return null;
+        }
+        if (readYourWrites.isPinnedToPrimary()) {
+            return null;
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static void markDown(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            log.warn("Replica {} is unavailable, reading from the primary until it recovers: {}",
+                    replica.name, cause != null ? cause.getMessage() : "connection is not valid");
+        }
+        replica.healthy = false;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.lostfound.config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a user's reads on the primary for a short window after they wrote, so that e.g. the item list
+ * right after a claim shows the reduced quantity even while the replicas are still catching up.
+ * Requests are bracketed by {@link #begin} and {@link #end} (see ReadYourWritesInterceptor); the routing
+ * data source asks {@link #isPinnedToPrimary()} and reports read-write transactions with {@link #markWrite()}.
+ */
+public class ReadYourWrites {
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestState> currentRequest = new ThreadLocal<>();
+
+    public ReadYourWrites(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void begin(String principal) {
+        Long lastWrite = lastWriteNanos.get(principal);
+        boolean pinned = lastWrite != null && System.nanoTime() - lastWrite < windowNanos;
+        currentRequest.set(new RequestState(principal, pinned));
+    }
+
+    public void end() {
+        RequestState request = currentRequest.get();
+        currentRequest.remove();
+        if (request != null && request.wrote) {
+            lastWriteNanos.put(request.principal, System.nanoTime());
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        RequestState request = currentRequest.get();
+        return request != null && request.pinned;
+    }
+
+    /**
+     * The current request opened a read-write transaction; its later reads stay on the primary as well
+     */
+    public void markWrite() {
+        RequestState request = currentRequest.get();
+        if (request != null) {
+            request.wrote = true;
+            request.pinned = true;
+        }
+    }
+
+    /**
+     * Forget users whose window has passed
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:PT10S}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+    }
+
+    private static final class RequestState {
+        private final String principal;
+        private boolean pinned;
+        private boolean wrote;
+
+        private RequestState(String principal, boolean pinned) {
+            this.principal = principal;
+            this.pinned = pinned;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.lostfound.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code app.datasource.*}: read replicas next to the primary configured under {@code spring.datasource}
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource")
+public class RoutingDataSourceProperties {
+
+    private Routing routing = new Routing();
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Routing {
+        private boolean enabled;
+        private Duration readYourWritesWindow = Duration.ofSeconds(5); // reads of a user who just wrote stay on the primary
+        private Duration healthCheckInterval = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.lostfound.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * The schema is owned by the versioned scripts in {@code db/migration/{vendor}}; Hibernate neither creates
+ * nor inspects it (ddl-auto: none). By default pending migrations are applied at startup. With
+ * {@code app.schema.validate-only} an instance only checks that every migration has been applied
+ * unchanged and refuses to start otherwise, for deployments that migrate in a separate step.
+ */
+@Slf4j
+@Configuration
+public class SchemaMigrationConfig {
+
+    static final String SCHEMA_METRIC = "app.schema.startup";
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.schema.validate-only:false}") boolean validateOnly,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return flyway -> {
+            long start = System.nanoTime();
+            if (validateOnly) {
+                flyway.validate(); // fails on pending, missing or modified migrations
+            } else {
+                flyway.migrate();
+            }
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                Timer.builder(SCHEMA_METRIC)
+                        .description("Time taken to migrate or validate the schema at startup")
+                        .tag("mode", validateOnly ? "validate" : "migrate")
+                        .register(registry)
+                        .record(duration);
+            }
+            log.info("Schema {} at version {} in {} ms", validateOnly ? "validated" : "migrated",
+                    flyway.info().current() != null ? flyway.info().current().getVersion() : "none",
+                    duration.toMillis());
+        };
+    }
+}
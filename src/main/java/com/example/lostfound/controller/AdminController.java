@@ -1,22 +1,56 @@
 package com.example.lostfound.controller;
 
+import com.example.lostfound.dto.ArchiveImportResultDto;
+import com.example.lostfound.dto.AvailabilityDto;
 import com.example.lostfound.dto.ClaimDto;
+import com.example.lostfound.dto.ClaimTransitionRequest;
+import com.example.lostfound.dto.ClaimTransitionResultDto;
+import com.example.lostfound.dto.ImportBatchDto;
+import com.example.lostfound.dto.ImportResultDto;
+import com.example.lostfound.dto.ImportRollbackResultDto;
 import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.dto.MultiFileImportResultDto;
+import com.example.lostfound.dto.ParseTemplateDto;
+import com.example.lostfound.dto.ParseTemplateRequest;
+import com.example.lostfound.dto.UploadSessionDto;
+import com.example.lostfound.dto.UploadSessionRequest;
+import com.example.lostfound.entity.ClaimStatus;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.service.ArchiveImportService;
+import com.example.lostfound.service.ArchiveService;
+import com.example.lostfound.service.AvailabilityCounterService;
+import com.example.lostfound.service.ChunkedUploadService;
 import com.example.lostfound.service.ClaimService;
+import com.example.lostfound.service.ImportBatchService;
+import com.example.lostfound.service.ImportTransactionScope;
 import com.example.lostfound.service.LostItemService;
+import com.example.lostfound.service.MultiFileImportService;
+import com.example.lostfound.service.ParseTemplateService;
+import com.example.lostfound.service.parser.RecordTemplate;
 import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.ImportNotFoundException;
+import com.example.lostfound.exception.ImportRollbackConflictException;
+import com.example.lostfound.exception.InvalidParseTemplateException;
+import com.example.lostfound.exception.InvalidSortException;
+import com.example.lostfound.exception.InvalidUploadChunkException;
+import com.example.lostfound.exception.ParseTemplateNotFoundException;
 import com.example.lostfound.exception.UnsupportedFileTypeException;
+import com.example.lostfound.exception.UploadOffsetConflictException;
+import com.example.lostfound.exception.UploadSessionNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +58,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -36,35 +72,416 @@ import java.util.Map;
 public class AdminController {
     
     private final LostItemService lostItemService;
+    private final ArchiveImportService archiveImportService;
+    private final MultiFileImportService multiFileImportService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final ImportBatchService importBatchService;
+    private final ParseTemplateService parseTemplateService;
     private final ClaimService claimService;
+    private final AvailabilityCounterService availabilityCounterService;
+    private final ArchiveService archiveService;
     
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Upload lost items file", 
-               description = "Upload a PDF file containing lost item records. The file will be parsed and items will be stored in the database.")
+               description = """
+                   Upload a file (PDF, CSV, JSON/NDJSON or plain text) containing lost item records. 
+                   The file will be parsed and items will be stored in the database.
+                   
+                   The response is a summary of the import (record counts and timing). The created items 
+                   can be paged through with `/imports/{importId}/items`.
+                   
+                   Uploads are identified by the SHA-256 of their content. Re-uploading a file that was 
+                   already imported is not parsed again; the response references the original import.
+                   
+                   ## Modes
+                   - `APPEND` (default) - every record becomes a new item
+                   - `MERGE` - records whose item name and place match an existing item (ignoring case 
+                     and extra whitespace) are added to its quantity; only new items are created
+                   
+                   ## Templates
+                   PDF and text reports in another key-value layout can be read with a parse template 
+                   (see `/parse-templates`), selected by name with `template`.
+                   """)
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "File uploaded and processed successfully"),
+        @ApiResponse(responseCode = "200", description = "Identical file was already imported; nothing was changed"),
         @ApiResponse(responseCode = "400", description = "Invalid file or parsing error"),
+        @ApiResponse(responseCode = "404", description = "Parse template not found"),
         @ApiResponse(responseCode = "415", description = "Unsupported file type"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
     public ResponseEntity<Map<String, Object>> uploadFile(
-            @Parameter(description = "PDF file containing lost item records", required = true)
-            @RequestParam("file") MultipartFile file) 
-            throws UnsupportedFileTypeException, FileParsingException {
+            @Parameter(description = "File containing lost item records", required = true)
+            @RequestParam("file") MultipartFile file,
+            
+            @Parameter(description = "How parsed records are stored: APPEND or MERGE", example = "APPEND")
+            @RequestParam(value = "mode", defaultValue = "APPEND") ImportMode mode,
+            
+            @Parameter(description = "Name of the parse template for PDF and text files; built-in layout if omitted")
+            @RequestParam(value = "template", required = false) String template) 
+            throws UnsupportedFileTypeException, FileParsingException, ParseTemplateNotFoundException {
         
-        log.info("Admin file upload request: {} (size: {} bytes)", 
-                file.getOriginalFilename(), file.getSize());
+        log.info("Admin file upload request: {} (size: {} bytes, mode: {}, template: {})", 
+                file.getOriginalFilename(), file.getSize(), mode, template);
         
-        List<LostItemDto> items = lostItemService.uploadAndParseFile(file);
+        RecordTemplate recordTemplate = parseTemplateService.getRecordTemplate(template);
+        ImportResultDto result = lostItemService.uploadAndParseFile(file, mode, recordTemplate);
         
-        Map<String, Object> response = Map.of(
-            "message", "File uploaded and processed successfully",
-            "itemsCount", items.size(),
-            "items", items
-        );
+        return importSummary(result);
+    }
+    
+    @PostMapping(value = "/upload/archive", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Upload an archive of lost items files", 
+               description = """
+                   Upload a zip or gzip-compressed tar archive of report files (PDF, CSV, JSON/NDJSON or plain text). 
+                   Entries are streamed out of the archive and parsed in parallel; each supported entry 
+                   is stored as its own import, exactly as if it had been uploaded on its own.
+                   
+                   The response lists every entry with its status: `IMPORTED`, `DUPLICATE` (content 
+                   imported before), `SKIPPED` (unsupported file type) or `FAILED` (with the error). 
+                   A failing entry does not affect the others.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "At least one entry was imported"),
+        @ApiResponse(responseCode = "200", description = "Archive processed; no entry was imported"),
+        @ApiResponse(responseCode = "400", description = "Invalid or unreadable archive"),
+        @ApiResponse(responseCode = "404", description = "Parse template not found"),
+        @ApiResponse(responseCode = "415", description = "Not a zip or tar.gz archive"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ArchiveImportResultDto> uploadArchive(
+            @Parameter(description = "Zip or tar.gz archive of lost items files", required = true)
+            @RequestParam("file") MultipartFile file,
+            
+            @Parameter(description = "How parsed records are stored: APPEND or MERGE", example = "APPEND")
+            @RequestParam(value = "mode", defaultValue = "APPEND") ImportMode mode,
+            
+            @Parameter(description = "Name of the parse template for PDF and text entries; built-in layout if omitted")
+            @RequestParam(value = "template", required = false) String template) 
+            throws UnsupportedFileTypeException, FileParsingException, ParseTemplateNotFoundException {
         
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        log.info("Admin archive upload request: {} (size: {} bytes, mode: {}, template: {})", 
+                file.getOriginalFilename(), file.getSize(), mode, template);
+        
+        RecordTemplate recordTemplate = parseTemplateService.getRecordTemplate(template);
+        ArchiveImportResultDto result = archiveImportService.importArchive(file, mode, recordTemplate);
+        HttpStatus status = result.getImportedCount() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return new ResponseEntity<>(result, status);
+    }
+    
+    @PostMapping(value = "/upload/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Upload several lost items files at once", 
+               description = """
+                   Upload any number of files (repeated `files` part) in one request. Files are parsed in 
+                   parallel and each is stored as its own import.
+                   
+                   ## Transaction scope
+                   - `PER_FILE` (default) - every file is committed on its own; failing files are reported 
+                     and the rest are stored
+                   - `SINGLE` - all files are committed in one transaction; if any file fails, nothing is 
+                     stored and the other files are reported as `NOT_STORED`; if storing fails, the 
+                     transaction is rolled back and every file is reported as `FAILED` with the reason
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "At least one file was imported"),
+        @ApiResponse(responseCode = "200", description = "All files had been imported before; nothing was changed"),
+        @ApiResponse(responseCode = "400", description = "No file could be imported; see the per-file errors"),
+        @ApiResponse(responseCode = "404", description = "Parse template not found"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<MultiFileImportResultDto> uploadFiles(
+            @Parameter(description = "Files containing lost item records", required = true)
+            @RequestParam("files") List<MultipartFile> files,
+            
+            @Parameter(description = "How parsed records are stored: APPEND or MERGE", example = "APPEND")
+            @RequestParam(value = "mode", defaultValue = "APPEND") ImportMode mode,
+            
+            @Parameter(description = "PER_FILE or SINGLE", example = "PER_FILE")
+            @RequestParam(value = "transaction", defaultValue = "PER_FILE") ImportTransactionScope transaction,
+            
+            @Parameter(description = "Name of the parse template for PDF and text files; built-in layout if omitted")
+            @RequestParam(value = "template", required = false) String template) 
+            throws FileParsingException, ParseTemplateNotFoundException {
+        
+        log.info("Admin multi-file upload request: {} files (mode: {}, transaction: {}, template: {})", 
+                files.size(), mode, transaction, template);
+        
+        RecordTemplate recordTemplate = parseTemplateService.getRecordTemplate(template);
+        MultiFileImportResultDto result = multiFileImportService.importFiles(files, mode, transaction, recordTemplate);
+        HttpStatus status;
+        if (result.getImportedCount() > 0) {
+            status = HttpStatus.CREATED;
+        } else if (result.getFailedCount() > 0) {
+            status = HttpStatus.BAD_REQUEST;
+        } else {
+            status = HttpStatus.OK;
+        }
+        return new ResponseEntity<>(result, status);
+    }
+    
+    @PostMapping("/upload/sessions")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Start a resumable upload", 
+               description = """
+                   Start uploading a large file in chunks, for links that cannot be relied on to carry the whole 
+                   file in one request. Declare the file's name, content type and size; mode and template are the 
+                   same as for `/upload`.
+                   
+                   ## Protocol
+                   1. `POST /upload/sessions` - returns the session with its `id`
+                   2. `PUT /upload/sessions/{id}?offset=N` - send the next chunk as the raw request body 
+                      (`application/octet-stream`), starting at `receivedBytes`
+                   3. `POST /upload/sessions/{id}/complete` - once all bytes are received; the file is 
+                      imported and the response is the same as for `/upload`
+                   
+                   After an interruption, `GET /upload/sessions/{id}` and continue at `receivedBytes`. A chunk 
+                   that starts past `receivedBytes` is refused with `409` and an `Upload-Offset` header. 
+                   Sessions that receive nothing for a day are removed.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Upload session created"),
+        @ApiResponse(responseCode = "400", description = "Invalid request or file too large"),
+        @ApiResponse(responseCode = "404", description = "Parse template not found"),
+        @ApiResponse(responseCode = "415", description = "Unsupported file type"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<UploadSessionDto> createUploadSession(@Valid @RequestBody UploadSessionRequest request) 
+            throws InvalidUploadChunkException, UnsupportedFileTypeException, ParseTemplateNotFoundException, 
+                   FileParsingException {
+        log.info("Admin starting chunked upload: {} ({} bytes, mode: {}, template: {})", 
+                request.getFileName(), request.getFileSize(), request.getMode(), request.getTemplate());
+        return new ResponseEntity<>(chunkedUploadService.createSession(request), HttpStatus.CREATED);
+    }
+    
+    @GetMapping("/upload/sessions/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get a resumable upload", 
+               description = "Progress of a chunked upload; `receivedBytes` is the offset to resume at.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Upload session retrieved"),
+        @ApiResponse(responseCode = "404", description = "Upload session not found or expired"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<UploadSessionDto> getUploadSession(@PathVariable String id) 
+            throws UploadSessionNotFoundException {
+        return ResponseEntity.ok(chunkedUploadService.getSession(id));
+    }
+    
+    @PutMapping(value = "/upload/sessions/{id}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Upload a chunk", 
+               description = """
+                   Write the request body into the file at `offset`. The offset may repeat bytes that were 
+                   already received (e.g. resending a chunk whose response was lost) but must not be past 
+                   `receivedBytes`.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Chunk stored; the session shows the new offset"),
+        @ApiResponse(responseCode = "400", description = "Chunk too large or past the declared file size"),
+        @ApiResponse(responseCode = "404", description = "Upload session not found or expired"),
+        @ApiResponse(responseCode = "409", description = "Offset does not match the received bytes, or upload is being completed"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<UploadSessionDto> uploadChunk(
+            @PathVariable String id,
+            
+            @Parameter(description = "Position of the chunk in the file", required = true, example = "0")
+            @RequestParam("offset") long offset,
+            
+            InputStream body) 
+            throws UploadSessionNotFoundException, UploadOffsetConflictException, InvalidUploadChunkException, 
+                   FileParsingException {
+        return ResponseEntity.ok(chunkedUploadService.writeChunk(id, offset, body));
+    }
+    
+    @PostMapping("/upload/sessions/{id}/complete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Complete a resumable upload", 
+               description = """
+                   Import the fully received file. The response is the same as for `/upload`. If the import 
+                   fails, the session stays open so that completion can be retried.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "File processed successfully"),
+        @ApiResponse(responseCode = "200", description = "Identical file was already imported; nothing was changed"),
+        @ApiResponse(responseCode = "400", description = "Invalid file or parsing error"),
+        @ApiResponse(responseCode = "404", description = "Upload session or parse template not found"),
+        @ApiResponse(responseCode = "409", description = "Not all bytes have been received yet"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<Map<String, Object>> completeUploadSession(@PathVariable String id) 
+            throws UploadSessionNotFoundException, UploadOffsetConflictException, UnsupportedFileTypeException, 
+                   FileParsingException, ParseTemplateNotFoundException {
+        log.info("Admin completing chunked upload {}", id);
+        return importSummary(chunkedUploadService.completeSession(id));
+    }
+    
+    @DeleteMapping("/upload/sessions/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Abort a resumable upload")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Upload session removed"),
+        @ApiResponse(responseCode = "404", description = "Upload session not found or expired"),
+        @ApiResponse(responseCode = "409", description = "Upload is being completed"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<Void> abortUploadSession(@PathVariable String id) 
+            throws UploadSessionNotFoundException, UploadOffsetConflictException {
+        log.info("Admin aborting chunked upload {}", id);
+        chunkedUploadService.abortSession(id);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @GetMapping("/imports")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List imports", 
+               description = """
+                   Uploaded files with their record counts, newest first. `currentItemCount` is the number of 
+                   items created by the import that are still attributed to it.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Imports retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<Page<ImportBatchDto>> getImports(
+            @Parameter(hidden = true) 
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            
+            @Parameter(
+                name = "page",
+                description = "Page number (0-based)",
+                example = "0"
+            ) @RequestParam(defaultValue = "0") int page,
+            
+            @Parameter(
+                name = "size", 
+                description = "Number of imports per page",
+                example = "20"
+            ) @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(importBatchService.getImports(pageable));
+    }
+    
+    @GetMapping("/imports/{id}/items")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get the items of an import", 
+               description = "Items created by the import, in the order they were stored. Records that a merge import " 
+                       + "added to existing items are not listed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Items retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Sort not supported; items can only be sorted by id"),
+        @ApiResponse(responseCode = "404", description = "Import not found"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<Page<LostItemDto>> getImportItems(
+            @PathVariable Long id,
+            
+            @Parameter(hidden = true) @PageableDefault(size = 50, sort = "id") Pageable pageable,
+            
+            @Parameter(
+                name = "page",
+                description = "Page number (0-based)",
+                example = "0"
+            ) @RequestParam(defaultValue = "0") int page,
+            
+            @Parameter(
+                name = "size", 
+                description = "Number of items per page",
+                example = "50"
+            ) @RequestParam(defaultValue = "50") int size,
+            
+            @Parameter(description = "Include the item descriptions")
+            @RequestParam(defaultValue = "false") boolean includeDescription) 
+            throws ImportNotFoundException, InvalidSortException {
+        return ResponseEntity.ok(lostItemService.getImportItems(id, pageable, includeDescription));
+    }
+    
+    @PostMapping("/imports/{id}/rollback")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Roll back an import", 
+               description = """
+                   Undo an upload. Items created by the import are deleted. Items that already have claims are 
+                   kept for the claims, but their unclaimed stock is withdrawn. Quantities that a merge import 
+                   added to existing items are taken back as far as they have not been claimed. 
+                   The import record is removed, so the corrected file can be uploaded again.
+                   
+                   Refused with `409` while a later merge import has added to items of this import; 
+                   roll that one back first.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import rolled back"),
+        @ApiResponse(responseCode = "404", description = "Import not found"),
+        @ApiResponse(responseCode = "409", description = "A later import merged into items of this import"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ImportRollbackResultDto> rollbackImport(@PathVariable Long id) 
+            throws ImportNotFoundException, ImportRollbackConflictException {
+        log.info("Admin rolling back import {}", id);
+        return ResponseEntity.ok(importBatchService.rollbackImport(id));
+    }
+    
+    @GetMapping("/parse-templates")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List parse templates")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Parse templates retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<List<ParseTemplateDto>> getParseTemplates() {
+        return ResponseEntity.ok(parseTemplateService.getAllTemplates());
+    }
+    
+    @PostMapping("/parse-templates")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create a parse template", 
+               description = """
+                   Define the key-value layout of a partner's PDF or text reports, e.g. labels 
+                   `Article` / `Count` / `Found in` with separator `=`. Item name, quantity and place labels 
+                   are required; description and date labels are optional. Labels are matched ignoring case 
+                   and the whitespace between their words, and may only contain printable ASCII. A record 
+                   starts at its item name label. Dates are read with `datePattern` (default `yyyy-MM-dd`).
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Parse template created"),
+        @ApiResponse(responseCode = "400", description = "Invalid or ambiguous template, or name already in use"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ParseTemplateDto> createParseTemplate(@Valid @RequestBody ParseTemplateRequest request) 
+            throws InvalidParseTemplateException {
+        log.info("Admin creating parse template: {}", request.getName());
+        return new ResponseEntity<>(parseTemplateService.createTemplate(request), HttpStatus.CREATED);
+    }
+    
+    @PutMapping("/parse-templates/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Update a parse template")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Parse template updated"),
+        @ApiResponse(responseCode = "400", description = "Invalid or ambiguous template, or name already in use"),
+        @ApiResponse(responseCode = "404", description = "Parse template not found"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ParseTemplateDto> updateParseTemplate(@PathVariable Long id, 
+                                                                @Valid @RequestBody ParseTemplateRequest request) 
+            throws ParseTemplateNotFoundException, InvalidParseTemplateException {
+        log.info("Admin updating parse template {}: {}", id, request.getName());
+        return ResponseEntity.ok(parseTemplateService.updateTemplate(id, request));
+    }
+    
+    @DeleteMapping("/parse-templates/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Delete a parse template")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Parse template deleted"),
+        @ApiResponse(responseCode = "404", description = "Parse template not found"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<Void> deleteParseTemplate(@PathVariable Long id) throws ParseTemplateNotFoundException {
+        log.info("Admin deleting parse template {}", id);
+        parseTemplateService.deleteTemplate(id);
+        return ResponseEntity.noContent().build();
     }
     
     @GetMapping("/claims")
@@ -73,21 +490,30 @@ public class AdminController {
           description = """
               Retrieve all claims with user and item information.
               
+              ## Filtering
+              - `from`, `to` - Claim dates (ISO, e.g. `2026-09-01`), both days included; either may be left out. 
+                Claims are partitioned by month of claim date, so a date range only reads the months it covers.
+              - `status` - Only claims with this status
+              
+              Notes are stored apart from the claims and only returned with `includeNotes=true`.
+              
               ## Sorting
-              You can sort by the following fields:
+              Only sorts that an index returns in order are accepted, all in one direction:
               - `id` - Claim ID
               - `claimDate` - When the claim was made
-              - `claimedQuantity` - Number of items claimed
-              - `status` - Claim status (PENDING, APPROVED, REJECTED, FULFILLED)
-              - `notes` - Additional notes
+              - `status` - Claim status (PENDING, APPROVED, REJECTED, FULFILLED), optionally followed by `claimDate`
+              
+              Other sorts are rejected with 400. The claim ID is added as the last sort, so pages are 
+              stable. At most 100 claims are returned per page.
               
               ## Examples
               - Sort by claim date (newest first): `sort=claimDate,desc`
               - Sort by status: `sort=status`
-              - Multiple sorts: `sort=status,asc&sort=claimDate,desc`
+              - Multiple sorts: `sort=status,desc&sort=claimDate,desc`
               """)
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Claims retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Sort not supported"),
         @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
     })
     public ResponseEntity<Page<ClaimDto>> getAllClaims(
@@ -112,13 +538,145 @@ public class AdminController {
                     Direction can be 'asc' or 'desc'. Default is 'asc'.
                     Multiple sort criteria are supported.
                     
-                    Valid sort fields: id, claimDate, claimedQuantity, status, notes
+                    Valid sorts: id, claimDate, status[,claimDate]
                     """,
                 example = "claimDate,desc"
-            ) @RequestParam(required = false) String[] sort) {
+            ) @RequestParam(required = false) String[] sort,
+            
+            @Parameter(description = "Earliest claim date, included", example = "2026-09-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            
+            @Parameter(description = "Latest claim date, included", example = "2026-09-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            
+            @Parameter(description = "Claim status") @RequestParam(required = false) ClaimStatus status,
+            
+            @Parameter(description = "Include the claim notes")
+            @RequestParam(defaultValue = "false") boolean includeNotes) throws InvalidSortException {
         
-        log.debug("Admin retrieving all claims with pagination: {}", pageable);
-        Page<ClaimDto> claims = claimService.getAllClaims(pageable);
+        log.debug("Admin retrieving claims (status {}, from {} to {}) with pagination: {}", status, from, to, pageable);
+        Page<ClaimDto> claims = claimService.getClaims(status, from, to, includeNotes, pageable);
         return ResponseEntity.ok(claims);
     }
+    
+    @PutMapping("/claims/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Change the status of claims", 
+               description = """
+                   Approve, reject or fulfil up to 1000 claims at once, in one transaction.
+                   
+                   Allowed transitions: `PENDING` to `APPROVED` or `REJECTED`, `APPROVED` to `FULFILLED` or 
+                   `REJECTED`. Rejected and fulfilled claims are final. Each claim is reported with its outcome 
+                   (`TRANSITIONED`, `UNCHANGED`, `INVALID_TRANSITION` or `NOT_FOUND`); claims that cannot 
+                   change do not stop the others.
+                   
+                   The quantity of a rejected claim goes back to its item, which becomes available again.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Claims processed; see the outcome of each claim"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<ClaimTransitionResultDto> transitionClaims(@Valid @RequestBody ClaimTransitionRequest request) {
+        log.info("Admin changing {} claims to {}", request.getClaimIds().size(), request.getStatus());
+        return ResponseEntity.ok(claimService.transitionClaims(request));
+    }
+    
+    @GetMapping("/archive/claims")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List archived claims", 
+               description = """
+                   Fulfilled and rejected claims that were moved to the archive, newest first. Claims are 
+                   archived once they are older than `app.archive.min-age`.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Archived claims retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<Page<ClaimDto>> getArchivedClaims(
+            @Parameter(hidden = true) @PageableDefault(size = 20) Pageable pageable,
+            
+            @Parameter(
+                name = "page",
+                description = "Page number (0-based)",
+                example = "0"
+            ) @RequestParam(defaultValue = "0") int page,
+            
+            @Parameter(
+                name = "size", 
+                description = "Number of claims per page",
+                example = "20"
+            ) @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(archiveService.getArchivedClaims(pageable));
+    }
+    
+    @GetMapping("/archive/items")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List archived items", 
+               description = """
+                   Items that ran out and were moved to the archive once they had no claims left outside it, 
+                   most recently created first.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Archived items retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<Page<LostItemDto>> getArchivedItems(
+            @Parameter(hidden = true) @PageableDefault(size = 20) Pageable pageable,
+            
+            @Parameter(
+                name = "page",
+                description = "Page number (0-based)",
+                example = "0"
+            ) @RequestParam(defaultValue = "0") int page,
+            
+            @Parameter(
+                name = "size", 
+                description = "Number of items per page",
+                example = "20"
+            ) @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(archiveService.getArchivedItems(pageable));
+    }
+    
+    @GetMapping("/availability")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get item availability", 
+               description = """
+                   Number of available items (remaining quantity above zero), in total and per place, from 
+                   counters that are updated with every upload, claim and rollback. Cheap enough to poll.
+                   """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Availability retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<AvailabilityDto> getAvailability() {
+        return ResponseEntity.ok(availabilityCounterService.getAvailability());
+    }
+    
+    private static ResponseEntity<Map<String, Object>> importSummary(ImportResultDto result) {
+        if (result.isDuplicate()) {
+            Map<String, Object> response = Map.of(
+                "message", "File was already imported",
+                "duplicate", true,
+                "importId", result.getImportId(),
+                "itemsCount", result.getItemsCount(),
+                "importedAt", result.getImportedAt()
+            );
+            return ResponseEntity.ok(response);
+        }
+        
+        Map<String, Object> response = Map.of(
+            "message", "File uploaded and processed successfully",
+            "duplicate", false,
+            "importId", result.getImportId(),
+            "mode", result.getMode(),
+            "itemsCount", result.getItemsCount(),
+            "createdCount", result.getCreatedCount(),
+            "mergedCount", result.getMergedCount(),
+            "rejectedCount", result.getRejectedCount(),
+            "durationMs", result.getDurationMs()
+        );
+        
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
 } 
\ No newline at end of file
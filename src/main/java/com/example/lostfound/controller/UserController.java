@@ -3,6 +3,7 @@ package com.example.lostfound.controller;
 import com.example.lostfound.dto.ClaimDto;
 import com.example.lostfound.dto.ClaimRequest;
 import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.dto.SearchMode;
 import com.example.lostfound.exception.*;
 import com.example.lostfound.service.ClaimService;
 import com.example.lostfound.service.LostItemService;
@@ -40,22 +41,27 @@ public class UserController {
                   Get paginated list of available lost items (items with remaining quantity > 0).
                   
                   ## Sorting
-                  You can sort by the following fields:
+                  Only sorts that an index returns in order are accepted, all in one direction:
                   - `id` - Item ID
-                  - `itemName` - Name of the item
-                  - `quantity` - Original quantity
                   - `remainingQuantity` - Remaining quantity available
-                  - `place` - Location where item was found
                   - `createdAt` - When item was added to system
-                  - `updatedAt` - When item was last updated
+                  - `itemName` - Name of the item
+                  - `place` - Location where item was found, optionally followed by `itemName`
+                  
+                  Other sorts are rejected with 400. The item ID is added as the last sort, so pages are 
+                  stable. At most 100 items are returned per page.
+                  
+                  Descriptions are stored apart from the items. They are only returned with
+                  `includeDescription=true`.
                   
                   ## Examples
                   - Sort by newest items: `sort=createdAt,desc`
                   - Sort by item name: `sort=itemName`
-                  - Sort by location: `sort=place`
+                  - Sort by location, then name: `sort=place&sort=itemName`
                   """)
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Items retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Sort not supported"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<Page<LostItemDto>> getAvailableItems(
@@ -80,16 +86,80 @@ public class UserController {
                     Direction can be 'asc' or 'desc'. Default is 'asc'.
                     Multiple sort criteria are supported.
                     
-                    Valid sort fields: id, itemName, quantity, remainingQuantity, place, createdAt, updatedAt
+                    Valid sorts: id, remainingQuantity, createdAt, itemName, place[,itemName]
                     """,
                 example = "createdAt,desc"
-            ) @RequestParam(required = false) String[] sort) {
+            ) @RequestParam(required = false) String[] sort,
+            
+            @Parameter(description = "Include the item descriptions")
+            @RequestParam(defaultValue = "false") boolean includeDescription) throws InvalidSortException {
         
         log.debug("User browsing available items with pagination: {}", pageable);
-        Page<LostItemDto> items = lostItemService.getAvailableItems(pageable);
+        Page<LostItemDto> items = lostItemService.getAvailableItems(pageable, includeDescription);
         return ResponseEntity.ok(items);
     }
     
+    @GetMapping("/items/search")
+    @Operation(summary = "Search available lost items", 
+              description = """
+                  Available items by item name and place; either may be left out. Case, accents and extra 
+                  whitespace are ignored, so `cafe` finds `Café`.
+                  
+                  ## Modes
+                  - `PREFIX` (default) - The name or place starts with the text, e.g. `umbr` finds `Umbrella`. 
+                    Read from an index.
+                  - `SUBSTRING` - The text occurs anywhere, e.g. `brella` or `umbrella` in `Black umbrella`. 
+                    Slower, as every available item is read.
+                  
+                  ## Sorting
+                  Only sorts that a search index returns in order are accepted:
+                  - `id` - Item ID
+                  - `itemNameSearch` - Item name as searched: lower-cased, without accents
+                  - `placeSearch` - Place as searched
+                  
+                  Other sorts are rejected with 400. The item ID is added as the last sort, so pages are 
+                  stable. At most 100 items are returned per page.
+                  """)
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Items retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Sort not supported"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<Page<LostItemDto>> searchItems(
+            @Parameter(description = "Item name, or its beginning in PREFIX mode", example = "umbr")
+            @RequestParam(required = false) String itemName,
+            
+            @Parameter(description = "Place, or its beginning in PREFIX mode", example = "lib")
+            @RequestParam(required = false) String place,
+            
+            @Parameter(description = "How the name and place are matched")
+            @RequestParam(defaultValue = "PREFIX") SearchMode mode,
+            
+            @Parameter(hidden = true) @PageableDefault(size = 20) Pageable pageable,
+            
+            @Parameter(
+                name = "sort",
+                description = "Sort criteria in format: property[,direction]. Valid sorts: id, itemNameSearch, placeSearch",
+                example = "itemNameSearch"
+            ) @RequestParam(required = false) String[] sort,
+            
+            @Parameter(description = "Include the item descriptions")
+            @RequestParam(defaultValue = "false") boolean includeDescription) throws InvalidSortException {
+        
+        return ResponseEntity.ok(lostItemService.searchAvailableItems(itemName, place, mode, pageable, includeDescription));
+    }
+    
+    @GetMapping("/items/{id}")
+    @Operation(summary = "Get a lost item", description = "One lost item, with its description")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Item retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "404", description = "Item not found")
+    })
+    public ResponseEntity<LostItemDto> getItem(@PathVariable Long id) throws LostItemNotFoundException {
+        return ResponseEntity.ok(lostItemService.getItem(id));
+    }
+    
     @PostMapping("/claims")
     @Operation(summary = "Create a claim", description = "Claim a quantity of a lost item")
     @ApiResponses(value = {
@@ -0,0 +1,24 @@
+package com.example.lostfound.dto;
+
+import com.example.lostfound.entity.ImportMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveImportResultDto {
+    
+    private String archiveName;
+    private ImportMode mode;
+    private int entriesCount;
+    private int importedCount; // entries stored as new imports
+    private int failedCount;
+    private int itemsCount; // records parsed from the imported entries
+    private List<FileImportResultDto> entries; // in archive order
+}
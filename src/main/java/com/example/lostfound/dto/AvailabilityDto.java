@@ -0,0 +1,27 @@
+package com.example.lostfound.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityDto {
+    
+    private long availableItems; // items with remaining quantity
+    private List<PlaceAvailability> places; // by place, places without available items left out
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlaceAvailability {
+        private String place;
+        private long availableItems;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.lostfound.dto;
+
+import com.example.lostfound.entity.ClaimStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimTransitionRequest {
+    
+    @NotEmpty(message = "At least one claim id is required")
+    @Size(max = 1000, message = "At most 1000 claims can be changed at once")
+    private List<@NotNull(message = "Claim ids must not be null") Long> claimIds;
+    
+    @NotNull(message = "Status is required")
+    private ClaimStatus status;
+}
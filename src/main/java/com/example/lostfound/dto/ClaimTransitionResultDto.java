@@ -0,0 +1,38 @@
+package com.example.lostfound.dto;
+
+import com.example.lostfound.entity.ClaimStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimTransitionResultDto {
+    
+    private ClaimStatus status; // requested status
+    private int transitionedCount;
+    private int releasedQuantity; // quantity of rejected claims returned to their items
+    private List<ClaimOutcome> claims; // one per requested claim id, in request order
+    
+    public enum Outcome {
+        TRANSITIONED,
+        UNCHANGED, // already had the status
+        INVALID_TRANSITION, // the status cannot change to the requested one
+        NOT_FOUND
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClaimOutcome {
+        private Long claimId;
+        private ClaimStatus previousStatus; // null if not found
+        private Outcome outcome;
+    }
+}
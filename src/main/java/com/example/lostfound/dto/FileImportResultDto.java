@@ -0,0 +1,32 @@
+package com.example.lostfound.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome for one file of a multi-file or archive upload
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileImportResultDto {
+    
+    public enum Status {
+        IMPORTED,   // parsed and stored as a new import
+        DUPLICATE,  // same content was imported before (or earlier in the same upload)
+        SKIPPED,    // not a supported report file (archive entries only)
+        FAILED,     // could not be parsed or stored; see error
+        NOT_STORED  // parsed, but not stored because another file of a single-transaction upload failed
+    }
+    
+    private String fileName;
+    private Status status;
+    private Long importId;
+    private int itemsCount;
+    private int createdCount;
+    private int mergedCount;
+    private String error;
+}
@@ -0,0 +1,28 @@
+package com.example.lostfound.dto;
+
+import com.example.lostfound.entity.ImportMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportBatchDto {
+    
+    private Long id;
+    private String fileName;
+    private String contentType;
+    private Long fileSize;
+    private ImportMode mode;
+    private int itemsCount; // records parsed from the file
+    private int createdCount; // new items inserted
+    private int mergedCount; // existing items whose quantity was increased
+    private int rejectedCount; // invalid records skipped while parsing
+    private long currentItemCount; // created items still attributed to the import
+    private LocalDateTime importedAt;
+}
@@ -0,0 +1,28 @@
+package com.example.lostfound.dto;
+
+import com.example.lostfound.entity.ImportMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDto {
+    
+    private Long importId;
+    private String fileName;
+    private String contentHash;
+    private ImportMode mode;
+    private int itemsCount; // records parsed from the file
+    private int createdCount; // new items inserted
+    private int mergedCount; // existing items whose quantity was increased
+    private int rejectedCount; // invalid records skipped while parsing
+    private long durationMs; // time taken to parse and store the file
+    private LocalDateTime importedAt;
+    private boolean duplicate; // true if the same content was imported before and nothing was parsed
+}
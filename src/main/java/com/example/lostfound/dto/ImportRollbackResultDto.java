@@ -0,0 +1,19 @@
+package com.example.lostfound.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRollbackResultDto {
+    
+    private Long importId;
+    private String fileName;
+    private int deletedCount; // created items removed from the catalog
+    private int withdrawnCount; // created items kept because they have claims; their unclaimed stock was removed
+    private int revertedCount; // existing items whose merged quantity was taken back
+}
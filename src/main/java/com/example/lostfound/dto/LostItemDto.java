@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
@@ -19,6 +20,7 @@ public class LostItemDto {
     private Integer remainingQuantity;
     private String place;
     private String description;
+    private LocalDate foundDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean isAvailable;
@@ -0,0 +1,25 @@
+package com.example.lostfound.dto;
+
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.service.ImportTransactionScope;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiFileImportResultDto {
+    
+    private ImportMode mode;
+    private ImportTransactionScope transactionScope;
+    private int filesCount;
+    private int importedCount; // files stored as new imports
+    private int failedCount;
+    private int itemsCount; // records parsed from the imported files
+    private List<FileImportResultDto> files; // in upload order
+}
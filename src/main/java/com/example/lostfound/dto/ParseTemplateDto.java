@@ -0,0 +1,27 @@
+package com.example.lostfound.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParseTemplateDto {
+    
+    private Long id;
+    private String name;
+    private String itemNameLabel;
+    private String quantityLabel;
+    private String placeLabel;
+    private String descriptionLabel;
+    private String dateLabel;
+    private String datePattern;
+    private String separator;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.example.lostfound.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParseTemplateRequest {
+    
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    private String name;
+    
+    @NotBlank(message = "Item name label is required")
+    @Size(max = 100, message = "Labels must not exceed 100 characters")
+    private String itemNameLabel;
+    
+    @NotBlank(message = "Quantity label is required")
+    @Size(max = 100, message = "Labels must not exceed 100 characters")
+    private String quantityLabel;
+    
+    @NotBlank(message = "Place label is required")
+    @Size(max = 100, message = "Labels must not exceed 100 characters")
+    private String placeLabel;
+    
+    @Size(max = 100, message = "Labels must not exceed 100 characters")
+    private String descriptionLabel;
+    
+    @Size(max = 100, message = "Labels must not exceed 100 characters")
+    private String dateLabel;
+    
+    @Size(max = 50, message = "Date pattern must not exceed 50 characters")
+    private String datePattern;
+    
+    @Size(max = 10, message = "Separator must not exceed 10 characters")
+    @Builder.Default
+    private String separator = ":";
+}
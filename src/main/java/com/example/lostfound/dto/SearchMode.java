@@ -0,0 +1,6 @@
+package com.example.lostfound.dto;
+
+public enum SearchMode {
+    PREFIX,   // name or place starts with the search text, read from the search indexes
+    SUBSTRING // search text anywhere in the name or place, every available item is read
+}
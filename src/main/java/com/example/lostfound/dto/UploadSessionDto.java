@@ -0,0 +1,28 @@
+package com.example.lostfound.dto;
+
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.entity.UploadSessionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionDto {
+    
+    private String id;
+    private String fileName;
+    private String contentType;
+    private long fileSize;
+    private long receivedBytes; // offset of the next chunk
+    private ImportMode mode;
+    private String template;
+    private UploadSessionStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt; // if no chunk arrives before then
+}
@@ -0,0 +1,35 @@
+package com.example.lostfound.dto;
+
+import com.example.lostfound.entity.ImportMode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionRequest {
+    
+    @NotBlank(message = "File name is required")
+    @Size(max = 255, message = "File name must not exceed 255 characters")
+    private String fileName;
+    
+    @Size(max = 255, message = "Content type must not exceed 255 characters")
+    private String contentType;
+    
+    @NotNull(message = "File size is required")
+    @Positive(message = "File size must be positive")
+    private Long fileSize;
+    
+    @Builder.Default
+    private ImportMode mode = ImportMode.APPEND;
+    
+    @Size(max = 100, message = "Template name must not exceed 100 characters")
+    private String template;
+}
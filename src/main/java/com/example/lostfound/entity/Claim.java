@@ -31,7 +31,8 @@ public class Claim {
     @Column(name = "claimed_quantity", nullable = false)
     private Integer claimedQuantity;
     
-    @Column(name = "claim_date", nullable = false)
+    // Partitioning column of claims (MySQL); never changed, so a claim stays in its partition
+    @Column(name = "claim_date", nullable = false, updatable = false)
     private LocalDateTime claimDate;
     
     @Enumerated(EnumType.STRING)
@@ -39,8 +40,8 @@ public class Claim {
     @Builder.Default
     private ClaimStatus status = ClaimStatus.PENDING;
     
-    @Column(columnDefinition = "TEXT")
-    private String notes;
+    @Transient
+    private String notes; // stored in claim_notes (ClaimNotesRepository), not loaded with the claim
     
     @PrePersist
     protected void onCreate() {
@@ -1,8 +1,43 @@
 package com.example.lostfound.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ClaimStatus {
     PENDING,
     APPROVED,
     REJECTED,
-    FULFILLED
-} 
\ No newline at end of file
+    FULFILLED;
+    
+    /**
+     * Allowed status changes: a pending claim is approved or rejected, an approved one fulfilled or still
+     * rejected. Rejected and fulfilled claims are final.
+     */
+    public boolean canTransitionTo(ClaimStatus target) {
+        return switch (this) {
+            case PENDING -> target == APPROVED || target == REJECTED;
+            case APPROVED -> target == FULFILLED || target == REJECTED;
+            case REJECTED, FULFILLED -> false;
+        };
+    }
+    
+    /**
+     * Whether the claimed quantity is held back from the item's remaining quantity
+     */
+    public boolean holdsQuantity() {
+        return this == PENDING || this == APPROVED;
+    }
+    
+    /**
+     * Statuses from which a claim may change to the given one
+     */
+    public static Set<ClaimStatus> sourcesOf(ClaimStatus target) {
+        Set<ClaimStatus> sources = EnumSet.noneOf(ClaimStatus.class);
+        for (ClaimStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One imported upload, identified by the SHA-256 of its content.
+ * Items created by the import reference it through {@link LostItem#getImportBatchId()}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "import_batches")
+public class ImportBatch {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+    
+    @Column(name = "file_name")
+    private String fileName;
+    
+    @Column(name = "content_type")
+    private String contentType;
+    
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private ImportMode mode = ImportMode.APPEND;
+    
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount; // records parsed from the file
+    
+    @Column(name = "created_count", nullable = false)
+    private Integer createdCount; // new items inserted
+    
+    @Column(name = "merged_count", nullable = false)
+    @Builder.Default
+    private Integer mergedCount = 0; // existing items whose quantity was increased (MERGE mode)
+    
+    @Column(name = "rejected_count", nullable = false)
+    @Builder.Default
+    private Integer rejectedCount = 0; // invalid records skipped while parsing
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
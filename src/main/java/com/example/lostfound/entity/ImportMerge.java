@@ -0,0 +1,36 @@
+package com.example.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Quantity that a merge import added to an existing item. Items created by an import carry its id
+ * themselves; merged records leave no other trace, so they are recorded here for rollback.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "import_merges", indexes = {
+    @Index(name = "idx_import_merges_import_batch", columnList = "import_batch_id"),
+    @Index(name = "idx_import_merges_lost_item", columnList = "lost_item_id")
+})
+public class ImportMerge {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "import_batch_id", nullable = false)
+    private Long importBatchId;
+    
+    @Column(name = "lost_item_id", nullable = false)
+    private Long lostItemId;
+    
+    @Column(nullable = false)
+    private Integer quantity;
+}
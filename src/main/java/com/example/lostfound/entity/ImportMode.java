@@ -0,0 +1,6 @@
+package com.example.lostfound.entity;
+
+public enum ImportMode {
+    APPEND, // every parsed record becomes a new item
+    MERGE   // records matching an existing item by name and place add to its quantity
+}
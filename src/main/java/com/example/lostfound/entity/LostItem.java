@@ -5,17 +5,34 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "lost_items")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "lost_items", indexes = {
+    @Index(name = "idx_lost_items_import_batch", columnList = "import_batch_id"),
+    @Index(name = "idx_lost_items_merge_key", columnList = "merge_key")
+})
 public class LostItem {
     
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,8 +49,11 @@ public class LostItem {
     @Column(nullable = false)
     private String place;
     
-    @Column(columnDefinition = "TEXT")
-    private String description;
+    @Transient
+    private String description; // stored in lost_item_details (LostItemDetailsRepository), not loaded with the item
+    
+    @Column(name = "found_date")
+    private LocalDate foundDate; // Only known for items imported with a template that has a date field
     
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -41,6 +61,18 @@ public class LostItem {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Column(name = "import_batch_id")
+    private Long importBatchId; // ImportBatch that created this item, null for items not created by an upload
+    
+    @Column(name = "merge_key", length = 64)
+    private String mergeKey; // See mergeKeyOf, maintained on every write
+    
+    @Column(name = "item_name_search")
+    private String itemNameSearch; // searchKeyOf(itemName), maintained on every write
+    
+    @Column(name = "place_search")
+    private String placeSearch; // searchKeyOf(place), maintained on every write
+    
     @Version
     private Long version; // For optimistic locking to handle concurrency
     
@@ -51,11 +83,54 @@ public class LostItem {
         if (remainingQuantity == null) {
             remainingQuantity = quantity;
         }
+        mergeKey = mergeKeyOf(itemName, place);
+        itemNameSearch = searchKeyOf(itemName);
+        placeSearch = searchKeyOf(place);
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        mergeKey = mergeKeyOf(itemName, place);
+        itemNameSearch = searchKeyOf(itemName);
+        placeSearch = searchKeyOf(place);
+    }
+    
+    /**
+     * Identity of an item for merge-on-import: SHA-256 of the item name and place,
+     * each trimmed, lower-cased and with whitespace runs collapsed, so that
+     * "Black  Umbrella" at " library" and "black umbrella" at "Library" are the same item
+     */
+    public static String mergeKeyOf(String itemName, String place) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(normalizeForMerge(itemName).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalizeForMerge(place).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    /**
+     * Form of an item name or place that search compares with: lower-cased, accents removed, trimmed and
+     * with whitespace runs collapsed, so that "Café  Lobby" is found by "cafe lobby"
+     */
+    public static String searchKeyOf(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        String folded = Normalizer.normalize(COMBINING_MARKS.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC);
+        return folded.trim().replaceAll("\\s+", " ");
+    }
+    
+    private static String normalizeForMerge(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
     
     /**
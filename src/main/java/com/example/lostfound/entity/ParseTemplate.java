@@ -0,0 +1,70 @@
+package com.example.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Admin-defined layout of key-value reports from one partner site, selected by name on upload.
+ * Compiled into a {@link com.example.lostfound.service.parser.RecordTemplate} by ParseTemplateService.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "parse_templates")
+public class ParseTemplate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+    
+    @Column(name = "item_name_label", nullable = false, length = 100)
+    private String itemNameLabel;
+    
+    @Column(name = "quantity_label", nullable = false, length = 100)
+    private String quantityLabel;
+    
+    @Column(name = "place_label", nullable = false, length = 100)
+    private String placeLabel;
+    
+    @Column(name = "description_label", length = 100)
+    private String descriptionLabel;
+    
+    @Column(name = "date_label", length = 100)
+    private String dateLabel;
+    
+    @Column(name = "date_pattern", length = 50)
+    private String datePattern; // DateTimeFormatter pattern, defaults to yyyy-MM-dd
+    
+    @Column(name = "label_separator", nullable = false, length = 10)
+    private String separator;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Version
+    private Long version; // Also identifies the compiled form in the template cache
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
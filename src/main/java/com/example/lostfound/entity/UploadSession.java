@@ -0,0 +1,70 @@
+package com.example.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A file being uploaded in chunks. The bytes are spooled to the upload directory; the session only
+ * records how many of them have been acknowledged, so that an interrupted upload can resume from there.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "upload_sessions", indexes = {
+    @Index(name = "idx_upload_sessions_updated_at", columnList = "updated_at")
+})
+public class UploadSession {
+    
+    @Id
+    @Column(length = 36)
+    private String id; // random UUID, so that session ids cannot be guessed
+    
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+    
+    @Column(name = "content_type")
+    private String contentType;
+    
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize; // declared by the client when the session is created
+    
+    @Column(name = "received_bytes", nullable = false)
+    @Builder.Default
+    private Long receivedBytes = 0L; // contiguous bytes from the start that are on disk
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private ImportMode mode = ImportMode.APPEND;
+    
+    @Column(name = "template_name", length = 100)
+    private String templateName;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private UploadSessionStatus status = UploadSessionStatus.OPEN;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+    
+    public boolean isComplete() {
+        return receivedBytes != null && receivedBytes.equals(fileSize);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.lostfound.entity;
+
+public enum UploadSessionStatus {
+    OPEN,       // accepting chunks
+    COMPLETING  // all bytes received, being parsed and stored
+}
@@ -17,6 +17,7 @@ public class ErrorResponse {
     private LocalDateTime timestamp;
     private int status;
     private String error;
+    private String code; // machine-readable reason, where the status alone is ambiguous
     private String message;
     private String path;
     private Map<String, String> validationErrors;
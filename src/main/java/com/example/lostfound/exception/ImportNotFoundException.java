@@ -0,0 +1,8 @@
+package com.example.lostfound.exception;
+
+public class ImportNotFoundException extends Exception {
+    
+    public ImportNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.lostfound.exception;
+
+public class ImportRollbackConflictException extends Exception {
+    
+    public ImportRollbackConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.lostfound.exception;
+
+/**
+ * A parse template that cannot be compiled: missing or ambiguous labels, bad separator or date pattern
+ */
+public class InvalidParseTemplateException extends Exception {
+    
+    public InvalidParseTemplateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.lostfound.exception;
+
+public class InvalidSortException extends Exception {
+    
+    public InvalidSortException(String message) {
+        super(message);
+    }
+}
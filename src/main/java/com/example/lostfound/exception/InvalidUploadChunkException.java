@@ -0,0 +1,8 @@
+package com.example.lostfound.exception;
+
+public class InvalidUploadChunkException extends Exception {
+    
+    public InvalidUploadChunkException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.lostfound.exception;
+
+/**
+ * A parse was stopped because it used up one of its budgets (see ParseBudgetPolicy)
+ */
+public class ParseBudgetExceededException extends FileParsingException {
+    
+    public enum Limit {
+        PAGES, CHARACTERS, WALL_TIME, CPU_TIME
+    }
+    
+    private final Limit limit;
+    
+    public ParseBudgetExceededException(Limit limit, String message) {
+        super(message);
+        this.limit = limit;
+    }
+    
+    public Limit getLimit() {
+        return limit;
+    }
+}
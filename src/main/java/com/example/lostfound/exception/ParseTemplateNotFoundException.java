@@ -0,0 +1,8 @@
+package com.example.lostfound.exception;
+
+public class ParseTemplateNotFoundException extends Exception {
+    
+    public ParseTemplateNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.lostfound.exception;
+
+/**
+ * A chunk or completion request does not fit the bytes acknowledged so far; the client should resume
+ * from {@link #getReceivedBytes()}
+ */
+public class UploadOffsetConflictException extends Exception {
+    
+    private final long receivedBytes;
+    
+    public UploadOffsetConflictException(long receivedBytes, String message) {
+        super(message);
+        this.receivedBytes = receivedBytes;
+    }
+    
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+}
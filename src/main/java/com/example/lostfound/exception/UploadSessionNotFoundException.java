@@ -0,0 +1,8 @@
+package com.example.lostfound.exception;
+
+public class UploadSessionNotFoundException extends Exception {
+    
+    public UploadSessionNotFoundException(String message) {
+        super(message);
+    }
+}
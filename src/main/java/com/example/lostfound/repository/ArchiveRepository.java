@@ -0,0 +1,158 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.dto.ClaimDto;
+import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.entity.ClaimStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves depleted items and closed claims from the hot tables into lost_items_archive and claims_archive,
+ * and reads them back. Rows are moved by id range with INSERT ... SELECT and DELETE, both by the same
+ * predicate; the matching rows are locked first, so none can change, or start matching, in between.
+ * The archive tables have the columns of the hot tables, in the same order, so whole rows are copied.
+ * Plain JDBC, as the archive tables have no entities.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveRepository {
+
+    // Rejected and fulfilled claims are final; the claim_date bound also prunes the claims partitions
+    private static final String CLOSED_CLAIM = "status IN ('" + ClaimStatus.FULFILLED + "', '" + ClaimStatus.REJECTED +
+            "') AND claim_date < ?";
+    // Run out and idle, and no longer referenced by a claim in the hot table
+    private static final String DEPLETED_ITEM = "remaining_quantity = 0 AND COALESCE(updated_at, created_at) < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM claims c WHERE c.lost_item_id = lost_items.id)";
+    private static final String ID_RANGE = "id > ? AND id <= ? AND ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Last id of the next chunk of closed claims after the given id, or null if there are none
+     */
+    public Long findClosedClaimChunkEnd(long afterId, LocalDateTime closedBefore, int chunkSize) {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM (SELECT id FROM claims WHERE id > ? AND " +
+                CLOSED_CLAIM + " ORDER BY id LIMIT ?) chunk", Long.class, afterId, closedBefore, chunkSize);
+    }
+
+    /**
+     * Move the closed claims with ids in (afterId, lastId]; to be called in a transaction
+     *
+     * @return the number of claims moved
+     */
+    public int moveClosedClaims(long afterId, long lastId, LocalDateTime closedBefore) {
+        Object[] args = {afterId, lastId, closedBefore};
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM claims WHERE " + ID_RANGE + CLOSED_CLAIM + " FOR UPDATE", Long.class, args);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.update("INSERT INTO claims_archive SELECT * FROM claims WHERE " + ID_RANGE + CLOSED_CLAIM, args);
+        return jdbcTemplate.update("DELETE FROM claims WHERE " + ID_RANGE + CLOSED_CLAIM, args);
+    }
+
+    /**
+     * Last id of the next chunk of depleted items after the given id, or null if there are none
+     */
+    public Long findDepletedItemChunkEnd(long afterId, LocalDateTime idleBefore, int chunkSize) {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM (SELECT id FROM lost_items WHERE id > ? AND " +
+                DEPLETED_ITEM + " ORDER BY id LIMIT ?) chunk", Long.class, afterId, idleBefore, chunkSize);
+    }
+
+    /**
+     * Move the depleted items with ids in (afterId, lastId]; to be called in a transaction
+     *
+     * @return the ids of the items moved
+     */
+    public List<Long> moveDepletedItems(long afterId, long lastId, LocalDateTime idleBefore) {
+        Object[] args = {afterId, lastId, idleBefore};
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM lost_items WHERE " + ID_RANGE + DEPLETED_ITEM + " FOR UPDATE", Long.class, args);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.update("INSERT INTO lost_items_archive SELECT * FROM lost_items WHERE " + ID_RANGE + DEPLETED_ITEM,
+                args);
+        jdbcTemplate.update("DELETE FROM lost_items WHERE " + ID_RANGE + DEPLETED_ITEM, args);
+        return ids;
+    }
+
+    /**
+     * Archived claims, newest first, with their user, item (wherever it is kept) and notes
+     */
+    public List<ClaimDto> findArchivedClaims(long offset, int limit) {
+        return jdbcTemplate.query(
+                "SELECT c.id, c.user_id, u.name, c.lost_item_id, COALESCE(li.item_name, lia.item_name), " +
+                "COALESCE(li.place, lia.place), c.claimed_quantity, c.claim_date, c.status, n.notes " +
+                "FROM claims_archive c " +
+                "LEFT JOIN claim_notes n ON n.claim_id = c.id " +
+                "LEFT JOIN users u ON u.id = c.user_id " +
+                "LEFT JOIN lost_items li ON li.id = c.lost_item_id " +
+                "LEFT JOIN lost_items_archive lia ON lia.id = c.lost_item_id " +
+                "ORDER BY c.id DESC LIMIT ? OFFSET ?",
+                (rs, rowNum) -> ClaimDto.builder()
+                        .id(rs.getLong(1))
+                        .userId(rs.getLong(2))
+                        .userName(rs.getString(3))
+                        .lostItemId(rs.getLong(4))
+                        .itemName(rs.getString(5))
+                        .place(rs.getString(6))
+                        .claimedQuantity(rs.getInt(7))
+                        .claimDate(toLocalDateTime(rs.getTimestamp(8)))
+                        .status(ClaimStatus.valueOf(rs.getString(9)))
+                        .notes(rs.getString(10))
+                        .build(),
+                limit, offset);
+    }
+
+    public long countArchivedClaims() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM claims_archive", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Archived items with their descriptions, most recently created first; as in
+     * {@link LostItemDetailsRepository#findDescriptions}, an imported item without one is described by its file
+     */
+    public List<LostItemDto> findArchivedItems(long offset, int limit) {
+        return jdbcTemplate.query("SELECT lia.*, COALESCE(d.description, " +
+                "CASE WHEN b.file_name IS NOT NULL THEN CONCAT('Imported from ', b.file_name) END) AS description " +
+                "FROM lost_items_archive lia " +
+                "LEFT JOIN lost_item_details d ON d.lost_item_id = lia.id " +
+                "LEFT JOIN import_batches b ON b.id = lia.import_batch_id ORDER BY lia.id DESC LIMIT ? OFFSET ?",
+                (rs, rowNum) -> toItemDto(rs), limit, offset);
+    }
+
+    public long countArchivedItems() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lost_items_archive", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static LostItemDto toItemDto(ResultSet rs) throws SQLException {
+        Date foundDate = rs.getDate("found_date");
+        return LostItemDto.builder()
+                .id(rs.getLong("id"))
+                .itemName(rs.getString("item_name"))
+                .quantity(rs.getInt("quantity"))
+                .remainingQuantity(rs.getInt("remaining_quantity"))
+                .place(rs.getString("place"))
+                .description(rs.getString("description"))
+                .foundDate(foundDate != null ? foundDate.toLocalDate() : null)
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .isAvailable(false)
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.lostfound.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Rows of availability_counters: the number of available items (remaining quantity above zero), in total
+ * and per place, each split over striped rows that are incremented independently and summed on read.
+ * <p>
+ * Plain JDBC rather than JPA: a first increment of a stripe inserts it, and when a concurrent transaction
+ * inserted it first the duplicate key must only fail that statement, not mark the caller's transaction
+ * for rollback.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AvailabilityCounterRepository {
+
+    public static final String SCOPE_TOTAL = "TOTAL";
+    public static final String SCOPE_PLACE = "PLACE";
+    private static final String NO_PLACE = ""; // place of the total's rows
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void incrementTotal(int stripe, long delta) {
+        increment(SCOPE_TOTAL, NO_PLACE, stripe, delta);
+    }
+
+    public void incrementPlace(String place, int stripe, long delta) {
+        increment(SCOPE_PLACE, place, stripe, delta);
+    }
+
+    public long sumTotal() {
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT SUM(available_items) FROM availability_counters WHERE scope = ?", Long.class, SCOPE_TOTAL);
+        return total != null ? total : 0;
+    }
+
+    public List<PlaceCounter> sumByPlace() {
+        return jdbcTemplate.query(
+                "SELECT place, SUM(available_items) FROM availability_counters WHERE scope = ? " +
+                "GROUP BY place ORDER BY place",
+                (rs, rowNum) -> new PlaceCounter(rs.getString(1), rs.getLong(2)), SCOPE_PLACE);
+    }
+
+    /**
+     * Stripes at zero carry nothing; they are recreated by the next increment
+     */
+    public int deleteEmptyStripes() {
+        return jdbcTemplate.update("DELETE FROM availability_counters WHERE available_items = 0");
+    }
+
+    private void increment(String scope, String place, int stripe, long delta) {
+        if (update(scope, place, stripe, delta) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO availability_counters (scope, place, stripe, available_items) " +
+                    "VALUES (?, ?, ?, ?)", scope, place, stripe, delta);
+        } catch (DuplicateKeyException e) {
+            update(scope, place, stripe, delta); // inserted concurrently, now it can be updated
+        }
+    }
+
+    private int update(String scope, String place, int stripe, long delta) {
+        return jdbcTemplate.update("UPDATE availability_counters SET available_items = available_items + ? " +
+                "WHERE scope = ? AND place = ? AND stripe = ?", delta, scope, place, stripe);
+    }
+
+    public record PlaceCounter(String place, long availableItems) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.lostfound.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Claim notes, kept in claim_notes rather than in claims so that claim listings never read them, and
+ * cannot sort by them. Loaded by id, for a page that asks for them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClaimNotesRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void saveNotes(Long claimId, String notes) {
+        jdbcTemplate.update("INSERT INTO claim_notes (claim_id, notes) VALUES (?, ?)", claimId, notes);
+    }
+
+    public Map<Long, String> findNotes(Collection<Long> claimIds) {
+        Map<Long, String> notes = new HashMap<>();
+        if (claimIds.isEmpty()) {
+            return notes;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT claim_id, notes FROM claim_notes WHERE claim_id IN (:ids)",
+                new MapSqlParameterSource("ids", claimIds),
+                rs -> {
+                    notes.put(rs.getLong(1), rs.getString(2));
+                });
+        return notes;
+    }
+
+    /**
+     * Remove the notes of the claims made in {@code [from, to)}, before their partition is dropped.
+     * Archived claims are no longer in claims, so their notes are kept.
+     * @param from null for no lower bound
+     */
+    public int deleteNotesOfClaimsMadeBetween(LocalDate from, LocalDate to) {
+        String claims = "SELECT id FROM claims WHERE claim_date < ?" + (from != null ? " AND claim_date >= ?" : "");
+        return jdbcTemplate.update("DELETE FROM claim_notes WHERE claim_id IN (" + claims + ")",
+                from != null ? new Object[] {to, from} : new Object[] {to});
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.lostfound.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Range partitions of the claims table by claim_date (MySQL only, see db/migration/mysql/V5). Plain JDBC:
+ * partitions are DDL, which neither JPA nor H2 know about.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClaimPartitionRepository {
+
+    public static final String FUTURE_PARTITION = "p_future"; // VALUES LESS THAN (MAXVALUE)
+    private static final String MAXVALUE = "MAXVALUE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Partitions in their order, empty if claims is not partitioned
+     */
+    public List<ClaimPartition> findPartitions() {
+        return jdbcTemplate.query(
+                "SELECT partition_name, partition_description, table_rows FROM information_schema.partitions " +
+                "WHERE table_schema = DATABASE() AND table_name = 'claims' AND partition_name IS NOT NULL " +
+                "ORDER BY partition_ordinal_position",
+                (rs, rowNum) -> new ClaimPartition(rs.getString(1), upperBound(rs.getString(2)), rs.getLong(3)));
+    }
+
+    /**
+     * Split a partition for the claims before {@code upperBound} off the future partition. Only the rows
+     * of the future partition are moved, none while it is kept empty.
+     */
+    public void splitFuturePartition(String name, LocalDate upperBound) {
+        jdbcTemplate.execute("ALTER TABLE claims REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                "PARTITION " + name + " VALUES LESS THAN ('" + upperBound + "'), " +
+                "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (" + MAXVALUE + "))");
+    }
+
+    /**
+     * Pending and approved claims made in {@code [from, to)}, which still hold quantity of their items
+     * @param from null for no lower bound
+     */
+    public long countOpenClaims(LocalDate from, LocalDate to) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM claims WHERE status IN ('PENDING', 'APPROVED') AND claim_date < ?" +
+                (from != null ? " AND claim_date >= ?" : ""),
+                Long.class, from != null ? new Object[] {to, from} : new Object[] {to});
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Drop partitions with all their claims, without deleting row by row
+     */
+    public void dropPartitions(List<String> names) {
+        jdbcTemplate.execute("ALTER TABLE claims DROP PARTITION " + String.join(", ", names));
+    }
+
+    // e.g. '2026-11-01 00:00:00', or MAXVALUE
+    private static LocalDate upperBound(String description) {
+        if (description == null || description.equalsIgnoreCase(MAXVALUE)) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+
+    /**
+     * @param upperBound claims of the partition are before this date, and from the upper bound of the
+     *                   previous partition on; null for the future partition
+     * @param approximateRows row estimate of the table statistics
+     */
+    public record ClaimPartition(String name, LocalDate upperBound, long approximateRows) {
+    }
+}
@@ -5,10 +5,15 @@ import com.example.lostfound.entity.ClaimStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,6 +31,35 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
     @Query("SELECT c FROM Claim c JOIN FETCH c.user u JOIN FETCH c.lostItem li")
     Page<Claim> findAllWithUserAndItem(Pageable pageable);
     
+    /**
+     * Claims made in [from, to), optionally of one status. The claim_date bounds let MySQL read only the
+     * partitions of the range.
+     */
+    @Query(value = "SELECT c FROM Claim c JOIN FETCH c.user u JOIN FETCH c.lostItem li " +
+                   "WHERE c.claimDate >= :from AND c.claimDate < :to AND (:status IS NULL OR c.status = :status)",
+           countQuery = "SELECT COUNT(c) FROM Claim c " +
+                        "WHERE c.claimDate >= :from AND c.claimDate < :to AND (:status IS NULL OR c.status = :status)")
+    Page<Claim> findByClaimDateRangeWithUserAndItem(@Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to,
+                                                    @Param("status") ClaimStatus status,
+                                                    Pageable pageable);
+    
+    /**
+     * Lock claims for a status change, in id order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Claim c WHERE c.id IN :ids ORDER BY c.id")
+    List<Claim> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Change the status of many claims in one statement; only claims in one of the source statuses change
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = :status WHERE c.id IN :ids AND c.status IN :sources")
+    int updateStatus(@Param("ids") Collection<Long> ids, 
+                     @Param("status") ClaimStatus status, 
+                     @Param("sources") Collection<ClaimStatus> sources);
+    
     @Query("SELECT SUM(c.claimedQuantity) FROM Claim c WHERE c.lostItem.id = :lostItemId AND c.status IN ('PENDING', 'APPROVED')")
     Integer getTotalClaimedQuantityForItem(@Param("lostItemId") Long lostItemId);
     
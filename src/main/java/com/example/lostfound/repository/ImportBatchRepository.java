@@ -0,0 +1,13 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.entity.ImportBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImportBatchRepository extends JpaRepository<ImportBatch, Long> {
+    
+    Optional<ImportBatch> findByContentHash(String contentHash);
+}
@@ -0,0 +1,38 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.entity.ImportMerge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImportMergeRepository extends JpaRepository<ImportMerge, Long> {
+    
+    /**
+     * Quantity an import added to each item outside the import, summed over its chunks
+     */
+    @Query("SELECT m.lostItemId AS lostItemId, SUM(m.quantity) AS quantity FROM ImportMerge m, LostItem li " +
+           "WHERE m.importBatchId = :importBatchId AND li.id = m.lostItemId " +
+           "AND (li.importBatchId IS NULL OR li.importBatchId <> :importBatchId) GROUP BY m.lostItemId")
+    List<MergedQuantity> findMergedQuantities(@Param("importBatchId") Long importBatchId);
+    
+    /**
+     * Whether a later import merged records into items this import created
+     */
+    @Query("SELECT COUNT(m) > 0 FROM ImportMerge m, LostItem li " +
+           "WHERE li.id = m.lostItemId AND li.importBatchId = :importBatchId AND m.importBatchId <> :importBatchId")
+    boolean existsMergeIntoImport(@Param("importBatchId") Long importBatchId);
+    
+    @Modifying
+    @Query("DELETE FROM ImportMerge m WHERE m.importBatchId = :importBatchId")
+    int deleteByImportBatchId(@Param("importBatchId") Long importBatchId);
+    
+    interface MergedQuantity {
+        Long getLostItemId();
+        Long getQuantity();
+    }
+}
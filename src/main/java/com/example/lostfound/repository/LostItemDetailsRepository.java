@@ -0,0 +1,73 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.entity.LostItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Item descriptions, kept in lost_item_details rather than in lost_items so that listing and claiming
+ * never read them. Loaded by id, for a detail view or a page that asks for them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LostItemDetailsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Store the descriptions of newly inserted items, in one batch. Items without a description get no
+     * row; where an imported item came from is read from its import instead.
+     */
+    public void saveDescriptions(Collection<LostItem> items) {
+        List<Object[]> rows = items.stream()
+                .filter(item -> item.getDescription() != null && !item.getDescription().isBlank())
+                .map(item -> new Object[]{item.getId(), item.getDescription()})
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO lost_item_details (lost_item_id, description) VALUES (?, ?)", rows);
+        }
+    }
+
+    /**
+     * Descriptions by item id. An imported item without a description is described by the file it was
+     * imported from.
+     */
+    public Map<Long, String> findDescriptions(Collection<Long> lostItemIds) {
+        Map<Long, String> descriptions = new HashMap<>();
+        if (lostItemIds.isEmpty()) {
+            return descriptions;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT li.id, COALESCE(d.description, " +
+                "CASE WHEN b.file_name IS NOT NULL THEN CONCAT('Imported from ', b.file_name) END) " +
+                "FROM lost_items li " +
+                "LEFT JOIN lost_item_details d ON d.lost_item_id = li.id " +
+                "LEFT JOIN import_batches b ON b.id = li.import_batch_id " +
+                "WHERE li.id IN (:ids)",
+                new MapSqlParameterSource("ids", lostItemIds),
+                rs -> {
+                    if (rs.getString(2) != null) {
+                        descriptions.put(rs.getLong(1), rs.getString(2));
+                    }
+                });
+        return descriptions;
+    }
+
+    /**
+     * Remove the descriptions of the items of an import that deleteUnclaimedByImportBatchId will delete
+     */
+    public int deleteUnclaimedByImportBatchId(Long importBatchId) {
+        return jdbcTemplate.update("DELETE FROM lost_item_details WHERE lost_item_id IN (" +
+                "SELECT li.id FROM lost_items li WHERE li.import_batch_id = ? " +
+                "AND NOT EXISTS (SELECT 1 FROM claims c WHERE c.lost_item_id = li.id))", importBatchId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.repository.LostItemRepository.MergeKeySource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Fills in the keys derived from the name and place of items (merge and search keys) for items stored
+ * before the keys existed. Plain JDBC, so that a page of items is updated in one batch rather than with
+ * one UPDATE each. The rows change behind Hibernate's back; callers evict them from its cache.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LostItemKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateMergeKeys(Collection<MergeKeySource> items) {
+        jdbcTemplate.batchUpdate("UPDATE lost_items SET merge_key = ? WHERE id = ?", items.stream()
+                .map(item -> new Object[]{LostItem.mergeKeyOf(item.getItemName(), item.getPlace()), item.getId()})
+                .toList());
+    }
+
+    public void updateSearchKeys(Collection<MergeKeySource> items) {
+        jdbcTemplate.batchUpdate("UPDATE lost_items SET item_name_search = ?, place_search = ? WHERE id = ?",
+                items.stream()
+                        .map(item -> new Object[]{LostItem.searchKeyOf(item.getItemName()),
+                                LostItem.searchKeyOf(item.getPlace()), item.getId()})
+                        .toList());
+    }
+}
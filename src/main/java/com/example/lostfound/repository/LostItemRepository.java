@@ -1,37 +1,180 @@
 package com.example.lostfound.repository;
 
 import com.example.lostfound.entity.LostItem;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LostItemRepository extends JpaRepository<LostItem, Long> {
     
-    Page<LostItem> findByRemainingQuantityGreaterThan(Integer quantity, Pageable pageable);
+    /**
+     * Listing pages and their counts are kept in the query cache until lost_items is next written
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<LostItem> findByRemainingQuantityGreaterThan(Integer quantity, Pageable pageable); // total from the availability counters
     
-    Page<LostItem> findByItemNameContainingIgnoreCase(String itemName, Pageable pageable);
-    
-    Page<LostItem> findByPlaceContainingIgnoreCase(String place, Pageable pageable);
+    Page<LostItem> findByImportBatchId(Long importBatchId, Pageable pageable);
     
+    /**
+     * Available items whose search keys (LostItem.searchKeyOf) match LIKE patterns, with '!' as the escape
+     * character; a null pattern matches all. The columns are compared as they are, so a prefix pattern
+     * ('umbr%') is a range scan of idx_lost_items_item_name_search or idx_lost_items_place_search.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT li FROM LostItem li WHERE li.remainingQuantity > 0 AND " +
-           "(:itemName IS NULL OR LOWER(li.itemName) LIKE LOWER(CONCAT('%', :itemName, '%'))) AND " +
-           "(:place IS NULL OR LOWER(li.place) LIKE LOWER(CONCAT('%', :place, '%')))")
-    Page<LostItem> findAvailableItemsWithFilters(@Param("itemName") String itemName, 
-                                                 @Param("place") String place, 
+           "(:itemName IS NULL OR li.itemNameSearch LIKE :itemName ESCAPE '!') AND " +
+           "(:place IS NULL OR li.placeSearch LIKE :place ESCAPE '!')")
+    Page<LostItem> findAvailableItemsWithFilters(@Param("itemName") String itemNamePattern, 
+                                                 @Param("place") String placePattern, 
                                                  Pageable pageable);
     
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT li FROM LostItem li WHERE li.id = :id")
     Optional<LostItem> findByIdForUpdate(@Param("id") Long id);
     
-    @Query("SELECT COUNT(li) FROM LostItem li WHERE li.remainingQuantity > 0")
-    long countAvailableItems();
+    /**
+     * Full count of the available items by place, for reconciling the availability counters
+     */
+    @Query("SELECT li.place AS place, COUNT(li) AS itemCount FROM LostItem li " +
+           "WHERE li.remainingQuantity > 0 GROUP BY li.place")
+    List<PlaceCount> countAvailableByPlace();
+    
+    /**
+     * Items among ids whose remaining quantity is exactly the given one; after adding that quantity to
+     * them, these are the ones that had run out before
+     */
+    @Query("SELECT li.place AS place, COUNT(li) AS itemCount FROM LostItem li " +
+           "WHERE li.id IN :ids AND li.remainingQuantity = :quantity GROUP BY li.place")
+    List<PlaceCount> countByPlaceWithRemainingQuantity(@Param("ids") Collection<Long> ids, 
+                                                       @Param("quantity") int quantity);
+    
+    /**
+     * Available items among ids that taking the given quantity away would deplete
+     */
+    @Query("SELECT li.place AS place, COUNT(li) AS itemCount FROM LostItem li " +
+           "WHERE li.id IN :ids AND li.remainingQuantity > 0 AND li.remainingQuantity <= :quantity " +
+           "GROUP BY li.place")
+    List<PlaceCount> countByPlaceDepletedBy(@Param("ids") Collection<Long> ids, 
+                                            @Param("quantity") int quantity);
+    
+    @Query("SELECT li.place AS place, COUNT(li) AS itemCount FROM LostItem li " +
+           "WHERE li.importBatchId = :importBatchId AND li.remainingQuantity > 0 GROUP BY li.place")
+    List<PlaceCount> countAvailableByPlaceForImportBatch(@Param("importBatchId") Long importBatchId);
+    
+    /**
+     * Existing items for a set of merge keys; where several rows share a key the oldest one is the target
+     */
+    @Query("SELECT li.mergeKey AS mergeKey, MIN(li.id) AS id FROM LostItem li " +
+           "WHERE li.mergeKey IN :mergeKeys GROUP BY li.mergeKey")
+    List<MergeTarget> findMergeTargets(@Param("mergeKeys") Collection<String> mergeKeys);
+    
+    /**
+     * Add the same amount to the quantity of several items in one statement. The version is bumped so
+     * that concurrent claims holding a stale copy of one of these items fail their optimistic check.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE LostItem li SET li.quantity = li.quantity + :amount, " +
+           "li.remainingQuantity = li.remainingQuantity + :amount, " +
+           "li.version = li.version + 1, li.updatedAt = :updatedAt WHERE li.id IN :ids")
+    int addQuantity(@Param("ids") Collection<Long> ids, 
+                    @Param("amount") int amount, 
+                    @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Take back an amount that an import merged into several items. Stock that has been claimed since
+     * cannot be taken back, so the amount is capped at the remaining quantity. MySQL applies SET clauses
+     * left to right, so quantity is assigned before the remaining quantity it reads.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE LostItem li SET " +
+           "li.quantity = li.quantity - LEAST(:amount, li.remainingQuantity), " +
+           "li.remainingQuantity = li.remainingQuantity - LEAST(:amount, li.remainingQuantity), " +
+           "li.version = li.version + 1, li.updatedAt = :updatedAt WHERE li.id IN :ids")
+    int subtractQuantity(@Param("ids") Collection<Long> ids, 
+                         @Param("amount") int amount, 
+                         @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Return claimed quantity to one item, e.g. the sum of its rejected claims
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE LostItem li SET li.remainingQuantity = li.remainingQuantity + :amount, " +
+           "li.version = li.version + 1, li.updatedAt = :updatedAt WHERE li.id = :id")
+    int releaseQuantity(@Param("id") Long id, 
+                        @Param("amount") int amount, 
+                        @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Query("SELECT li.id AS id, li.place AS place, li.remainingQuantity AS remainingQuantity FROM LostItem li " +
+           "WHERE li.id IN :ids")
+    List<ItemStock> findStockByIds(@Param("ids") Collection<Long> ids);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM LostItem li WHERE li.importBatchId = :importBatchId " +
+           "AND NOT EXISTS (SELECT c.id FROM Claim c WHERE c.lostItem.id = li.id)")
+    int deleteUnclaimedByImportBatchId(@Param("importBatchId") Long importBatchId);
+    
+    /**
+     * Withdraw the unclaimed stock of an import's items and detach them from the import. Run after
+     * deleteUnclaimedByImportBatchId, this keeps the items that have claims, for the claims' sake.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE LostItem li SET li.quantity = li.quantity - li.remainingQuantity, li.remainingQuantity = 0, " +
+           "li.importBatchId = NULL, li.version = li.version + 1, li.updatedAt = :updatedAt " +
+           "WHERE li.importBatchId = :importBatchId")
+    int withdrawByImportBatchId(@Param("importBatchId") Long importBatchId, 
+                                @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Query("SELECT li.importBatchId AS importBatchId, COUNT(li) AS itemCount FROM LostItem li " +
+           "WHERE li.importBatchId IN :importBatchIds GROUP BY li.importBatchId")
+    List<ImportItemCount> countByImportBatchIds(@Param("importBatchIds") Collection<Long> importBatchIds);
+    
+    @Query("SELECT li.id AS id, li.itemName AS itemName, li.place AS place FROM LostItem li " +
+           "WHERE li.mergeKey IS NULL")
+    List<MergeKeySource> findWithoutMergeKey(Pageable pageable);
+    
+    @Query("SELECT li.id AS id, li.itemName AS itemName, li.place AS place FROM LostItem li " +
+           "WHERE li.itemNameSearch IS NULL OR li.placeSearch IS NULL")
+    List<MergeKeySource> findWithoutSearchKeys(Pageable pageable);
+    
+    interface MergeTarget {
+        String getMergeKey();
+        Long getId();
+    }
+    
+    interface ImportItemCount {
+        Long getImportBatchId();
+        Long getItemCount();
+    }
+    
+    interface PlaceCount {
+        String getPlace();
+        Long getItemCount();
+    }
+    
+    interface ItemStock {
+        Long getId();
+        String getPlace();
+        Integer getRemainingQuantity();
+    }
+    
+    interface MergeKeySource {
+        Long getId();
+        String getItemName();
+        String getPlace();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.entity.ParseTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ParseTemplateRepository extends JpaRepository<ParseTemplate, Long> {
+    
+    Optional<ParseTemplate> findByName(String name);
+    
+    boolean existsByName(String name);
+    
+    List<ParseTemplate> findAllByOrderByNameAsc();
+}
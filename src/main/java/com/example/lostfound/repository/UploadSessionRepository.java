@@ -0,0 +1,59 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.entity.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+    
+    /**
+     * Move the acknowledged offset forward to the end of a chunk that was written at or before it.
+     * Conditional, so that concurrent chunks of the same session never move it backwards or past a gap.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.receivedBytes = :end, s.updatedAt = :updatedAt " +
+           "WHERE s.id = :id AND s.status = com.example.lostfound.entity.UploadSessionStatus.OPEN " +
+           "AND s.receivedBytes >= :offset AND s.receivedBytes < :end")
+    int acknowledge(@Param("id") String id, 
+                    @Param("offset") long offset, 
+                    @Param("end") long end, 
+                    @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Claim a fully received session for completion; fails if another request already did
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = com.example.lostfound.entity.UploadSessionStatus.COMPLETING, " +
+           "s.updatedAt = :updatedAt WHERE s.id = :id " +
+           "AND s.status = com.example.lostfound.entity.UploadSessionStatus.OPEN AND s.receivedBytes = s.fileSize")
+    int markCompleting(@Param("id") String id, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = com.example.lostfound.entity.UploadSessionStatus.OPEN, " +
+           "s.updatedAt = :updatedAt WHERE s.id = :id")
+    int reopen(@Param("id") String id, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Remove a session unless it is being completed
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadSession s " +
+           "WHERE s.id = :id AND s.status = com.example.lostfound.entity.UploadSessionStatus.OPEN")
+    int deleteIfOpen(@Param("id") String id);
+    
+    @Query("SELECT s.id FROM UploadSession s " +
+           "WHERE s.status = com.example.lostfound.entity.UploadSessionStatus.OPEN AND s.updatedAt < :cutoff")
+    List<String> findOpenIdsUpdatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,313 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ArchiveImportResultDto;
+import com.example.lostfound.dto.FileImportResultDto;
+import com.example.lostfound.dto.FileImportResultDto.Status;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.UnsupportedFileTypeException;
+import com.example.lostfound.service.parser.FileParsingStrategy;
+import com.example.lostfound.service.parser.FileParsingStrategyFactory;
+import com.example.lostfound.service.parser.RecordTemplate;
+import com.example.lostfound.service.ImportPipeline.ParsedFile;
+import com.example.lostfound.service.parser.SpooledMultipartFile;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Imports zip and gzip-compressed tar archives of report files. Entries are read one at a time from the
+ * upload stream, spooled to the upload directory and parsed concurrently on the import executor, while
+ * the request thread stores each parsed entry as its own import (one transaction per entry). At most
+ * twice the pool size of entries is spooled or held in memory at any time.
+ */
+@Slf4j
+@Service
+public class ArchiveImportService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final ImportPipeline importPipeline;
+    private final FileParsingStrategyFactory parsingStrategyFactory;
+    private final ExecutorService importParsingExecutor;
+    private final Path spoolDirectory;
+    private final int maxInFlight;
+    private final int maxEntries;
+    private final long maxEntrySize;
+
+    public ArchiveImportService(ImportPipeline importPipeline,
+                                FileParsingStrategyFactory parsingStrategyFactory,
+                                ExecutorService importParsingExecutor,
+                                @Value("${file.upload.directory:${java.io.tmpdir}}") Path spoolDirectory,
+                                @Value("${file.upload.parallelism:4}") int parallelism,
+                                @Value("${file.upload.archive.max-entries:1000}") int maxEntries,
+                                @Value("${file.upload.archive.max-entry-size:10485760}") long maxEntrySize) {
+        this.importPipeline = importPipeline;
+        this.parsingStrategyFactory = parsingStrategyFactory;
+        this.importParsingExecutor = importParsingExecutor;
+        this.spoolDirectory = spoolDirectory.toAbsolutePath();
+        this.maxInFlight = parallelism * 2;
+        this.maxEntries = maxEntries;
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    public ArchiveImportResultDto importArchive(MultipartFile archive, ImportMode mode)
+            throws UnsupportedFileTypeException, FileParsingException {
+        return importArchive(archive, mode, RecordTemplate.DEFAULT);
+    }
+
+    /**
+     * @param template layout of key-value records, applied to every PDF and text entry
+     */
+    public ArchiveImportResultDto importArchive(MultipartFile archive, ImportMode mode, RecordTemplate template)
+            throws UnsupportedFileTypeException, FileParsingException {
+
+        log.info("Processing archive upload: {} (size: {} bytes, mode: {})",
+                archive.getOriginalFilename(), archive.getSize(), mode);
+
+        if (archive.isEmpty()) {
+            throw new FileParsingException("File is empty");
+        }
+
+        ArchiveFormat format = ArchiveFormat.of(archive.getContentType(), archive.getOriginalFilename());
+
+        List<FileImportResultDto> results = new ArrayList<>();
+        // Stored in archive order, so that of two identical entries the first one is imported
+        Deque<Future<ParsedFile>> inFlight = new ArrayDeque<>();
+        Map<String, Long> importIdsByHash = new HashMap<>();
+
+        try {
+            Files.createDirectories(spoolDirectory);
+            try (ArchiveInputStream<? extends ArchiveEntry> in = format.open(archive.getInputStream())) {
+                ArchiveEntry entry;
+                while ((entry = in.getNextEntry()) != null) {
+                    if (entry.isDirectory() || isMetadataEntry(entry.getName())) {
+                        continue;
+                    }
+                    if (results.size() == maxEntries) {
+                        throw new FileParsingException("Archive contains more than " + maxEntries + " files");
+                    }
+
+                    String entryName = entry.getName();
+                    String contentType = URLConnection.guessContentTypeFromName(entryName);
+                    FileParsingStrategy strategy;
+                    try {
+                        strategy = parsingStrategyFactory.getStrategy(contentType, entryName);
+                    } catch (UnsupportedFileTypeException e) {
+                        results.add(entryResult(entryName, Status.SKIPPED, "Unsupported file type"));
+                        continue;
+                    }
+                    if (!in.canReadEntryData(entry)) {
+                        results.add(entryResult(entryName, Status.FAILED, "Unsupported compression or encryption"));
+                        continue;
+                    }
+
+                    if (inFlight.size() == maxInFlight) {
+                        store(await(inFlight.removeFirst()), mode, results, importIdsByHash);
+                    }
+
+                    int index = results.size();
+                    results.add(null); // filled in when the entry has been parsed and stored
+                    Path spooled = Files.createTempFile(spoolDirectory, "archive-entry-", ".tmp");
+                    long size;
+                    try {
+                        size = spool(in, spooled);
+                    } catch (IOException e) {
+                        deleteSpooledFile(spooled);
+                        throw e;
+                    }
+                    if (size < 0) {
+                        deleteSpooledFile(spooled);
+                        results.set(index, entryResult(entryName, Status.FAILED,
+                                "File size exceeds maximum allowed size: " + maxEntrySize + " bytes"));
+                        continue;
+                    }
+
+                    SpooledMultipartFile file = new SpooledMultipartFile(entryName, contentType, spooled, size);
+                    inFlight.addLast(importParsingExecutor.submit(() -> parse(index, file, strategy, template)));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                store(await(inFlight.removeFirst()), mode, results, importIdsByHash);
+            }
+        } catch (IOException e) {
+            throw new FileParsingException("Failed to read archive: " + e.getMessage(), e);
+        } finally {
+            // On failure, let running entries finish so that they delete their spooled files, and drop them
+            for (Future<ParsedFile> future : inFlight) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // dropped anyway
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        int importedCount = 0;
+        int failedCount = 0;
+        int itemsCount = 0;
+        for (FileImportResultDto result : results) {
+            if (result.getStatus() == Status.IMPORTED) {
+                importedCount++;
+                itemsCount += result.getItemsCount();
+            } else if (result.getStatus() == Status.FAILED) {
+                failedCount++;
+            }
+        }
+        log.info("Imported {} of {} files from archive: {} ({} failed, {} items)",
+                importedCount, results.size(), archive.getOriginalFilename(), failedCount, itemsCount);
+
+        return ArchiveImportResultDto.builder()
+                .archiveName(archive.getOriginalFilename())
+                .mode(mode)
+                .entriesCount(results.size())
+                .importedCount(importedCount)
+                .failedCount(failedCount)
+                .itemsCount(itemsCount)
+                .entries(results)
+                .build();
+    }
+
+    /**
+     * Runs on the import executor; the spooled entry is deleted as soon as it has been parsed
+     */
+    private ParsedFile parse(int index, SpooledMultipartFile file, FileParsingStrategy strategy,
+                             RecordTemplate template) {
+        try {
+            return importPipeline.parse(index, file, strategy, template);
+        } finally {
+            deleteSpooledFile(file.getPath());
+        }
+    }
+
+    /**
+     * Runs on the request thread; every entry is stored in its own transaction
+     */
+    private void store(ParsedFile parsed, ImportMode mode, List<FileImportResultDto> results,
+                       Map<String, Long> importIdsByHash) {
+        FileImportResultDto result;
+        try {
+            result = importPipeline.store(parsed, mode, importIdsByHash);
+        } catch (RuntimeException e) {
+            log.error("Failed to store items from archive entry: {}", parsed.file().getOriginalFilename(), e);
+            result = ImportPipeline.failedResult(parsed.file().getOriginalFilename(), "Failed to store items");
+        }
+        results.set(parsed.index(), result);
+    }
+
+    private static ParsedFile await(Future<ParsedFile> future) throws FileParsingException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileParsingException("Archive import was interrupted");
+        } catch (ExecutionException e) {
+            // ImportPipeline.parse handles its own failures, so this is a bug rather than a bad entry
+            throw new IllegalStateException("Archive entry parsing failed unexpectedly", e.getCause());
+        }
+    }
+
+    /**
+     * Copy the current entry to the spool file
+     * @return the entry size, or -1 if it exceeds the maximum entry size
+     */
+    private long spool(InputStream in, Path target) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long size = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > maxEntrySize) {
+                    return -1;
+                }
+                out.write(buffer, 0, read);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Resource forks and hidden files added by archivers (e.g. __MACOSX/, .DS_Store)
+     */
+    private static boolean isMetadataEntry(String entryName) {
+        String baseName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        return entryName.startsWith("__MACOSX/") || baseName.startsWith(".");
+    }
+
+    private static FileImportResultDto entryResult(String entryName, Status status, String error) {
+        return FileImportResultDto.builder()
+                .fileName(entryName)
+                .status(status)
+                .error(error)
+                .build();
+    }
+
+    private static void deleteSpooledFile(Path spooled) {
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled archive entry {}: {}", spooled, e.getMessage());
+        }
+    }
+
+    private enum ArchiveFormat {
+        ZIP, TAR_GZ;
+
+        static ArchiveFormat of(String contentType, String filename) throws UnsupportedFileTypeException {
+            String lowerFilename = filename != null ? filename.toLowerCase() : "";
+            if (lowerFilename.endsWith(".zip")) {
+                return ZIP;
+            }
+            if (lowerFilename.endsWith(".tar.gz") || lowerFilename.endsWith(".tgz")) {
+                return TAR_GZ;
+            }
+            if (contentType != null) {
+                switch (contentType.toLowerCase()) {
+                    case "application/zip", "application/x-zip-compressed":
+                        return ZIP;
+                    case "application/gzip", "application/x-gzip", "application/x-compressed-tar":
+                        return TAR_GZ;
+                    default:
+                        break;
+                }
+            }
+            throw new UnsupportedFileTypeException(String.format(
+                    "Unsupported archive type: %s (filename: %s). Expected a .zip or .tar.gz file",
+                    contentType, filename));
+        }
+
+        ArchiveInputStream<? extends ArchiveEntry> open(InputStream in) throws IOException {
+            return switch (this) {
+                case ZIP -> new ZipArchiveInputStream(in, StandardCharsets.UTF_8.name(), true, true);
+                case TAR_GZ -> new TarArchiveInputStream(new GZIPInputStream(in, COPY_BUFFER_SIZE));
+            };
+        }
+    }
+}
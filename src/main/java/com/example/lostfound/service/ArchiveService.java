@@ -0,0 +1,118 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ClaimDto;
+import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.repository.ArchiveRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Archive tier: moves closed (fulfilled or rejected) claims and depleted items out of the hot tables, so
+ * that listings and claims work on tables that hold little else and stay in memory. Claims go first, so
+ * that items whose last claims were archived follow in the same run. Each chunk of ids is moved in its
+ * own short transaction.
+ */
+@Slf4j
+@Service
+public class ArchiveService {
+
+    private final ArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration minAge;
+
+    public ArchiveService(ArchiveRepository archiveRepository,
+                          TransactionTemplate transactionTemplate,
+                          EntityManagerFactory entityManagerFactory,
+                          @Value("${app.archive.enabled:true}") boolean enabled,
+                          @Value("${app.archive.chunk-size:500}") int chunkSize,
+                          @Value("${app.archive.min-age:P30D}") Duration minAge) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.minAge = minAge;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}",
+               initialDelayString = "${app.archive.interval:PT1H}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        int claims = archiveClosedClaims(cutoff);
+        int items = archiveDepletedItems(cutoff);
+        if (claims > 0 || items > 0) {
+            log.info("Archived {} closed claims and {} depleted items from before {}", claims, items, cutoff);
+        }
+    }
+
+    /**
+     * Move fulfilled and rejected claims made before the cutoff
+     */
+    int archiveClosedClaims(LocalDateTime cutoff) {
+        int moved = 0;
+        long afterId = 0;
+        Long lastId;
+        while ((lastId = archiveRepository.findClosedClaimChunkEnd(afterId, cutoff, chunkSize)) != null) {
+            long from = afterId;
+            long to = lastId;
+            Integer count = transactionTemplate.execute(transaction ->
+                    archiveRepository.moveClosedClaims(from, to, cutoff));
+            moved += count != null ? count : 0;
+            afterId = lastId;
+        }
+        return moved;
+    }
+
+    /**
+     * Move items that ran out, were last changed before the cutoff and have no claims left in the hot table
+     */
+    int archiveDepletedItems(LocalDateTime cutoff) {
+        int moved = 0;
+        long afterId = 0;
+        Long lastId;
+        while ((lastId = archiveRepository.findDepletedItemChunkEnd(afterId, cutoff, chunkSize)) != null) {
+            long from = afterId;
+            long to = lastId;
+            List<Long> ids = transactionTemplate.execute(transaction ->
+                    archiveRepository.moveDepletedItems(from, to, cutoff));
+            if (ids != null) {
+                // Deleted behind Hibernate's back, so not through its second-level cache
+                ids.forEach(id -> entityManagerFactory.getCache().evict(LostItem.class, id));
+                moved += ids.size();
+            }
+            afterId = lastId;
+        }
+        return moved;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ClaimDto> getArchivedClaims(Pageable pageable) {
+        List<ClaimDto> claims = archiveRepository.findArchivedClaims(pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(claims, pageable, archiveRepository::countArchivedClaims);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<LostItemDto> getArchivedItems(Pageable pageable) {
+        List<LostItemDto> items = archiveRepository.findArchivedItems(pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(items, pageable, archiveRepository::countArchivedItems);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.AvailabilityDto;
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.repository.AvailabilityCounterRepository;
+import com.example.lostfound.repository.AvailabilityCounterRepository.PlaceCounter;
+import com.example.lostfound.repository.LostItemRepository;
+import com.example.lostfound.repository.LostItemRepository.PlaceCount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Live count of available items (remaining quantity above zero), in total and per place, so that counts
+ * are read from a handful of counter rows instead of scanning lost_items.
+ * <p>
+ * Writers record the items that became available or ran out. The changes of a transaction are collected
+ * and applied to the counters just before it commits, after the entity changes have been flushed, so the
+ * counter rows are the last locks the transaction takes and are held only for the commit. Each
+ * transaction increments one randomly chosen stripe of every counter it touches, so concurrent writers
+ * rarely wait for each other; stripes are summed on read. Rows are locked total first, then by place,
+ * in one order for all transactions.
+ * <p>
+ * {@link #reconcile()} periodically compares the counters with lost_items and corrects any drift, e.g.
+ * from changes made to the database directly.
+ */
+@Slf4j
+@Service
+public class AvailabilityCounterService {
+
+    static final String AVAILABLE_ITEMS_METRIC = "app.items.available";
+
+    // Case variants of a place are adjacent, as they are one counter under a case-insensitive collation
+    private static final Comparator<String> PLACE_ORDER =
+            String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+    private static final int RECONCILE_STRIPE = 0;
+
+    private final AvailabilityCounterRepository counterRepository;
+    private final LostItemRepository lostItemRepository;
+    private final EntityManager entityManager;
+    private final int stripes;
+
+    public AvailabilityCounterService(AvailabilityCounterRepository counterRepository,
+                                      LostItemRepository lostItemRepository,
+                                      EntityManager entityManager,
+                                      ObjectProvider<MeterRegistry> meterRegistry,
+                                      @Value("${app.availability.counter-stripes:8}") int stripes) {
+        this.counterRepository = counterRepository;
+        this.lostItemRepository = lostItemRepository;
+        this.entityManager = entityManager;
+        this.stripes = stripes;
+        meterRegistry.ifAvailable(registry -> Gauge.builder(AVAILABLE_ITEMS_METRIC, this, service -> service.getAvailableItems())
+                .description("Items with remaining quantity")
+                .register(registry));
+    }
+
+    /**
+     * Record new items; those with remaining quantity count as available
+     */
+    public void recordCreated(Collection<LostItem> items) {
+        for (LostItem item : items) {
+            Integer remaining = item.getRemainingQuantity() != null ? item.getRemainingQuantity() : item.getQuantity();
+            if (remaining != null && remaining > 0) {
+                record(item.getPlace(), 1);
+            }
+        }
+    }
+
+    /**
+     * Record items that got remaining quantity again, counted by place
+     */
+    public void recordAvailable(List<PlaceCount> counts) {
+        counts.forEach(count -> record(count.getPlace(), count.getItemCount()));
+    }
+
+    /**
+     * Record items that ran out or were removed while available, counted by place
+     */
+    public void recordDepleted(List<PlaceCount> counts) {
+        counts.forEach(count -> record(count.getPlace(), -count.getItemCount()));
+    }
+
+    /**
+     * Record that the number of available items at a place changed. Within a transaction the change is
+     * applied when the transaction commits, and discarded if it rolls back.
+     */
+    public void record(String place, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            SortedMap<String, Long> deltas = new TreeMap<>(PLACE_ORDER);
+            deltas.put(place, delta);
+            apply(delta, deltas, nextStripe());
+            return;
+        }
+        pendingDeltas().add(place, delta);
+    }
+
+    /**
+     * Number of available items, read from the counters
+     */
+    @Transactional(readOnly = true)
+    public long getAvailableItems() {
+        return counterRepository.sumTotal();
+    }
+
+    @Transactional(readOnly = true)
+    public AvailabilityDto getAvailability() {
+        List<AvailabilityDto.PlaceAvailability> places = counterRepository.sumByPlace().stream()
+                .filter(counter -> counter.availableItems() > 0)
+                .map(counter -> AvailabilityDto.PlaceAvailability.builder()
+                        .place(counter.place())
+                        .availableItems(counter.availableItems())
+                        .build())
+                .toList();
+        return AvailabilityDto.builder()
+                .availableItems(counterRepository.sumTotal())
+                .places(places)
+                .build();
+    }
+
+    /**
+     * Count the available items in lost_items and correct the counters by the difference. Counters and
+     * items are read in one snapshot, in which they agree unless the counters drifted; the corrections
+     * are increments, so they do not conflict with the writers' own.
+     */
+    @Scheduled(fixedDelayString = "${app.availability.reconcile-interval:PT15M}",
+               initialDelayString = "${app.availability.reconcile-interval:PT15M}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        SortedMap<String, Long> corrections = new TreeMap<>(PLACE_ORDER);
+        long totalCorrection = -counterRepository.sumTotal();
+        for (PlaceCounter counter : counterRepository.sumByPlace()) {
+            corrections.merge(counter.place(), -counter.availableItems(), Long::sum);
+        }
+        for (PlaceCount count : lostItemRepository.countAvailableByPlace()) {
+            corrections.merge(count.getPlace(), count.getItemCount(), Long::sum);
+            totalCorrection += count.getItemCount();
+        }
+        corrections.values().removeIf(correction -> correction == 0);
+
+        if (totalCorrection != 0 || !corrections.isEmpty()) {
+            log.warn("Availability counters were off by {} in total and at {} places; corrected",
+                    totalCorrection, corrections.size());
+            apply(totalCorrection, corrections, RECONCILE_STRIPE);
+        }
+        counterRepository.deleteEmptyStripes();
+    }
+
+    private void apply(long totalDelta, SortedMap<String, Long> deltasByPlace, int stripe) {
+        if (totalDelta != 0) {
+            counterRepository.incrementTotal(stripe, totalDelta);
+        }
+        deltasByPlace.forEach((place, delta) -> {
+            if (delta != 0) {
+                counterRepository.incrementPlace(place, stripe, delta);
+            }
+        });
+    }
+
+    private int nextStripe() {
+        return ThreadLocalRandom.current().nextInt(stripes);
+    }
+
+    private PendingDeltas pendingDeltas() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingDeltas pending) {
+                return pending;
+            }
+        }
+        PendingDeltas pending = new PendingDeltas();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    /**
+     * Changes recorded in one transaction, applied in its beforeCommit
+     */
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final SortedMap<String, Long> deltasByPlace = new TreeMap<>(PLACE_ORDER);
+        private long totalDelta;
+
+        void add(String place, long delta) {
+            deltasByPlace.merge(place, delta, Long::sum);
+            totalDelta += delta;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (totalDelta == 0 && deltasByPlace.values().stream().allMatch(delta -> delta == 0)) {
+                return;
+            }
+            try {
+                entityManager.flush();
+            } catch (RuntimeException e) {
+                DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+                throw translated != null ? translated : e;
+            }
+            apply(totalDelta, deltasByPlace, nextStripe());
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ImportResultDto;
+import com.example.lostfound.dto.UploadSessionDto;
+import com.example.lostfound.dto.UploadSessionRequest;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.entity.UploadSession;
+import com.example.lostfound.entity.UploadSessionStatus;
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.InvalidUploadChunkException;
+import com.example.lostfound.exception.ParseTemplateNotFoundException;
+import com.example.lostfound.exception.UnsupportedFileTypeException;
+import com.example.lostfound.exception.UploadOffsetConflictException;
+import com.example.lostfound.exception.UploadSessionNotFoundException;
+import com.example.lostfound.repository.UploadSessionRepository;
+import com.example.lostfound.service.parser.FileParsingStrategyFactory;
+import com.example.lostfound.service.parser.RecordTemplate;
+import com.example.lostfound.service.parser.SpooledMultipartFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resumable uploads of files too large to send in one request over an unreliable link. A session is
+ * created with the file's size, chunks are PUT with their offset and written in place into a spool file,
+ * and completing the session imports the file like a regular upload. Chunks are plain request bodies,
+ * so the multipart size limits do not apply; the file size is limited by {@code file.upload.chunked.max-size}.
+ * <p>
+ * A chunk is acknowledged only after it has been forced to disk and only if it starts at or before the
+ * acknowledged offset, so the acknowledged bytes are always a complete prefix of the file. After an
+ * interruption the client asks for the session and resumes at {@code receivedBytes}.
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final LostItemService lostItemService;
+    private final ParseTemplateService parseTemplateService;
+    private final FileParsingStrategyFactory parsingStrategyFactory;
+    private final Path spoolDirectory;
+    private final long maxFileSize;
+    private final long maxChunkSize;
+    private final Duration sessionTimeout;
+
+    public ChunkedUploadService(UploadSessionRepository uploadSessionRepository,
+                                LostItemService lostItemService,
+                                ParseTemplateService parseTemplateService,
+                                FileParsingStrategyFactory parsingStrategyFactory,
+                                @Value("${file.upload.directory:${java.io.tmpdir}}") Path uploadDirectory,
+                                @Value("${file.upload.chunked.max-size:1GB}") DataSize maxFileSize,
+                                @Value("${file.upload.chunked.max-chunk-size:16MB}") DataSize maxChunkSize,
+                                @Value("${file.upload.chunked.session-timeout:24h}") Duration sessionTimeout) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.lostItemService = lostItemService;
+        this.parseTemplateService = parseTemplateService;
+        this.parsingStrategyFactory = parsingStrategyFactory;
+        this.spoolDirectory = uploadDirectory.toAbsolutePath().resolve("chunked");
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxChunkSize = maxChunkSize.toBytes();
+        this.sessionTimeout = sessionTimeout;
+    }
+
+    /**
+     * Start an upload. File type and template are checked now rather than after the whole file was sent.
+     */
+    public UploadSessionDto createSession(UploadSessionRequest request)
+            throws InvalidUploadChunkException, UnsupportedFileTypeException, ParseTemplateNotFoundException,
+                   FileParsingException {
+        if (request.getFileSize() > maxFileSize) {
+            throw new InvalidUploadChunkException(
+                    "File size exceeds maximum allowed size: " + maxFileSize + " bytes");
+        }
+        parsingStrategyFactory.getStrategy(request.getContentType(), request.getFileName());
+        parseTemplateService.getRecordTemplate(request.getTemplate());
+
+        String id = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(spoolDirectory);
+            Files.createFile(spoolPath(id));
+        } catch (IOException e) {
+            throw new FileParsingException("Failed to create upload file: " + e.getMessage(), e);
+        }
+
+        UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                .id(id)
+                .fileName(request.getFileName())
+                .contentType(request.getContentType())
+                .fileSize(request.getFileSize())
+                .mode(request.getMode() != null ? request.getMode() : ImportMode.APPEND)
+                .templateName(request.getTemplate())
+                .build());
+        log.info("Created upload session {} for {} ({} bytes)", id, session.getFileName(), session.getFileSize());
+        return convertToDto(session);
+    }
+
+    public UploadSessionDto getSession(String id) throws UploadSessionNotFoundException {
+        return convertToDto(findSession(id));
+    }
+
+    /**
+     * Write one chunk at its offset. A chunk may overlap bytes that were already acknowledged (a retry
+     * after a lost response), but must not leave a gap.
+     */
+    public UploadSessionDto writeChunk(String id, long offset, InputStream body)
+            throws UploadSessionNotFoundException, UploadOffsetConflictException, InvalidUploadChunkException,
+                   FileParsingException {
+        UploadSession session = findSession(id);
+        if (session.getStatus() != UploadSessionStatus.OPEN) {
+            throw new UploadOffsetConflictException(session.getReceivedBytes(), "Upload is already being completed");
+        }
+        if (offset < 0) {
+            throw new InvalidUploadChunkException("Offset must not be negative");
+        }
+        if (offset > session.getReceivedBytes()) {
+            throw new UploadOffsetConflictException(session.getReceivedBytes(),
+                    "Chunk at offset " + offset + " would leave a gap; resume at offset " + session.getReceivedBytes());
+        }
+
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(spoolPath(id), StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (offset + written + read > session.getFileSize()) {
+                    throw new InvalidUploadChunkException(
+                            "Chunk extends past the declared file size of " + session.getFileSize() + " bytes");
+                }
+                if (written + read > maxChunkSize) {
+                    throw new InvalidUploadChunkException(
+                            "Chunk size exceeds maximum allowed size: " + maxChunkSize + " bytes");
+                }
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    written += channel.write(chunk, offset + written);
+                }
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // Whatever reached the file is not acknowledged, so the client resends it
+            log.warn("Upload session {}: chunk at offset {} interrupted after {} bytes: {}",
+                    id, offset, written, e.getMessage());
+            throw new FileParsingException("Failed to receive chunk: " + e.getMessage(), e);
+        }
+
+        long end = offset + written;
+        if (end > session.getReceivedBytes()) {
+            LocalDateTime now = LocalDateTime.now();
+            if (uploadSessionRepository.acknowledge(id, offset, end, now) == 1) {
+                session.setReceivedBytes(end);
+                session.setUpdatedAt(now);
+            } else {
+                session = findSession(id); // a concurrent chunk got further, or the session was completed
+            }
+        }
+        log.debug("Upload session {}: wrote {} bytes at offset {}, received {} of {}",
+                id, written, offset, session.getReceivedBytes(), session.getFileSize());
+        return convertToDto(session);
+    }
+
+    /**
+     * Import the fully received file. The session is removed once the file has been stored; if the
+     * import fails the session stays open, so that completion can be retried or the upload aborted.
+     */
+    public ImportResultDto completeSession(String id)
+            throws UploadSessionNotFoundException, UploadOffsetConflictException, UnsupportedFileTypeException,
+                   FileParsingException, ParseTemplateNotFoundException {
+        UploadSession session = findSession(id);
+        if (!session.isComplete()) {
+            throw new UploadOffsetConflictException(session.getReceivedBytes(), "Upload is incomplete: received "
+                    + session.getReceivedBytes() + " of " + session.getFileSize() + " bytes");
+        }
+        if (uploadSessionRepository.markCompleting(id, LocalDateTime.now()) == 0) {
+            throw new UploadOffsetConflictException(session.getReceivedBytes(), "Upload is already being completed");
+        }
+
+        ImportResultDto result;
+        try {
+            RecordTemplate template = parseTemplateService.getRecordTemplate(session.getTemplateName());
+            result = lostItemService.uploadAndParseFile(new SpooledMultipartFile(session.getFileName(),
+                    session.getContentType(), spoolPath(id), session.getFileSize()), session.getMode(), template);
+        } catch (Exception e) {
+            uploadSessionRepository.reopen(id, LocalDateTime.now());
+            throw e;
+        }
+
+        deleteSession(id);
+        log.info("Completed upload session {} for {} (import {})", id, session.getFileName(), result.getImportId());
+        return result;
+    }
+
+    /**
+     * Remove an open session with its file; a session that is being completed still needs its file
+     */
+    public void abortSession(String id) throws UploadSessionNotFoundException, UploadOffsetConflictException {
+        UploadSession session = findSession(id);
+        if (uploadSessionRepository.deleteIfOpen(id) == 0) {
+            throw new UploadOffsetConflictException(session.getReceivedBytes(),
+                    "Upload is being completed and cannot be aborted");
+        }
+        deleteSpoolFile(id);
+        log.info("Aborted upload session {}", id);
+    }
+
+    /**
+     * Remove open sessions that received nothing for longer than the session timeout, with their spool
+     * files. Sessions being completed are left to the completing request.
+     */
+    @Scheduled(fixedDelayString = "${file.upload.chunked.cleanup-interval:PT1H}",
+               initialDelayString = "${file.upload.chunked.cleanup-interval:PT1H}")
+    public void removeExpiredSessions() {
+        int removed = 0;
+        for (String id : uploadSessionRepository.findOpenIdsUpdatedBefore(LocalDateTime.now().minus(sessionTimeout))) {
+            if (uploadSessionRepository.deleteIfOpen(id) == 1) {
+                deleteSpoolFile(id);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("Removed {} expired upload sessions", removed);
+        }
+    }
+
+    private UploadSession findSession(String id) throws UploadSessionNotFoundException {
+        UploadSession session = uploadSessionRepository.findById(id)
+                .orElseThrow(() -> new UploadSessionNotFoundException("Upload session not found with id: " + id));
+        if (!Files.exists(spoolPath(id))) {
+            // e.g. the upload directory was not kept across a restart; the acknowledged bytes are gone
+            uploadSessionRepository.deleteById(id);
+            throw new UploadSessionNotFoundException("Data of upload session " + id + " is no longer available");
+        }
+        return session;
+    }
+
+    private void deleteSession(String id) {
+        uploadSessionRepository.deleteById(id);
+        deleteSpoolFile(id);
+    }
+
+    private void deleteSpoolFile(String id) {
+        try {
+            Files.deleteIfExists(spoolPath(id));
+        } catch (IOException e) {
+            log.warn("Failed to delete upload file of session {}: {}", id, e.getMessage());
+        }
+    }
+
+    private Path spoolPath(String id) {
+        return spoolDirectory.resolve(id + ".part");
+    }
+
+    private UploadSessionDto convertToDto(UploadSession session) {
+        return UploadSessionDto.builder()
+                .id(session.getId())
+                .fileName(session.getFileName())
+                .contentType(session.getContentType())
+                .fileSize(session.getFileSize())
+                .receivedBytes(session.getReceivedBytes())
+                .mode(session.getMode())
+                .template(session.getTemplateName())
+                .status(session.getStatus())
+                .createdAt(session.getCreatedAt())
+                .expiresAt(session.getUpdatedAt() != null ? session.getUpdatedAt().plus(sessionTimeout) : null)
+                .build();
+    }
+}
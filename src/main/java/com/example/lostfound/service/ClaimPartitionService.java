@@ -0,0 +1,126 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.repository.ClaimNotesRepository;
+import com.example.lostfound.repository.ClaimPartitionRepository;
+import com.example.lostfound.repository.ClaimPartitionRepository.ClaimPartition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maintains the monthly partitions of claims (MySQL only): splits the coming months off the future
+ * partition before claims arrive in them, and applies the retention policy by dropping partitions whose
+ * months all lie beyond it. Dropping a partition removes its claims at once, so a partition that still
+ * holds pending or approved claims is kept: their quantity is still held from their items. It is dropped
+ * once they are closed, e.g. rejected through the bulk transitions, which gives the quantity back.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.claims.partitioning", name = "enabled", havingValue = "true")
+public class ClaimPartitionService {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final ClaimPartitionRepository partitionRepository;
+    private final ClaimNotesRepository claimNotesRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public ClaimPartitionService(ClaimPartitionRepository partitionRepository,
+                                 ClaimNotesRepository claimNotesRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.claims.partitioning.months-ahead:3}") int monthsAhead,
+                                 @Value("${app.claims.partitioning.retention-months:24}") int retentionMonths) {
+        this.partitionRepository = partitionRepository;
+        this.claimNotesRepository = claimNotesRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Runs at startup and then every maintenance interval. Several instances may run it at once; DDL
+     * that another one applied first fails here and is redone, if still needed, on the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.claims.partitioning.maintenance-interval:PT6H}")
+    public void maintainPartitions() {
+        try {
+            maintainPartitions(LocalDate.now());
+        } catch (DataAccessException e) {
+            log.error("Claim partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    void maintainPartitions(LocalDate today) {
+        List<ClaimPartition> partitions = partitionRepository.findPartitions();
+        if (partitions.stream().noneMatch(partition ->
+                ClaimPartitionRepository.FUTURE_PARTITION.equals(partition.name()))) {
+            log.warn("claims has no {} partition; partition maintenance skipped",
+                    ClaimPartitionRepository.FUTURE_PARTITION);
+            return;
+        }
+        LocalDate currentMonth = today.withDayOfMonth(1);
+        addPartitions(partitions, currentMonth.plusMonths(monthsAhead + 1L));
+        if (retentionMonths > 0) {
+            dropExpiredPartitions(partitions, currentMonth.minusMonths(retentionMonths));
+        }
+    }
+
+    // Monthly partitions up to, not including, the given month
+    private void addPartitions(List<ClaimPartition> partitions, LocalDate until) {
+        LocalDate month = partitions.stream()
+                .map(ClaimPartition::upperBound)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(until);
+        for (; month.isBefore(until); month = month.plusMonths(1)) {
+            partitionRepository.splitFuturePartition(PARTITION_NAME.format(month), month.plusMonths(1));
+            log.info("Added claims partition {}", PARTITION_NAME.format(month));
+        }
+    }
+
+    // Partitions are in claim_date order, each from the upper bound of the one before
+    private void dropExpiredPartitions(List<ClaimPartition> partitions, LocalDate cutoff) {
+        List<String> expired = new ArrayList<>();
+        List<LocalDate[]> expiredRanges = new ArrayList<>();
+        long expiredRows = 0;
+        LocalDate from = null;
+        for (ClaimPartition partition : partitions) {
+            LocalDate to = partition.upperBound();
+            if (to == null || to.isAfter(cutoff)) {
+                break;
+            }
+            long openClaims = partitionRepository.countOpenClaims(from, to);
+            if (openClaims > 0) {
+                log.warn("Claims partition {} is past the retention but kept: {} of its claims are still " +
+                        "pending or approved", partition.name(), openClaims);
+            } else {
+                expiredRanges.add(new LocalDate[] {from, to});
+                expired.add(partition.name());
+                expiredRows += partition.approximateRows();
+            }
+            from = to;
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        // Committed before the drop, while the claims are still there to find the notes by; the drop is
+        // DDL on another connection, and with auto-commit off an uncommitted delete is rolled back
+        transactionTemplate.executeWithoutResult(transaction -> expiredRanges.forEach(range ->
+                claimNotesRepository.deleteNotesOfClaimsMadeBetween(range[0], range[1])));
+        partitionRepository.dropPartitions(expired);
+        log.info("Dropped claims partitions {} (about {} claims from before {})", expired, expiredRows, cutoff);
+    }
+}
@@ -2,13 +2,17 @@ package com.example.lostfound.service;
 
 import com.example.lostfound.dto.ClaimDto;
 import com.example.lostfound.dto.ClaimRequest;
+import com.example.lostfound.dto.ClaimTransitionRequest;
+import com.example.lostfound.dto.ClaimTransitionResultDto;
 import com.example.lostfound.entity.Claim;
 import com.example.lostfound.entity.ClaimStatus;
 import com.example.lostfound.entity.LostItem;
 import com.example.lostfound.entity.User;
 import com.example.lostfound.exception.InsufficientQuantityException;
+import com.example.lostfound.exception.InvalidSortException;
 import com.example.lostfound.exception.LostItemNotFoundException;
 import com.example.lostfound.exception.UserNotFoundException;
+import com.example.lostfound.repository.ClaimNotesRepository;
 import com.example.lostfound.repository.ClaimRepository;
 import com.example.lostfound.repository.LostItemRepository;
 import com.example.lostfound.repository.UserRepository;
@@ -19,14 +23,32 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ClaimService {
     
+    // Bounds of an open side of a date range, within the DATETIME range of MySQL
+    private static final LocalDate EARLIEST_CLAIM_DATE = LocalDate.of(1970, 1, 1);
+    private static final LocalDate LATEST_CLAIM_DATE = LocalDate.of(9999, 12, 31);
+    
     private final ClaimRepository claimRepository;
     private final LostItemRepository lostItemRepository;
     private final UserRepository userRepository;
+    private final AvailabilityCounterService availabilityCounterService;
+    private final ClaimNotesRepository claimNotesRepository;
+    private final PagePolicy pagePolicy;
     
     @Transactional
     public ClaimDto createClaim(ClaimRequest request, String username) 
@@ -55,6 +77,9 @@ public class ClaimService {
         
         // Save the updated item
         lostItemRepository.save(lostItem);
+        if (!lostItem.isAvailable()) {
+            availabilityCounterService.record(lostItem.getPlace(), -1); // this claim took the last of it
+        }
         
         // Create the claim
         Claim claim = Claim.builder()
@@ -66,16 +91,120 @@ public class ClaimService {
                 .build();
         
         Claim savedClaim = claimRepository.save(claim);
+        if (request.getNotes() != null) {
+            claimNotesRepository.saveNotes(savedClaim.getId(), request.getNotes());
+        }
         log.info("Claim created successfully with id: {}", savedClaim.getId());
         
         return convertToDto(savedClaim);
     }
     
+    @Transactional(readOnly = true)
     public Page<ClaimDto> getAllClaims(Pageable pageable) {
         return claimRepository.findAllWithUserAndItem(pageable)
                 .map(this::convertToDto);
     }
     
+    /**
+     * Claims made from {@code from} through {@code to} (both days included), optionally of one status.
+     * Either bound may be left open; a bounded range reads only the claims partitions it covers. Notes
+     * are only loaded when asked for. Sorts and page size as allowed by {@link PagePolicy}.
+     */
+    @Transactional(readOnly = true)
+    public Page<ClaimDto> getClaims(ClaimStatus status, LocalDate from, LocalDate to, boolean withNotes, 
+                                    Pageable request) throws InvalidSortException {
+        Pageable pageable = pagePolicy.apply(PagePolicy.Listing.CLAIMS, request);
+        Page<ClaimDto> claims;
+        if (status == null && from == null && to == null) {
+            claims = getAllClaims(pageable);
+        } else {
+            LocalDateTime start = (from != null ? from : EARLIEST_CLAIM_DATE).atStartOfDay();
+            LocalDateTime end = (to != null ? to.plusDays(1) : LATEST_CLAIM_DATE).atStartOfDay();
+            claims = claimRepository.findByClaimDateRangeWithUserAndItem(start, end, status, pageable)
+                    .map(this::convertToDto);
+        }
+        if (withNotes) {
+            Map<Long, String> notes = claimNotesRepository.findNotes(
+                    claims.getContent().stream().map(ClaimDto::getId).toList());
+            claims.forEach(claim -> claim.setNotes(notes.get(claim.getId())));
+        }
+        return claims;
+    }
+    
+    /**
+     * Change the status of many claims in one transaction. Each claim is checked against the allowed
+     * transitions of {@link ClaimStatus} and reported with its outcome; claims that cannot change are
+     * left as they are and do not fail the others. The valid ones change in one UPDATE. The quantity of
+     * rejected claims goes back to their items, summed per item into one UPDATE each.
+     */
+    @Transactional
+    public ClaimTransitionResultDto transitionClaims(ClaimTransitionRequest request) {
+        ClaimStatus target = request.getStatus();
+        Set<Long> ids = new LinkedHashSet<>(request.getClaimIds());
+        
+        // Locked, so that no concurrent change gets between the check and the update
+        Map<Long, Claim> claims = new HashMap<>();
+        for (Claim claim : claimRepository.findAllByIdForUpdate(ids)) {
+            claims.put(claim.getId(), claim);
+        }
+        
+        List<ClaimTransitionResultDto.ClaimOutcome> outcomes = new ArrayList<>(ids.size());
+        List<Long> transitioned = new ArrayList<>();
+        SortedMap<Long, Integer> releasedByItem = new TreeMap<>(); // by item id, the order items are locked in
+        for (Long id : ids) {
+            Claim claim = claims.get(id);
+            ClaimTransitionResultDto.Outcome outcome;
+            if (claim == null) {
+                outcome = ClaimTransitionResultDto.Outcome.NOT_FOUND;
+            } else if (claim.getStatus() == target) {
+                outcome = ClaimTransitionResultDto.Outcome.UNCHANGED;
+            } else if (!claim.getStatus().canTransitionTo(target)) {
+                outcome = ClaimTransitionResultDto.Outcome.INVALID_TRANSITION;
+            } else {
+                outcome = ClaimTransitionResultDto.Outcome.TRANSITIONED;
+                transitioned.add(id);
+                if (claim.getStatus().holdsQuantity() && target == ClaimStatus.REJECTED) {
+                    releasedByItem.merge(claim.getLostItem().getId(), claim.getClaimedQuantity(), Integer::sum);
+                }
+            }
+            outcomes.add(ClaimTransitionResultDto.ClaimOutcome.builder()
+                    .claimId(id)
+                    .previousStatus(claim != null ? claim.getStatus() : null)
+                    .outcome(outcome)
+                    .build());
+        }
+        
+        if (!transitioned.isEmpty()) {
+            claimRepository.updateStatus(transitioned, target, ClaimStatus.sourcesOf(target));
+        }
+        int releasedQuantity = releaseQuantities(releasedByItem);
+        
+        log.info("Changed {} of {} claims to {}, released quantity {} to {} items", 
+                transitioned.size(), ids.size(), target, releasedQuantity, releasedByItem.size());
+        return ClaimTransitionResultDto.builder()
+                .status(target)
+                .transitionedCount(transitioned.size())
+                .releasedQuantity(releasedQuantity)
+                .claims(outcomes)
+                .build();
+    }
+    
+    private int releaseQuantities(SortedMap<Long, Integer> releasedByItem) {
+        if (releasedByItem.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        releasedByItem.forEach((itemId, quantity) -> lostItemRepository.releaseQuantity(itemId, quantity, now));
+        
+        // Read under the update's row locks: an item that now has exactly what was released had run out before
+        for (LostItemRepository.ItemStock stock : lostItemRepository.findStockByIds(releasedByItem.keySet())) {
+            if (stock.getRemainingQuantity().equals(releasedByItem.get(stock.getId()))) {
+                availabilityCounterService.record(stock.getPlace(), 1);
+            }
+        }
+        return releasedByItem.values().stream().mapToInt(Integer::intValue).sum();
+    }
+    
     private ClaimDto convertToDto(Claim claim) {
         return ClaimDto.builder()
                 .id(claim.getId())
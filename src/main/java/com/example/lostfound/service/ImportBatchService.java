@@ -0,0 +1,127 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ImportBatchDto;
+import com.example.lostfound.dto.ImportRollbackResultDto;
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.exception.ImportNotFoundException;
+import com.example.lostfound.exception.ImportRollbackConflictException;
+import com.example.lostfound.repository.ImportBatchRepository;
+import com.example.lostfound.repository.ImportMergeRepository;
+import com.example.lostfound.repository.ImportMergeRepository.MergedQuantity;
+import com.example.lostfound.repository.LostItemDetailsRepository;
+import com.example.lostfound.repository.LostItemRepository;
+import com.example.lostfound.repository.LostItemRepository.ImportItemCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists imports and rolls them back. A rollback works on whole sets of rows, with a fixed number of
+ * statements plus one per distinct merged amount, however many items the import touched.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportBatchService {
+    
+    private final ImportBatchRepository importBatchRepository;
+    private final ImportMergeRepository importMergeRepository;
+    private final LostItemRepository lostItemRepository;
+    private final LostItemDetailsRepository lostItemDetailsRepository;
+    private final AvailabilityCounterService availabilityCounterService;
+    
+    @Transactional(readOnly = true)
+    public Page<ImportBatchDto> getImports(Pageable pageable) {
+        Page<ImportBatch> batches = importBatchRepository.findAll(pageable);
+        if (batches.isEmpty()) {
+            return batches.map(batch -> convertToDto(batch, 0));
+        }
+        
+        Map<Long, Long> itemCounts = new HashMap<>();
+        for (ImportItemCount count : lostItemRepository.countByImportBatchIds(
+                batches.map(ImportBatch::getId).getContent())) {
+            itemCounts.put(count.getImportBatchId(), count.getItemCount());
+        }
+        return new PageImpl<>(batches.stream()
+                .map(batch -> convertToDto(batch, itemCounts.getOrDefault(batch.getId(), 0L)))
+                .toList(), pageable, batches.getTotalElements());
+    }
+    
+    /**
+     * Undo an import: quantities it merged into existing items are taken back, the items it created are
+     * deleted, and created items that already have claims are kept with their unclaimed stock withdrawn.
+     * The import record itself is removed, so the same file can be imported again.
+     * <p>
+     * Items that run out are counted before the updates, without locking them first; should a claim
+     * on one of them commit in between, the availability counters are off until the next reconciliation.
+     * @throws ImportRollbackConflictException if a later import merged records into items of this one;
+     *         that import has to be rolled back first
+     */
+    @Transactional
+    public ImportRollbackResultDto rollbackImport(Long id) 
+            throws ImportNotFoundException, ImportRollbackConflictException {
+        ImportBatch batch = importBatchRepository.findById(id)
+                .orElseThrow(() -> new ImportNotFoundException("Import not found with id: " + id));
+        if (importMergeRepository.existsMergeIntoImport(id)) {
+            throw new ImportRollbackConflictException("Later imports merged records into items of import " + id 
+                    + "; roll those back first");
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, List<Long>> itemIdsByAmount = new HashMap<>();
+        for (MergedQuantity merged : importMergeRepository.findMergedQuantities(id)) {
+            itemIdsByAmount.computeIfAbsent(Math.toIntExact(merged.getQuantity()), amount -> new ArrayList<>())
+                    .add(merged.getLostItemId());
+        }
+        int revertedCount = 0;
+        for (Map.Entry<Integer, List<Long>> entry : itemIdsByAmount.entrySet()) {
+            availabilityCounterService.recordDepleted(
+                    lostItemRepository.countByPlaceDepletedBy(entry.getValue(), entry.getKey()));
+            revertedCount += lostItemRepository.subtractQuantity(entry.getValue(), entry.getKey(), now);
+        }
+        
+        // Every item still attributed to the import is deleted or withdrawn, so none stays available
+        availabilityCounterService.recordDepleted(lostItemRepository.countAvailableByPlaceForImportBatch(id));
+        lostItemDetailsRepository.deleteUnclaimedByImportBatchId(id);
+        int deletedCount = lostItemRepository.deleteUnclaimedByImportBatchId(id);
+        int withdrawnCount = lostItemRepository.withdrawByImportBatchId(id, now);
+        importMergeRepository.deleteByImportBatchId(id);
+        importBatchRepository.delete(batch);
+        
+        log.info("Rolled back import {} ({}): deleted {} items, withdrew {} claimed items, reverted {} merges", 
+                id, batch.getFileName(), deletedCount, withdrawnCount, revertedCount);
+        return ImportRollbackResultDto.builder()
+                .importId(id)
+                .fileName(batch.getFileName())
+                .deletedCount(deletedCount)
+                .withdrawnCount(withdrawnCount)
+                .revertedCount(revertedCount)
+                .build();
+    }
+    
+    private ImportBatchDto convertToDto(ImportBatch batch, long currentItemCount) {
+        return ImportBatchDto.builder()
+                .id(batch.getId())
+                .fileName(batch.getFileName())
+                .contentType(batch.getContentType())
+                .fileSize(batch.getFileSize())
+                .mode(batch.getMode())
+                .itemsCount(batch.getItemCount())
+                .createdCount(batch.getCreatedCount())
+                .mergedCount(batch.getMergedCount() != null ? batch.getMergedCount() : 0)
+                .rejectedCount(batch.getRejectedCount() != null ? batch.getRejectedCount() : 0)
+                .currentItemCount(currentItemCount)
+                .importedAt(batch.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.FileImportResultDto;
+import com.example.lostfound.dto.FileImportResultDto.Status;
+import com.example.lostfound.dto.ImportResultDto;
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.service.parser.FileParsingStrategy;
+import com.example.lostfound.service.parser.RecordTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The two halves of importing one file of a multi-file upload: {@link #parse} is safe to run on the
+ * import executor, {@link #store} runs on the request thread inside whatever transaction the caller chose.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportPipeline {
+
+    private final LostItemService lostItemService;
+
+    /**
+     * Hash the file and parse it unless the same content was imported before. Never throws; failures
+     * are returned as a failed {@link ParsedFile}.
+     */
+    public ParsedFile parse(int index, MultipartFile file, FileParsingStrategy strategy, RecordTemplate template) {
+        try {
+            String contentHash = lostItemService.computeContentHash(file);
+            Optional<ImportResultDto> previousImport = lostItemService.findPreviousImport(contentHash);
+            if (previousImport.isPresent()) {
+                return new ParsedFile(index, file, contentHash, previousImport.get(), null, null);
+            }
+            return new ParsedFile(index, file, contentHash, null, strategy.parseFile(file, template), null);
+        } catch (FileParsingException e) {
+            return failed(index, file, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Failed to parse file: {}", file.getOriginalFilename(), e);
+            return failed(index, file, "Error parsing file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Store a parsed file as its own import. Persistence failures propagate so that the caller's
+     * transaction decides what is rolled back.
+     * @param importIdsByHash imports created earlier in the same upload, so repeated content is stored once
+     */
+    public FileImportResultDto store(ParsedFile parsed, ImportMode mode, Map<String, Long> importIdsByHash) {
+        String fileName = parsed.file().getOriginalFilename();
+        if (parsed.error() != null) {
+            return failedResult(fileName, parsed.error());
+        }
+        if (parsed.previousImport() != null) {
+            return FileImportResultDto.builder()
+                    .fileName(fileName)
+                    .status(Status.DUPLICATE)
+                    .importId(parsed.previousImport().getImportId())
+                    .itemsCount(parsed.previousImport().getItemsCount())
+                    .build();
+        }
+        Long earlierImportId = importIdsByHash.get(parsed.contentHash());
+        if (earlierImportId != null) {
+            return FileImportResultDto.builder()
+                    .fileName(fileName)
+                    .status(Status.DUPLICATE)
+                    .importId(earlierImportId)
+                    .build();
+        }
+
+        ImportResultDto imported = lostItemService.saveImport(ImportBatch.builder()
+                .contentHash(parsed.contentHash())
+                .fileName(fileName)
+                .contentType(parsed.file().getContentType())
+                .fileSize(parsed.file().getSize())
+                .mode(mode)
+                .itemCount(0)
+                .createdCount(0)
+                .build(), parsed.items());
+        importIdsByHash.put(parsed.contentHash(), imported.getImportId());
+        return FileImportResultDto.builder()
+                .fileName(fileName)
+                .status(Status.IMPORTED)
+                .importId(imported.getImportId())
+                .itemsCount(imported.getItemsCount())
+                .createdCount(imported.getCreatedCount())
+                .mergedCount(imported.getMergedCount())
+                .build();
+    }
+
+    public static FileImportResultDto failedResult(String fileName, String error) {
+        return FileImportResultDto.builder()
+                .fileName(fileName)
+                .status(Status.FAILED)
+                .error(error)
+                .build();
+    }
+
+    private static ParsedFile failed(int index, MultipartFile file, String error) {
+        return new ParsedFile(index, file, null, null, null, error);
+    }
+
+    /**
+     * Result of {@link #parse}: exactly one of previousImport, items and error is set
+     * @param index position of the file in the upload, so results can be reported in upload order
+     */
+    public record ParsedFile(int index, MultipartFile file, String contentHash,
+                             ImportResultDto previousImport, List<LostItem> items, String error) {
+
+        public boolean isFailed() {
+            return error != null;
+        }
+    }
+}
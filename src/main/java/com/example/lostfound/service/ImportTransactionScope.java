@@ -0,0 +1,6 @@
+package com.example.lostfound.service;
+
+public enum ImportTransactionScope {
+    PER_FILE, // each file is committed on its own; a failing file does not affect the others
+    SINGLE    // all files are committed together, or nothing is stored if any file fails
+}
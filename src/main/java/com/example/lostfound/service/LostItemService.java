@@ -1,64 +1,453 @@
 package com.example.lostfound.service;
 
+import com.example.lostfound.dto.ImportResultDto;
 import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.dto.SearchMode;
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.entity.ImportMerge;
+import com.example.lostfound.entity.ImportMode;
 import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.repository.ImportBatchRepository;
+import com.example.lostfound.repository.ImportMergeRepository;
+import com.example.lostfound.repository.LostItemDetailsRepository;
+import com.example.lostfound.repository.LostItemKeyRepository;
 import com.example.lostfound.repository.LostItemRepository;
+import com.example.lostfound.repository.LostItemRepository.MergeKeySource;
+import com.example.lostfound.repository.LostItemRepository.MergeTarget;
 import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.ImportNotFoundException;
+import com.example.lostfound.exception.InvalidSortException;
+import com.example.lostfound.exception.LostItemNotFoundException;
 import com.example.lostfound.service.parser.FileParsingStrategy;
 import com.example.lostfound.service.parser.FileParsingStrategyFactory;
+import com.example.lostfound.service.parser.ParseResult;
+import com.example.lostfound.service.parser.RecordTemplate;
 import com.example.lostfound.exception.UnsupportedFileTypeException;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LostItemService {
     
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+    private static final int IMPORT_CHUNK_SIZE = 500; // items stored per flush; bounds the IN list of merge-key lookups
+    private static final int BACKFILL_PAGE_SIZE = 500;
+    
     private final LostItemRepository lostItemRepository;
+    private final ImportBatchRepository importBatchRepository;
+    private final ImportMergeRepository importMergeRepository;
     private final FileParsingStrategyFactory parsingStrategyFactory;
+    private final AvailabilityCounterService availabilityCounterService;
+    private final EntityManager entityManager;
+    private final LostItemDetailsRepository lostItemDetailsRepository;
+    private final LostItemKeyRepository lostItemKeyRepository;
+    private final PagePolicy pagePolicy;
     
-    @Transactional
-    public List<LostItemDto> uploadAndParseFile(MultipartFile file) 
+    @Transactional(rollbackFor = Exception.class)
+    public ImportResultDto uploadAndParseFile(MultipartFile file) 
+            throws UnsupportedFileTypeException, FileParsingException {
+        return uploadAndParseFile(file, ImportMode.APPEND);
+    }
+    
+    @Transactional(rollbackFor = Exception.class)
+    public ImportResultDto uploadAndParseFile(MultipartFile file, ImportMode mode) 
+            throws UnsupportedFileTypeException, FileParsingException {
+        return uploadAndParseFile(file, mode, RecordTemplate.DEFAULT);
+    }
+    
+    /**
+     * Parse the file chunk by chunk and store each chunk as soon as it is parsed. Stored items are
+     * detached again, so memory use does not grow with the size of the import; the created items can
+     * be paged through with {@link #getImportItems(Long, Pageable, boolean)}.
+     * @param template layout of key-value records (PDF and text files), see ParseTemplateService
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ImportResultDto uploadAndParseFile(MultipartFile file, ImportMode mode, RecordTemplate template) 
             throws UnsupportedFileTypeException, FileParsingException {
         
-        log.info("Processing file upload: {} (size: {} bytes)", 
-                file.getOriginalFilename(), file.getSize());
+        log.info("Processing file upload: {} (size: {} bytes, mode: {})", 
+                file.getOriginalFilename(), file.getSize(), mode);
+        long start = System.nanoTime();
         
         if (file.isEmpty()) {
             throw new FileParsingException("File is empty");
         }
         
+        String contentType = file.getContentType();
         FileParsingStrategy strategy = parsingStrategyFactory.getStrategy(
-                file.getContentType(), file.getOriginalFilename());
+                contentType, file.getOriginalFilename());
+        
+        String contentHash = computeContentHash(file);
+        Optional<ImportResultDto> previousImport = findPreviousImport(contentHash);
+        if (previousImport.isPresent()) {
+            log.info("File {} has the same content as import {} ({}), skipping", 
+                    file.getOriginalFilename(), previousImport.get().getImportId(), 
+                    previousImport.get().getFileName());
+            return previousImport.get();
+        }
         
-        List<LostItem> parsedItems = strategy.parseFile(file);
+        ImportBatch batch = importBatchRepository.save(ImportBatch.builder()
+                .contentHash(contentHash)
+                .fileName(file.getOriginalFilename())
+                .contentType(contentType)
+                .fileSize(file.getSize())
+                .mode(mode)
+                .itemCount(0)
+                .createdCount(0)
+                .build());
         
-        if (parsedItems.isEmpty()) {
+        ImportCounts counts = new ImportCounts();
+        ParseResult parsed = strategy.parseFile(file, template, IMPORT_CHUNK_SIZE, chunk -> {
+            storeChunk(chunk, batch, counts);
+            entityManager.flush();
+            entityManager.clear();
+        });
+        
+        if (parsed.itemCount() == 0) {
             log.warn("No items were parsed from file: {}", file.getOriginalFilename());
             throw new FileParsingException("No valid items found in the file");
         }
         
-        List<LostItem> savedItems = lostItemRepository.saveAll(parsedItems);
-        log.info("Successfully saved {} items from file: {}", 
-                savedItems.size(), file.getOriginalFilename());
+        return finishImport(batch, parsed.itemCount(), counts, parsed.rejectedCount(), start);
+    }
+    
+    /**
+     * Persist items that were parsed elsewhere (e.g. on a worker thread) as one import
+     * @param batch unsaved batch describing the source; its mode decides whether items are appended or merged
+     */
+    @Transactional
+    public ImportResultDto saveImport(ImportBatch batch, List<LostItem> items) {
+        long start = System.nanoTime();
+        batch.setItemCount(0);
+        batch.setCreatedCount(0);
+        ImportBatch savedBatch = importBatchRepository.save(batch);
         
-        return savedItems.stream()
+        ImportCounts counts = new ImportCounts();
+        for (int from = 0; from < items.size(); from += IMPORT_CHUNK_SIZE) {
+            storeChunk(items.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, items.size())), savedBatch, counts);
+        }
+        return finishImport(savedBatch, items.size(), counts, 
+                batch.getRejectedCount() != null ? batch.getRejectedCount() : 0, start);
+    }
+    
+    /**
+     * Items created by an import, as far as they are still attributed to it
+     */
+    @Transactional(readOnly = true)
+    public Page<LostItemDto> getImportItems(Long importId, Pageable pageable, boolean withDescription) 
+            throws ImportNotFoundException, InvalidSortException {
+        if (!importBatchRepository.existsById(importId)) {
+            throw new ImportNotFoundException("Import not found with id: " + importId);
+        }
+        Page<LostItemDto> items = lostItemRepository.findByImportBatchId(importId, 
+                        pagePolicy.apply(PagePolicy.Listing.IMPORT_ITEMS, pageable))
+                .map(this::convertToDto);
+        if (withDescription) {
+            addDescriptions(items.getContent());
+        }
+        return items;
+    }
+    
+    /**
+     * The earlier import of the same content, if there was one
+     */
+    @Transactional(readOnly = true)
+    public Optional<ImportResultDto> findPreviousImport(String contentHash) {
+        return importBatchRepository.findByContentHash(contentHash)
+                .map(batch -> ImportResultDto.builder()
+                        .importId(batch.getId())
+                        .fileName(batch.getFileName())
+                        .contentHash(contentHash)
+                        .mode(batch.getMode())
+                        .itemsCount(batch.getItemCount())
+                        .createdCount(batch.getCreatedCount() != null ? batch.getCreatedCount() : 0)
+                        .mergedCount(batch.getMergedCount() != null ? batch.getMergedCount() : 0)
+                        .rejectedCount(batch.getRejectedCount() != null ? batch.getRejectedCount() : 0)
+                        .importedAt(batch.getCreatedAt())
+                        .duplicate(true)
+                        .build());
+    }
+    
+    /**
+     * Stream the upload through SHA-256 without loading it into memory
+     */
+    public String computeContentHash(MultipartFile file) throws FileParsingException {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new FileParsingException("Failed to read uploaded file: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    /**
+     * Items created before merge keys existed have none; fill them in so that merge imports can find them.
+     * One batch per page of items; once all are filled in, only the lookup of the first page runs.
+     * @return number of items updated
+     */
+    @Transactional
+    public int backfillMergeKeys() {
+        int updated = 0;
+        List<MergeKeySource> sources;
+        while (!(sources = lostItemRepository.findWithoutMergeKey(PageRequest.of(0, BACKFILL_PAGE_SIZE))).isEmpty()) {
+            lostItemKeyRepository.updateMergeKeys(sources);
+            evictFromCache(sources);
+            updated += sources.size();
+        }
+        if (updated > 0) {
+            log.info("Backfilled merge keys for {} items", updated);
+        }
+        return updated;
+    }
+    
+    /**
+     * Items created before search keys existed have none; fill them in so that search finds them.
+     * One batch per page of items, as for {@link #backfillMergeKeys()}.
+     * @return number of items updated
+     */
+    @Transactional
+    public int backfillSearchKeys() {
+        int updated = 0;
+        List<MergeKeySource> sources;
+        while (!(sources = lostItemRepository.findWithoutSearchKeys(PageRequest.of(0, BACKFILL_PAGE_SIZE))).isEmpty()) {
+            lostItemKeyRepository.updateSearchKeys(sources);
+            evictFromCache(sources);
+            updated += sources.size();
+        }
+        if (updated > 0) {
+            log.info("Backfilled search keys for {} items", updated);
+        }
+        return updated;
+    }
+    
+    /**
+     * A page of available items; the total is read from the availability counters instead of counted.
+     * Descriptions are only loaded when asked for. Sorts and page size as allowed by {@link PagePolicy}.
+     */
+    @Transactional(readOnly = true)
+    public Page<LostItemDto> getAvailableItems(Pageable request, boolean withDescription) throws InvalidSortException {
+        Pageable pageable = pagePolicy.apply(PagePolicy.Listing.AVAILABLE_ITEMS, request);
+        log.debug("Retrieving available items with pagination: {}", pageable);
+        List<LostItemDto> items = lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable).stream()
                 .map(this::convertToDto)
                 .toList();
+        if (withDescription) {
+            addDescriptions(items);
+        }
+        return PageableExecutionUtils.getPage(items, pageable, availabilityCounterService::getAvailableItems);
     }
     
-    public Page<LostItemDto> getAvailableItems(Pageable pageable) {
-        log.debug("Retrieving available items with pagination: {}", pageable);
-        return lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable)
+    /**
+     * Available items by item name and place, either of which may be left out. Both are compared as search
+     * keys (LostItem.searchKeyOf), so case, accents and extra whitespace do not matter. PREFIX reads the
+     * search indexes; SUBSTRING also finds text inside the name or place, but reads every available item.
+     */
+    @Transactional(readOnly = true)
+    public Page<LostItemDto> searchAvailableItems(String itemName, String place, SearchMode mode, 
+                                                  Pageable request, boolean withDescription) 
+            throws InvalidSortException {
+        Pageable pageable = pagePolicy.apply(PagePolicy.Listing.SEARCH, request);
+        log.debug("Searching available items by name '{}' and place '{}' ({}) with pagination: {}", 
+                itemName, place, mode, pageable);
+        Page<LostItemDto> items = lostItemRepository.findAvailableItemsWithFilters(
+                        searchPattern(itemName, mode), searchPattern(place, mode), pageable)
                 .map(this::convertToDto);
+        if (withDescription) {
+            addDescriptions(items.getContent());
+        }
+        return items;
+    }
+    
+    /**
+     * One item with its description
+     */
+    @Transactional(readOnly = true)
+    public LostItemDto getItem(Long id) throws LostItemNotFoundException {
+        LostItemDto item = lostItemRepository.findById(id)
+                .map(this::convertToDto)
+                .orElseThrow(() -> new LostItemNotFoundException("Lost item not found with id: " + id));
+        addDescriptions(List.of(item));
+        return item;
+    }
+    
+    /**
+     * Store one chunk of an import: appended as new items, or folded into existing items in merge mode
+     */
+    private void storeChunk(List<LostItem> chunk, ImportBatch batch, ImportCounts counts) {
+        if (batch.getMode() == ImportMode.MERGE) {
+            mergeChunk(chunk, batch.getId(), counts);
+            return;
+        }
+        chunk.forEach(item -> item.setImportBatchId(batch.getId()));
+        List<LostItem> saved = lostItemRepository.saveAll(chunk);
+        lostItemDetailsRepository.saveDescriptions(saved);
+        availabilityCounterService.recordCreated(saved);
+        counts.created += saved.size();
+    }
+    
+    private ImportResultDto finishImport(ImportBatch batch, int itemCount, ImportCounts counts, int rejectedCount, 
+                                         long startNanos) {
+        int createdCount = counts.created;
+        batch.setItemCount(itemCount);
+        batch.setCreatedCount(createdCount);
+        batch.setMergedCount(counts.merged);
+        batch.setRejectedCount(rejectedCount);
+        ImportBatch savedBatch = importBatchRepository.save(batch);
+        long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+        
+        if (savedBatch.getMode() == ImportMode.MERGE) {
+            log.info("Merged {} records from file: {} into {} existing items, created {} (import {}, {} ms)", 
+                    itemCount, savedBatch.getFileName(), savedBatch.getMergedCount(), createdCount, 
+                    savedBatch.getId(), durationMs);
+        } else {
+            log.info("Successfully saved {} items from file: {} (import {}, {} ms)", 
+                    createdCount, savedBatch.getFileName(), savedBatch.getId(), durationMs);
+        }
+        return toImportResult(savedBatch, durationMs);
+    }
+    
+    /**
+     * Records with the same key are first combined within the chunk; one IN query then finds the existing
+     * items, matches are incremented with one UPDATE per distinct amount (and recorded for rollback)
+     * and the rest are inserted. Records combined into one count neither as created nor as merged.
+     */
+    private void mergeChunk(List<LostItem> chunk, Long importBatchId, ImportCounts counts) {
+        Map<String, LostItem> itemsByKey = new LinkedHashMap<>();
+        for (LostItem item : chunk) {
+            LostItem sameItem = itemsByKey.putIfAbsent(LostItem.mergeKeyOf(item.getItemName(), item.getPlace()), item);
+            if (sameItem != null) {
+                sameItem.setQuantity(Math.addExact(sameItem.getQuantity(), item.getQuantity()));
+                sameItem.setRemainingQuantity(sameItem.getQuantity());
+            }
+        }
+        
+        Map<String, Long> targetIds = new HashMap<>();
+        for (MergeTarget target : lostItemRepository.findMergeTargets(itemsByKey.keySet())) {
+            targetIds.put(target.getMergeKey(), target.getId());
+        }
+        
+        Map<Integer, List<Long>> targetIdsByAmount = new HashMap<>();
+        List<ImportMerge> merges = new ArrayList<>();
+        List<LostItem> newItems = new ArrayList<>();
+        itemsByKey.forEach((key, item) -> {
+            Long targetId = targetIds.get(key);
+            if (targetId != null) {
+                targetIdsByAmount.computeIfAbsent(item.getQuantity(), amount -> new ArrayList<>()).add(targetId);
+                merges.add(ImportMerge.builder()
+                        .importBatchId(importBatchId)
+                        .lostItemId(targetId)
+                        .quantity(item.getQuantity())
+                        .build());
+            } else {
+                item.setImportBatchId(importBatchId);
+                newItems.add(item);
+            }
+        });
+        
+        LocalDateTime now = LocalDateTime.now();
+        targetIdsByAmount.forEach((amount, ids) -> {
+            if (lostItemRepository.addQuantity(ids, amount, now) < ids.size()) {
+                // A target was archived since it was looked up; the import can be retried
+                throw new ObjectOptimisticLockingFailureException(LostItem.class, ids);
+            }
+            counts.merged += ids.size();
+            if (amount > 0) {
+                // Read under the row locks of the update: exactly amount left means there was none before
+                availabilityCounterService.recordAvailable(
+                        lostItemRepository.countByPlaceWithRemainingQuantity(ids, amount));
+            }
+        });
+        if (!merges.isEmpty()) {
+            importMergeRepository.saveAll(merges);
+        }
+        
+        if (newItems.isEmpty()) {
+            return;
+        }
+        List<LostItem> saved = lostItemRepository.saveAll(newItems);
+        lostItemDetailsRepository.saveDescriptions(saved);
+        availabilityCounterService.recordCreated(saved);
+        counts.created += saved.size();
+    }
+    
+    /**
+     * Running totals of an import: items inserted, and existing items whose quantity was increased
+     */
+    private static final class ImportCounts {
+        private int created;
+        private int merged;
+    }
+    
+    private ImportResultDto toImportResult(ImportBatch batch, long durationMs) {
+        return ImportResultDto.builder()
+                .importId(batch.getId())
+                .fileName(batch.getFileName())
+                .contentHash(batch.getContentHash())
+                .mode(batch.getMode())
+                .itemsCount(batch.getItemCount())
+                .createdCount(batch.getCreatedCount())
+                .mergedCount(batch.getMergedCount())
+                .rejectedCount(batch.getRejectedCount())
+                .durationMs(durationMs)
+                .importedAt(batch.getCreatedAt())
+                .duplicate(false)
+                .build();
+    }
+    
+    /**
+     * LIKE pattern for findAvailableItemsWithFilters, or null to match all. The escape character is '!'.
+     */
+    static String searchPattern(String text, SearchMode mode) {
+        String key = LostItem.searchKeyOf(text);
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        String escaped = key.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return mode == SearchMode.SUBSTRING ? "%" + escaped + "%" : escaped + "%";
+    }
+    
+    // Updated behind Hibernate's back, so not through its second-level cache
+    private void evictFromCache(List<MergeKeySource> items) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        items.forEach(item -> cache.evict(LostItem.class, item.getId()));
+    }
+    
+    private void addDescriptions(List<LostItemDto> items) {
+        Map<Long, String> descriptions = lostItemDetailsRepository.findDescriptions(
+                items.stream().map(LostItemDto::getId).toList());
+        items.forEach(item -> item.setDescription(descriptions.get(item.getId())));
     }
     
     private LostItemDto convertToDto(LostItem item) {
@@ -68,7 +457,7 @@ public class LostItemService {
                 .quantity(item.getQuantity())
                 .remainingQuantity(item.getRemainingQuantity())
                 .place(item.getPlace())
-                .description(item.getDescription())
+                .foundDate(item.getFoundDate())
                 .createdAt(item.getCreatedAt())
                 .updatedAt(item.getUpdatedAt())
                 .isAvailable(item.isAvailable())
@@ -0,0 +1,200 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.FileImportResultDto;
+import com.example.lostfound.dto.FileImportResultDto.Status;
+import com.example.lostfound.dto.MultiFileImportResultDto;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.UnsupportedFileTypeException;
+import com.example.lostfound.service.ImportPipeline.ParsedFile;
+import com.example.lostfound.service.parser.FileParsingStrategy;
+import com.example.lostfound.service.parser.FileParsingStrategyFactory;
+import com.example.lostfound.service.parser.RecordTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Imports several files sent in one request. All files are parsed concurrently on the import executor;
+ * the results are then stored on the request thread, either one transaction per file or all in one
+ * transaction, as chosen by the caller.
+ */
+@Slf4j
+@Service
+public class MultiFileImportService {
+
+    private final ImportPipeline importPipeline;
+    private final FileParsingStrategyFactory parsingStrategyFactory;
+    private final ExecutorService importParsingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxFiles;
+
+    public MultiFileImportService(ImportPipeline importPipeline,
+                                  FileParsingStrategyFactory parsingStrategyFactory,
+                                  ExecutorService importParsingExecutor,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${file.upload.batch.max-files:100}") int maxFiles) {
+        this.importPipeline = importPipeline;
+        this.parsingStrategyFactory = parsingStrategyFactory;
+        this.importParsingExecutor = importParsingExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.maxFiles = maxFiles;
+    }
+
+    public MultiFileImportResultDto importFiles(List<MultipartFile> files, ImportMode mode,
+                                                ImportTransactionScope transactionScope)
+            throws FileParsingException {
+        return importFiles(files, mode, transactionScope, RecordTemplate.DEFAULT);
+    }
+
+    /**
+     * @param template layout of key-value records, applied to every PDF and text file
+     */
+    public MultiFileImportResultDto importFiles(List<MultipartFile> files, ImportMode mode,
+                                                ImportTransactionScope transactionScope, RecordTemplate template)
+            throws FileParsingException {
+
+        log.info("Processing multi-file upload: {} files (mode: {}, transaction: {})",
+                files.size(), mode, transactionScope);
+
+        if (files.isEmpty()) {
+            throw new FileParsingException("No files were uploaded");
+        }
+        if (files.size() > maxFiles) {
+            throw new FileParsingException("Too many files: " + files.size() + " (maximum " + maxFiles + ")");
+        }
+
+        FileImportResultDto[] results = new FileImportResultDto[files.size()];
+        List<Future<ParsedFile>> parsing = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            if (file.isEmpty()) {
+                results[i] = ImportPipeline.failedResult(file.getOriginalFilename(), "File is empty");
+                continue;
+            }
+            FileParsingStrategy strategy;
+            try {
+                strategy = parsingStrategyFactory.getStrategy(file.getContentType(), file.getOriginalFilename());
+            } catch (UnsupportedFileTypeException e) {
+                results[i] = ImportPipeline.failedResult(file.getOriginalFilename(), e.getMessage());
+                continue;
+            }
+            int index = i;
+            parsing.add(importParsingExecutor.submit(() -> importPipeline.parse(index, file, strategy, template)));
+        }
+
+        Map<String, Long> importIdsByHash = new HashMap<>();
+        if (transactionScope == ImportTransactionScope.PER_FILE) {
+            for (Future<ParsedFile> future : parsing) {
+                ParsedFile parsed = await(future);
+                results[parsed.index()] = storeInOwnTransaction(parsed, mode, importIdsByHash);
+            }
+        } else {
+            List<ParsedFile> parsedFiles = new ArrayList<>();
+            for (Future<ParsedFile> future : parsing) {
+                parsedFiles.add(await(future));
+            }
+            // results so far only hold files rejected before parsing (empty or unsupported)
+            boolean anyFailed = Arrays.stream(results).anyMatch(Objects::nonNull)
+                    || parsedFiles.stream().anyMatch(ParsedFile::isFailed);
+            if (anyFailed) {
+                for (ParsedFile parsed : parsedFiles) {
+                    results[parsed.index()] = parsed.isFailed()
+                            ? ImportPipeline.failedResult(parsed.file().getOriginalFilename(), parsed.error())
+                            : FileImportResultDto.builder()
+                                    .fileName(parsed.file().getOriginalFilename())
+                                    .status(Status.NOT_STORED)
+                                    .build();
+                }
+            } else {
+                storeInOneTransaction(parsedFiles, mode, importIdsByHash, results);
+            }
+        }
+
+        int importedCount = 0;
+        int failedCount = 0;
+        int itemsCount = 0;
+        for (FileImportResultDto result : results) {
+            if (result.getStatus() == Status.IMPORTED) {
+                importedCount++;
+                itemsCount += result.getItemsCount();
+            } else if (result.getStatus() == Status.FAILED) {
+                failedCount++;
+            }
+        }
+        log.info("Imported {} of {} uploaded files ({} failed, {} items)",
+                importedCount, files.size(), failedCount, itemsCount);
+
+        return MultiFileImportResultDto.builder()
+                .mode(mode)
+                .transactionScope(transactionScope)
+                .filesCount(files.size())
+                .importedCount(importedCount)
+                .failedCount(failedCount)
+                .itemsCount(itemsCount)
+                .files(List.of(results))
+                .build();
+    }
+
+    private FileImportResultDto storeInOwnTransaction(ParsedFile parsed, ImportMode mode,
+                                                      Map<String, Long> importIdsByHash) {
+        try {
+            return importPipeline.store(parsed, mode, importIdsByHash);
+        } catch (RuntimeException e) {
+            log.error("Failed to store items from file: {}", parsed.file().getOriginalFilename(), e);
+            return ImportPipeline.failedResult(parsed.file().getOriginalFilename(), "Failed to store items");
+        }
+    }
+
+    /**
+     * Stores all files in one transaction. If storing fails, the transaction is rolled back and every
+     * file is reported as failed with the reason, as none of them was stored.
+     */
+    private void storeInOneTransaction(List<ParsedFile> parsedFiles, ImportMode mode,
+                                       Map<String, Long> importIdsByHash, FileImportResultDto[] results) {
+        ParsedFile[] storing = new ParsedFile[1];
+        try {
+            transactionTemplate.executeWithoutResult(transaction -> {
+                for (ParsedFile parsed : parsedFiles) {
+                    storing[0] = parsed;
+                    results[parsed.index()] = importPipeline.store(parsed, mode, importIdsByHash);
+                }
+                storing[0] = null;
+            });
+        } catch (RuntimeException e) {
+            String failedFile = storing[0] != null ? storing[0].file().getOriginalFilename() : null;
+            log.error("Rolled back the import of {} files; storing {} failed", parsedFiles.size(),
+                    failedFile != null ? failedFile : "the transaction", e);
+            for (ParsedFile parsed : parsedFiles) {
+                String error = parsed == storing[0] ? "Failed to store items; no file was stored"
+                        : failedFile != null ? "Not stored: storing " + failedFile + " failed and was rolled back"
+                        : "Not stored: the transaction was rolled back";
+                results[parsed.index()] = ImportPipeline.failedResult(parsed.file().getOriginalFilename(), error);
+            }
+        }
+    }
+
+    private static ParsedFile await(Future<ParsedFile> future) throws FileParsingException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileParsingException("Upload processing was interrupted");
+        } catch (ExecutionException e) {
+            // ImportPipeline.parse handles its own failures, so this is a bug rather than a bad file
+            throw new IllegalStateException("File parsing failed unexpectedly", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.exception.InvalidSortException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Sorts and page sizes accepted by the paged listings. A listing only accepts sorts that one of its
+ * indexes returns in order (db/migration V8, V9), so a page is read from an index scan instead of sorting
+ * every matching row: the leading columns of an index, all in one direction. The id is appended as the
+ * last order, as it ends every secondary index, so pages stay stable when values repeat. Other sorts
+ * are rejected, and page sizes above {@code app.pagination.max-page-size} are lowered to it.
+ * <p>
+ * Every request is counted under {@value #SORT_METRIC}, tagged with the listing and the sort it used,
+ * to show which sorts clients need.
+ */
+@Slf4j
+@Component
+public class PagePolicy {
+
+    static final String SORT_METRIC = "app.pagination.sorts";
+    static final String ID = "id";
+    static final String UNSORTED = "unsorted";
+    static final String REJECTED = "rejected";
+
+    /**
+     * The paged listings, each with the sorts its indexes return in order. Sorting by id alone is
+     * always accepted.
+     */
+    public enum Listing {
+        AVAILABLE_ITEMS("items",
+                new IndexedSort("idx_lost_items_remaining_quantity", "remainingQuantity"),
+                new IndexedSort("idx_lost_items_created_at", "createdAt"),
+                new IndexedSort("idx_lost_items_item_name", "itemName"),
+                new IndexedSort("idx_lost_items_place_item_name", "place", "itemName")),
+        IMPORT_ITEMS("import-items"), // idx_lost_items_import_batch, in id order within an import
+        SEARCH("search", // available items matched by their search keys
+                new IndexedSort("idx_lost_items_item_name_search", "itemNameSearch"),
+                new IndexedSort("idx_lost_items_place_search", "placeSearch")),
+        CLAIMS("claims",
+                new IndexedSort("idx_claims_claim_date", "claimDate"),
+                new IndexedSort("idx_claims_status_claim_date", "status", "claimDate"));
+
+        private final String tag;
+        private final List<IndexedSort> sorts;
+
+        Listing(String tag, IndexedSort... sorts) {
+            this.tag = tag;
+            this.sorts = List.of(sorts);
+        }
+
+        boolean isIndexed(List<String> properties) {
+            return properties.isEmpty() || sorts.stream().anyMatch(sort -> sort.startsWith(properties));
+        }
+
+        String describeSorts() {
+            return Stream.concat(Stream.of(ID), sorts.stream().map(sort -> String.join(",", sort.properties())))
+                    .collect(Collectors.joining(" | "));
+        }
+    }
+
+    /**
+     * Properties an index returns in order; any leading part of them can be sorted by
+     */
+    record IndexedSort(String index, List<String> properties) {
+
+        IndexedSort(String index, String... properties) {
+            this(index, List.of(properties));
+        }
+
+        boolean startsWith(List<String> leading) {
+            return leading.size() <= properties.size() && properties.subList(0, leading.size()).equals(leading);
+        }
+    }
+
+    private final int maxPageSize;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public PagePolicy(@Value("${app.pagination.max-page-size:100}") int maxPageSize,
+                      ObjectProvider<MeterRegistry> meterRegistry) {
+        this(maxPageSize, meterRegistry.getIfAvailable());
+    }
+
+    public PagePolicy(int maxPageSize, MeterRegistry meterRegistry) {
+        this.maxPageSize = maxPageSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * The page to read for a request: page size capped, and the sort completed with the id
+     * @throws InvalidSortException if no index of the listing returns the sort in order
+     */
+    public Pageable apply(Listing listing, Pageable pageable) throws InvalidSortException {
+        int pageSize = Math.min(pageable.getPageSize(), maxPageSize);
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            record(listing, UNSORTED);
+            return pageSize == pageable.getPageSize() ? pageable : PageRequest.of(pageable.getPageNumber(), pageSize);
+        }
+
+        List<Sort.Order> orders = new ArrayList<>(sort.toList());
+        Sort.Direction direction = orders.get(0).getDirection();
+        List<String> properties = orders.stream().map(Sort.Order::getProperty).toList();
+        boolean endsWithId = properties.get(properties.size() - 1).equals(ID);
+        List<String> leading = endsWithId ? properties.subList(0, properties.size() - 1) : properties;
+        boolean oneDirection = orders.stream().allMatch(order -> order.getDirection() == direction && !order.isIgnoreCase());
+
+        if (!oneDirection || !listing.isIndexed(leading)) {
+            record(listing, REJECTED);
+            log.debug("Rejected sort {} of {}", sort, listing.tag);
+            throw new InvalidSortException(String.format("Sorting %s by %s is not supported; sort by one of %s, " +
+                    "all in one direction", listing.tag, String.join(",", properties), listing.describeSorts()));
+        }
+        if (!endsWithId) {
+            orders.add(new Sort.Order(direction, ID));
+        }
+        record(listing, describe(leading, direction));
+        return PageRequest.of(pageable.getPageNumber(), pageSize, Sort.by(orders));
+    }
+
+    private void record(Listing listing, String sort) {
+        if (meterRegistry != null) {
+            meterRegistry.counter(SORT_METRIC, "listing", listing.tag, "sort", sort).increment();
+        }
+    }
+
+    private static String describe(List<String> leading, Sort.Direction direction) {
+        String properties = leading.isEmpty() ? ID : String.join(",", leading);
+        return properties + "," + direction.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ParseTemplateDto;
+import com.example.lostfound.dto.ParseTemplateRequest;
+import com.example.lostfound.entity.ParseTemplate;
+import com.example.lostfound.exception.InvalidParseTemplateException;
+import com.example.lostfound.exception.ParseTemplateNotFoundException;
+import com.example.lostfound.repository.ParseTemplateRepository;
+import com.example.lostfound.service.parser.RecordTemplate;
+import com.example.lostfound.service.parser.RecordTemplate.Field;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manages the parse templates admins define for partner report layouts. Each template is compiled once
+ * per version into a {@link RecordTemplate} and cached; uploads look templates up by name.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParseTemplateService {
+
+    private final ParseTemplateRepository parseTemplateRepository;
+
+    /** Compiled templates by id; an entry is reused only while its version matches the stored template */
+    private final Map<Long, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    public List<ParseTemplateDto> getAllTemplates() {
+        return parseTemplateRepository.findAllByOrderByNameAsc().stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    @Transactional
+    public ParseTemplateDto createTemplate(ParseTemplateRequest request) throws InvalidParseTemplateException {
+        if (parseTemplateRepository.existsByName(request.getName())) {
+            throw new InvalidParseTemplateException("A parse template named '" + request.getName() + "' already exists");
+        }
+        compile(request);
+
+        ParseTemplate template = new ParseTemplate();
+        apply(request, template);
+        ParseTemplate saved = parseTemplateRepository.save(template);
+        log.info("Created parse template: {}", saved.getName());
+        return convertToDto(saved);
+    }
+
+    @Transactional
+    public ParseTemplateDto updateTemplate(Long id, ParseTemplateRequest request)
+            throws ParseTemplateNotFoundException, InvalidParseTemplateException {
+        ParseTemplate template = parseTemplateRepository.findById(id)
+                .orElseThrow(() -> new ParseTemplateNotFoundException("Parse template not found with id: " + id));
+        if (!template.getName().equals(request.getName()) && parseTemplateRepository.existsByName(request.getName())) {
+            throw new InvalidParseTemplateException("A parse template named '" + request.getName() + "' already exists");
+        }
+        compile(request);
+
+        apply(request, template);
+        ParseTemplate saved = parseTemplateRepository.saveAndFlush(template);
+        compiledTemplates.remove(id);
+        log.info("Updated parse template: {}", saved.getName());
+        return convertToDto(saved);
+    }
+
+    @Transactional
+    public void deleteTemplate(Long id) throws ParseTemplateNotFoundException {
+        ParseTemplate template = parseTemplateRepository.findById(id)
+                .orElseThrow(() -> new ParseTemplateNotFoundException("Parse template not found with id: " + id));
+        parseTemplateRepository.delete(template);
+        compiledTemplates.remove(id);
+        log.info("Deleted parse template: {}", template.getName());
+    }
+
+    /**
+     * Resolve the template selected for an upload
+     * @param name template name, or null for the built-in layout
+     */
+    @Transactional(readOnly = true)
+    public RecordTemplate getRecordTemplate(String name) throws ParseTemplateNotFoundException {
+        if (name == null || name.isBlank()) {
+            return RecordTemplate.DEFAULT;
+        }
+        ParseTemplate template = parseTemplateRepository.findByName(name)
+                .orElseThrow(() -> new ParseTemplateNotFoundException("Parse template not found: " + name));
+
+        CompiledTemplate cached = compiledTemplates.get(template.getId());
+        if (cached != null && cached.version().equals(template.getVersion())) {
+            return cached.recordTemplate();
+        }
+        try {
+            RecordTemplate compiled = compile(template);
+            compiledTemplates.put(template.getId(), new CompiledTemplate(template.getVersion(), compiled));
+            return compiled;
+        } catch (IllegalArgumentException e) {
+            // Stored templates were validated on write, so this only happens if the rules became stricter
+            throw new IllegalStateException("Stored parse template '" + name + "' is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    private static void compile(ParseTemplateRequest request) throws InvalidParseTemplateException {
+        try {
+            RecordTemplate.compile(labels(request.getItemNameLabel(), request.getQuantityLabel(),
+                    request.getPlaceLabel(), request.getDescriptionLabel(), request.getDateLabel()),
+                    request.getSeparator(), request.getDatePattern());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParseTemplateException(e.getMessage());
+        }
+    }
+
+    private static RecordTemplate compile(ParseTemplate template) {
+        return RecordTemplate.compile(labels(template.getItemNameLabel(), template.getQuantityLabel(),
+                template.getPlaceLabel(), template.getDescriptionLabel(), template.getDateLabel()),
+                template.getSeparator(), template.getDatePattern());
+    }
+
+    private static Map<Field, String> labels(String itemName, String quantity, String place,
+                                             String description, String date) {
+        Map<Field, String> labels = new EnumMap<>(Field.class);
+        labels.put(Field.ITEM_NAME, itemName);
+        labels.put(Field.QUANTITY, quantity);
+        labels.put(Field.PLACE, place);
+        labels.put(Field.DESCRIPTION, description);
+        labels.put(Field.DATE, date);
+        return labels;
+    }
+
+    private static void apply(ParseTemplateRequest request, ParseTemplate template) {
+        template.setName(request.getName());
+        template.setItemNameLabel(request.getItemNameLabel().strip());
+        template.setQuantityLabel(request.getQuantityLabel().strip());
+        template.setPlaceLabel(request.getPlaceLabel().strip());
+        template.setDescriptionLabel(blankToNull(request.getDescriptionLabel()));
+        template.setDateLabel(blankToNull(request.getDateLabel()));
+        template.setDatePattern(template.getDateLabel() != null ? blankToNull(request.getDatePattern()) : null);
+        template.setSeparator(request.getSeparator().strip());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private ParseTemplateDto convertToDto(ParseTemplate template) {
+        return ParseTemplateDto.builder()
+                .id(template.getId())
+                .name(template.getName())
+                .itemNameLabel(template.getItemNameLabel())
+                .quantityLabel(template.getQuantityLabel())
+                .placeLabel(template.getPlaceLabel())
+                .descriptionLabel(template.getDescriptionLabel())
+                .dateLabel(template.getDateLabel())
+                .datePattern(template.getDatePattern())
+                .separator(template.getSeparator())
+                .createdAt(template.getCreatedAt())
+                .updatedAt(template.getUpdatedAt())
+                .build();
+    }
+
+    private record CompiledTemplate(Long version, RecordTemplate recordTemplate) {
+    }
+}
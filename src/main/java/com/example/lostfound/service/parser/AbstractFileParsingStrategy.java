@@ -2,21 +2,35 @@ package com.example.lostfound.service.parser;
 
 import com.example.lostfound.entity.LostItem;
 import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.ParseBudgetExceededException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 public abstract class AbstractFileParsingStrategy implements FileParsingStrategy {
 
+    /** The parse running on the current thread; see {@link #budget()} and {@link #template()} */
+    private static final ThreadLocal<ParseContext> CURRENT_PARSE = new ThreadLocal<>();
+
+    private ParseBudgetPolicy budgetPolicy = ParseBudgetPolicy.unlimited();
+
+    @Autowired(required = false)
+    public void setBudgetPolicy(ParseBudgetPolicy budgetPolicy) {
+        this.budgetPolicy = budgetPolicy;
+    }
+
     @Override
-    public final List<LostItem> parseFile(MultipartFile file) throws FileParsingException {
+    public final List<LostItem> parseFile(MultipartFile file, RecordTemplate template) throws FileParsingException {
         log.info("Starting {} parsing for file: {}", getStrategyName(), file.getOriginalFilename());
         
         validateFile(file);
         
+        CURRENT_PARSE.set(new ParseContext(budgetPolicy.start(), template));
         try {
             List<LostItem> items = doParseFile(file);
             
@@ -29,19 +43,118 @@ public abstract class AbstractFileParsingStrategy implements FileParsingStrategy
                     items.size(), getStrategyName(), file.getOriginalFilename());
             return items;
             
+        } catch (ParseBudgetExceededException e) {
+            throw budgetExceeded(file, e);
+        } catch (FileParsingException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to parse file with {}: {}", getStrategyName(), file.getOriginalFilename(), e);
+            throw new FileParsingException("Error parsing file: " + e.getMessage());
+        } finally {
+            CURRENT_PARSE.remove();
+        }
+    }
+
+    @Override
+    public final ParseResult parseFile(MultipartFile file, RecordTemplate template, int chunkSize,
+                                       Consumer<List<LostItem>> chunkConsumer) throws FileParsingException {
+        log.info("Starting {} chunked parsing for file: {} (chunk size: {})", 
+                getStrategyName(), file.getOriginalFilename(), chunkSize);
+        
+        validateFile(file);
+        
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        
+        ParseBudget budget = budgetPolicy.start();
+        ParseContext parse = new ParseContext(budget, template);
+        CURRENT_PARSE.set(parse);
+        try {
+            int itemCount = doParseFile(file, chunkSize, chunk -> budget.excluding(() -> {
+                try {
+                    chunkConsumer.accept(chunk);
+                } catch (RuntimeException e) {
+                    throw new ChunkConsumerException(e);
+                }
+            }));
+            
+            if (itemCount == 0) {
+                log.warn("No items parsed from file: {}", file.getOriginalFilename());
+                throw new FileParsingException("No valid items found in the file");
+            }
+            
+            log.info("Successfully parsed {} items from {}: {}", 
+                    itemCount, getStrategyName(), file.getOriginalFilename());
+            return new ParseResult(itemCount, parse.rejectedCount);
+            
+        } catch (ChunkConsumerException e) {
+            // Failures of the consumer (e.g. persistence) are not parsing errors
+            throw (RuntimeException) e.getCause();
+        } catch (ParseBudgetExceededException e) {
+            throw budgetExceeded(file, e);
         } catch (FileParsingException e) {
             throw e;
         } catch (Exception e) {
             log.error("Failed to parse file with {}: {}", getStrategyName(), file.getOriginalFilename(), e);
             throw new FileParsingException("Error parsing file: " + e.getMessage());
+        } finally {
+            CURRENT_PARSE.remove();
         }
     }
 
+    /**
+     * Budget of the current parse. Strategies charge their work to it from every loop whose length
+     * depends on the input, which stops the parse once a limit is used up.
+     */
+    protected final ParseBudget budget() {
+        ParseContext parse = CURRENT_PARSE.get();
+        return parse != null ? parse.budget : ParseBudgetPolicy.unlimited().start();
+    }
+
+    /**
+     * Layout of key-value records selected for the current parse
+     */
+    protected final RecordTemplate template() {
+        ParseContext parse = CURRENT_PARSE.get();
+        return parse != null ? parse.template : RecordTemplate.DEFAULT;
+    }
+
+    /**
+     * Report records that were skipped as invalid, for the {@link ParseResult} of a chunked parse
+     */
+    protected final void recordRejected(int count) {
+        ParseContext parse = CURRENT_PARSE.get();
+        if (parse != null) {
+            parse.rejectedCount += count;
+        }
+    }
+
+    private ParseBudgetExceededException budgetExceeded(MultipartFile file, ParseBudgetExceededException e) {
+        log.warn("Stopped {} parsing of file {}: {}", getStrategyName(), file.getOriginalFilename(), e.getMessage());
+        budgetPolicy.recordExceeded(getStrategyName(), e.getLimit());
+        return e;
+    }
+
     /**
      * Template method for specific parsing implementations
      */
     protected abstract List<LostItem> doParseFile(MultipartFile file) throws Exception;
 
+    /**
+     * Template method for chunked parsing. The default parses the whole file and splits the result;
+     * streaming strategies override this to emit each chunk as soon as it is full.
+     * @return total number of parsed items
+     */
+    protected int doParseFile(MultipartFile file, int chunkSize, Consumer<List<LostItem>> chunkConsumer) 
+            throws Exception {
+        List<LostItem> items = doParseFile(file);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunkConsumer.accept(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return items.size();
+    }
+
     /**
      * Get the supported file extensions for this strategy
      */
@@ -81,7 +194,8 @@ public abstract class AbstractFileParsingStrategy implements FileParsingStrategy
             throw new FileParsingException("File is empty");
         }
         
-        if (file.getSize() > getMaxFileSize()) {
+        // Spooled files (archive entries, chunked uploads) were held to their own size limit while spooling
+        if (!(file instanceof SpooledMultipartFile) && file.getSize() > getMaxFileSize()) {
             throw new FileParsingException("File size exceeds maximum allowed size: " + getMaxFileSize() + " bytes");
         }
     }
@@ -94,10 +208,10 @@ public abstract class AbstractFileParsingStrategy implements FileParsingStrategy
     }
 
     /**
-     * Utility method to create a LostItem with common fields
+     * Utility method to create a LostItem with common fields and no description
      */
     protected LostItem createLostItem(String itemName, int quantity, String place) {
-        return createLostItem(itemName, quantity, place, "Imported from " + getStrategyName());
+        return createLostItem(itemName, quantity, place, null);
     }
 
     /**
@@ -115,20 +229,46 @@ public abstract class AbstractFileParsingStrategy implements FileParsingStrategy
                 .build();
     }
 
+    /**
+     * Utility method to create a LostItem from an accepted record, keeping its optional fields
+     */
+    protected LostItem createLostItem(ParsedRecord record) {
+        LostItem item = record.description() != null
+                ? createLostItem(record.itemName(), record.quantity(), record.place(), record.description())
+                : createLostItem(record.itemName(), record.quantity(), record.place());
+        item.setFoundDate(record.foundDate());
+        return item;
+    }
+
     /**
      * Utility method to validate and clean item data
      */
     protected void validateItemData(String itemName, Integer quantity, String place) throws FileParsingException {
-        if (itemName == null || itemName.trim().isEmpty()) {
-            throw new FileParsingException("Item name cannot be empty");
+        String violation = ParsedRecord.violationOf(itemName, quantity, place);
+        if (violation != null) {
+            throw new FileParsingException(violation);
         }
-        
-        if (quantity == null || quantity <= 0) {
-            throw new FileParsingException("Quantity must be a positive number");
+    }
+
+    private static final class ParseContext {
+
+        private final ParseBudget budget;
+        private final RecordTemplate template;
+        private int rejectedCount;
+
+        private ParseContext(ParseBudget budget, RecordTemplate template) {
+            this.budget = budget;
+            this.template = template;
         }
+    }
+
+    /**
+     * Carries a consumer failure through the parsing template without it being reported as a parsing error
+     */
+    private static final class ChunkConsumerException extends RuntimeException {
         
-        if (place == null || place.trim().isEmpty()) {
-            throw new FileParsingException("Place cannot be empty");
+        private ChunkConsumerException(RuntimeException cause) {
+            super(cause);
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.FileParsingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class CsvParsingStrategy extends AbstractFileParsingStrategy {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final char delimiter;
+    private final Set<String> itemNameHeaders;
+    private final Set<String> quantityHeaders;
+    private final Set<String> placeHeaders;
+    private final Set<String> descriptionHeaders;
+
+    public CsvParsingStrategy(
+            @Value("${file.parsing.csv.delimiter:,}") char delimiter,
+            @Value("${file.parsing.csv.headers.item-name:item name,item,name}") List<String> itemNameHeaders,
+            @Value("${file.parsing.csv.headers.quantity:quantity,qty,count}") List<String> quantityHeaders,
+            @Value("${file.parsing.csv.headers.place:place,location,found at}") List<String> placeHeaders,
+            @Value("${file.parsing.csv.headers.description:description,details,notes}") List<String> descriptionHeaders) {
+        this.delimiter = delimiter;
+        this.itemNameHeaders = normalizeAll(itemNameHeaders);
+        this.quantityHeaders = normalizeAll(quantityHeaders);
+        this.placeHeaders = normalizeAll(placeHeaders);
+        this.descriptionHeaders = normalizeAll(descriptionHeaders);
+    }
+
+    @Override
+    protected List<LostItem> doParseFile(MultipartFile file) throws Exception {
+        List<LostItem> items = new ArrayList<>();
+        doParseFile(file, DEFAULT_CHUNK_SIZE, items::addAll);
+        return items;
+    }
+
+    @Override
+    protected int doParseFile(MultipartFile file, int chunkSize, Consumer<List<LostItem>> chunkConsumer)
+            throws Exception {
+        try (CsvRecordReader reader = new CsvRecordReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8), delimiter)) {
+
+            ColumnMapping mapping = readHeader(reader);
+            ItemChunker chunker = new ItemChunker(chunkSize, chunkConsumer, budget());
+
+            List<String> row;
+            while ((row = reader.next()) != null) {
+                if (isBlankRow(row)) {
+                    continue;
+                }
+
+                String itemName = field(row, mapping.itemName());
+                String quantityValue = field(row, mapping.quantity());
+                Integer quantity = quantityValue == null
+                        ? null : ParsedRecord.parseQuantity(quantityValue, 0, quantityValue.length());
+                String place = field(row, mapping.place());
+
+                ParsedRecord record = ParsedRecord.of(itemName, quantity, place, reader.getRowNumber());
+                if (!record.isAccepted()) {
+                    chunker.reject();
+                    log.debug("Skipping CSV row {}: {}", record.line(), record.rejectionReason());
+                    continue;
+                }
+
+                String description = field(row, mapping.description());
+                chunker.add(description == null || description.isEmpty()
+                        ? createLostItem(itemName, quantity, place)
+                        : createLostItem(itemName, quantity, place, description));
+            }
+
+            int itemCount = chunker.finish();
+            recordRejected(chunker.getRejectedCount());
+            if (chunker.getRejectedCount() > 0) {
+                log.info("Skipped {} invalid CSV rows", chunker.getRejectedCount());
+            }
+            return itemCount;
+        }
+    }
+
+    @Override
+    protected List<String> getSupportedExtensions() {
+        return List.of(".csv");
+    }
+
+    @Override
+    protected List<String> getSupportedMimeTypes() {
+        return List.of("text/csv", "application/csv", "text/comma-separated-values");
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "CSV Parser";
+    }
+
+    private ColumnMapping readHeader(CsvRecordReader reader) throws Exception {
+        List<String> header;
+        do {
+            header = reader.next();
+        } while (header != null && isBlankRow(header));
+
+        if (header == null) {
+            throw new FileParsingException("CSV file has no header row");
+        }
+
+        int itemName = -1;
+        int quantity = -1;
+        int place = -1;
+        int description = -1;
+        for (int i = 0; i < header.size(); i++) {
+            String column = normalize(header.get(i));
+            if (itemName < 0 && itemNameHeaders.contains(column)) {
+                itemName = i;
+            } else if (quantity < 0 && quantityHeaders.contains(column)) {
+                quantity = i;
+            } else if (place < 0 && placeHeaders.contains(column)) {
+                place = i;
+            } else if (description < 0 && descriptionHeaders.contains(column)) {
+                description = i;
+            }
+        }
+
+        if (itemName < 0 || quantity < 0 || place < 0) {
+            throw new FileParsingException(String.format(
+                    "CSV header must contain item name, quantity and place columns. Found: %s", header));
+        }
+
+        log.debug("CSV column mapping: itemName={}, quantity={}, place={}, description={}",
+                itemName, quantity, place, description);
+        return new ColumnMapping(itemName, quantity, place, description);
+    }
+
+    private static String field(List<String> row, int index) {
+        return index >= 0 && index < row.size() ? row.get(index).trim() : null;
+    }
+
+    private static boolean isBlankRow(List<String> row) {
+        for (String value : row) {
+            if (!value.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Header names are compared ignoring case, whitespace and punctuation,
+     * so "Item Name", "item_name" and "ITEMNAME" are the same column
+     */
+    private static String normalize(String header) {
+        StringBuilder normalized = new StringBuilder(header.length());
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static Set<String> normalizeAll(List<String> headers) {
+        return headers.stream()
+                .map(CsvParsingStrategy::normalize)
+                .filter(header -> !header.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private record ColumnMapping(int itemName, int quantity, int place, int description) {
+    }
+}
\ No newline at end of file
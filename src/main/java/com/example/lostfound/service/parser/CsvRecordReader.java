@@ -0,0 +1,144 @@
+package com.example.lostfound.service.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 style CSV reader.
+ * Reads the underlying {@link Reader} through a fixed-size buffer and returns one row at a time,
+ * handling quoted fields, escaped quotes ({@code ""}), delimiters and line breaks inside quotes,
+ * and LF or CRLF row endings. Runs of plain characters are copied in bulk rather than per character.
+ */
+public final class CsvRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean started;
+
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> row = new ArrayList<>();
+    private int rowNumber;
+
+    public CsvRecordReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Read the next row
+     * @return the fields of the next row, or null at end of input.
+     *         The returned list is reused by the following call and must not be retained.
+     */
+    public List<String> next() throws IOException {
+        row.clear();
+        field.setLength(0);
+
+        if (!fill()) {
+            return null;
+        }
+        if (!started) {
+            started = true;
+            if (buffer[position] == BYTE_ORDER_MARK) {
+                position++;
+            }
+        }
+        rowNumber++;
+
+        boolean quoted = false;
+        while (true) {
+            if (!fill()) {
+                row.add(field.toString());
+                return row;
+            }
+
+            if (quoted) {
+                int runStart = position;
+                while (position < limit && buffer[position] != '"') {
+                    position++;
+                }
+                field.append(buffer, runStart, position - runStart);
+                if (position == limit) {
+                    continue;
+                }
+                position++;
+                if (peek() == '"') {
+                    field.append('"');
+                    position++;
+                } else {
+                    quoted = false;
+                }
+                continue;
+            }
+
+            int runStart = position;
+            while (position < limit && !isSpecial(buffer[position])) {
+                position++;
+            }
+            field.append(buffer, runStart, position - runStart);
+            if (position == limit) {
+                continue;
+            }
+
+            char c = buffer[position++];
+            if (c == delimiter) {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"') {
+                if (field.isEmpty()) {
+                    quoted = true;
+                } else {
+                    // A quote in the middle of an unquoted field is taken literally
+                    field.append(c);
+                }
+            } else {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+                row.add(field.toString());
+                return row;
+            }
+        }
+    }
+
+    /**
+     * @return the 1-based number of the row last returned by {@link #next()}
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean isSpecial(char c) {
+        return c == delimiter || c == '"' || c == '\n' || c == '\r';
+    }
+
+    private int peek() throws IOException {
+        return fill() ? buffer[position] : -1;
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+}
@@ -5,6 +5,7 @@ import com.example.lostfound.exception.FileParsingException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FileParsingStrategy {
     
@@ -14,7 +15,45 @@ public interface FileParsingStrategy {
      * @return list of parsed lost items
      * @throws FileParsingException if parsing fails
      */
-    List<LostItem> parseFile(MultipartFile file) throws FileParsingException;
+    default List<LostItem> parseFile(MultipartFile file) throws FileParsingException {
+        return parseFile(file, RecordTemplate.DEFAULT);
+    }
+    
+    /**
+     * Parse the uploaded file, reading key-value records in the layout of the given template.
+     * Formats without key-value records (CSV, JSON) ignore the template.
+     * @param file the uploaded file
+     * @param template layout of key-value records
+     * @return list of parsed lost items
+     * @throws FileParsingException if parsing fails
+     */
+    List<LostItem> parseFile(MultipartFile file, RecordTemplate template) throws FileParsingException;
+    
+    /**
+     * Parse the uploaded file and hand lost items to the consumer in chunks,
+     * so that no more than one chunk has to be held in memory by streaming strategies
+     * @param file the uploaded file
+     * @param chunkSize maximum number of items per chunk
+     * @param chunkConsumer receives each chunk of parsed items; the list must not be retained
+     * @return total number of parsed items
+     * @throws FileParsingException if parsing fails
+     */
+    default int parseFile(MultipartFile file, int chunkSize, Consumer<List<LostItem>> chunkConsumer)
+            throws FileParsingException {
+        return parseFile(file, RecordTemplate.DEFAULT, chunkSize, chunkConsumer).itemCount();
+    }
+    
+    /**
+     * Chunked variant of {@link #parseFile(MultipartFile, RecordTemplate)}
+     * @param file the uploaded file
+     * @param template layout of key-value records
+     * @param chunkSize maximum number of items per chunk
+     * @param chunkConsumer receives each chunk of parsed items; the list must not be retained
+     * @return number of parsed and of rejected records
+     * @throws FileParsingException if parsing fails
+     */
+    ParseResult parseFile(MultipartFile file, RecordTemplate template, int chunkSize,
+                          Consumer<List<LostItem>> chunkConsumer) throws FileParsingException;
     
     /**
      * Check if this strategy supports the given file type
@@ -0,0 +1,66 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.ParseBudgetExceededException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Buffers parsed items for streaming strategies and hands them to the consumer one chunk at a time.
+ * The chunk list is reused, so consumers must not retain it. Every accepted or rejected record is
+ * charged to the parse budget.
+ */
+final class ItemChunker {
+
+    private static final int MAX_INITIAL_CAPACITY = 1000;
+
+    private final int chunkSize;
+    private final Consumer<List<LostItem>> consumer;
+    private final ParseBudget budget;
+    private final List<LostItem> chunk;
+    private int itemCount;
+    private int rejectedCount;
+
+    ItemChunker(int chunkSize, Consumer<List<LostItem>> consumer, ParseBudget budget) {
+        this.chunkSize = chunkSize;
+        this.consumer = consumer;
+        this.budget = budget;
+        this.chunk = new ArrayList<>(Math.min(chunkSize, MAX_INITIAL_CAPACITY));
+    }
+
+    void add(LostItem item) throws ParseBudgetExceededException {
+        budget.checkpoint();
+        chunk.add(item);
+        if (chunk.size() == chunkSize) {
+            flush();
+        }
+    }
+
+    void reject() throws ParseBudgetExceededException {
+        budget.checkpoint();
+        rejectedCount++;
+    }
+
+    /**
+     * Emit the last partial chunk
+     * @return total number of items emitted
+     */
+    int finish() {
+        if (!chunk.isEmpty()) {
+            flush();
+        }
+        return itemCount;
+    }
+
+    int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    private void flush() {
+        consumer.accept(chunk);
+        itemCount += chunk.size();
+        chunk.clear();
+    }
+}
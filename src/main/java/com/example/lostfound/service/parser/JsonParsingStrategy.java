@@ -0,0 +1,146 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.ParseBudgetExceededException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Parses lost items from JSON with the Jackson streaming API, mapping tokens straight into {@link LostItem}s.
+ * Accepts either a top-level array of item objects or NDJSON (one item object per line):
+ * <pre>
+ * [{"itemName": "Laptop", "quantity": 1, "place": "Library", "description": "Grey Dell"}]
+ * </pre>
+ */
+@Slf4j
+@Component
+public class JsonParsingStrategy extends AbstractFileParsingStrategy {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    @Override
+    protected List<LostItem> doParseFile(MultipartFile file) throws Exception {
+        List<LostItem> items = new ArrayList<>();
+        doParseFile(file, DEFAULT_CHUNK_SIZE, items::addAll);
+        return items;
+    }
+
+    @Override
+    protected int doParseFile(MultipartFile file, int chunkSize, Consumer<List<LostItem>> chunkConsumer)
+            throws Exception {
+        try (JsonParser parser = JSON_FACTORY.createParser(file.getInputStream())) {
+            ItemChunker chunker = new ItemChunker(chunkSize, chunkConsumer, budget());
+
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new FileParsingException("Unexpected end of JSON array");
+                    }
+                    readElement(parser, token, chunker);
+                }
+                if (parser.nextToken() != null) {
+                    throw new FileParsingException("Unexpected content after the top-level JSON array");
+                }
+            } else {
+                // NDJSON: a sequence of root-level objects
+                while (token != null) {
+                    readElement(parser, token, chunker);
+                    token = parser.nextToken();
+                }
+            }
+
+            int itemCount = chunker.finish();
+            recordRejected(chunker.getRejectedCount());
+            if (chunker.getRejectedCount() > 0) {
+                log.info("Skipped {} invalid JSON records", chunker.getRejectedCount());
+            }
+            return itemCount;
+        }
+    }
+
+    @Override
+    protected List<String> getSupportedExtensions() {
+        return List.of(".json", ".ndjson", ".jsonl");
+    }
+
+    @Override
+    protected List<String> getSupportedMimeTypes() {
+        return List.of("application/json", "application/x-ndjson", "application/ndjson");
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "JSON Parser";
+    }
+
+    private void readElement(JsonParser parser, JsonToken token, ItemChunker chunker)
+            throws IOException, ParseBudgetExceededException {
+        int line = parser.currentTokenLocation().getLineNr();
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            chunker.reject();
+            log.debug("Skipping JSON value at line {}: expected an object but found {}", line, token);
+            return;
+        }
+
+        String itemName = null;
+        Integer quantity = null;
+        String place = null;
+        String description = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "itemName", "item_name", "name" -> itemName = readText(parser, value);
+                case "quantity", "qty" -> quantity = readQuantity(parser, value);
+                case "place", "location" -> place = readText(parser, value);
+                case "description" -> description = readText(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+
+        ParsedRecord record = ParsedRecord.of(itemName, quantity, place, line);
+        if (!record.isAccepted()) {
+            chunker.reject();
+            log.debug("Skipping JSON record at line {}: {}", line, record.rejectionReason());
+            return;
+        }
+
+        chunker.add(description == null || description.isEmpty()
+                ? createLostItem(itemName.trim(), quantity, place.trim())
+                : createLostItem(itemName.trim(), quantity, place.trim(), description));
+    }
+
+    private static String readText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Integer readQuantity(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getNumberType() == JsonParser.NumberType.INT ? parser.getIntValue() : null;
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            return ParsedRecord.parseQuantity(text, 0, text.length());
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.service.parser.RecordTemplate.Field;
+
+import java.time.LocalDate;
+
+/**
+ * Single-pass scanner for the key-value record format, by default:
+ * <pre>
+ * Item Name: Laptop
+ * Quantity: 1
+ * Place: Library
+ * </pre>
+ * Other layouts (labels, separator, optional description and date) are described by a {@link RecordTemplate}.
+ * Keys are matched case-insensitively directly on the underlying {@link CharSequence} by the template's
+ * automaton, without regular expressions or per-line substrings. Only field values are materialized.
+ * A record starts at its item name label.
+ * Records are pulled one at a time with {@link #next()}; invalid records come back as
+ * rejected {@link ParsedRecord}s rather than exceptions.
+ * <p>
+ * Optionally, lines that are not keys are also read as single-line records,
+ * either {@code name quantity place} or {@code name, quantity, place}, but only between key-value
+ * records: a record stays open, and other lines in it are skipped, until a blank line follows it.
+ * All syntax is ASCII, so the scanner also works on byte-backed sequences such as {@link Utf8ByteSequence}.
+ */
+public final class KeyValueRecordScanner {
+
+    private final CharSequence text;
+    private final int length;
+    private final RecordTemplate template;
+    private final boolean singleLineRecords;
+    private final Field[] matchedField = new Field[1];
+    private int position;
+    private int lineNumber;
+
+    private boolean inRecord;
+    private boolean blankLineSinceField;
+    private int recordLine;
+    private String itemName;
+    private Integer quantity;
+    private String place;
+    private String description;
+    private LocalDate foundDate;
+    private String invalidDate;
+    private ParsedRecord pending;
+
+    public KeyValueRecordScanner(CharSequence text) {
+        this(text, RecordTemplate.DEFAULT, false);
+    }
+
+    /**
+     * @param singleLineRecords whether lines that are not keys should be read as single-line records
+     */
+    public KeyValueRecordScanner(CharSequence text, boolean singleLineRecords) {
+        this(text, RecordTemplate.DEFAULT, singleLineRecords);
+    }
+
+    /**
+     * @param template layout of the key-value records
+     * @param singleLineRecords whether lines that are not keys should be read as single-line records
+     */
+    public KeyValueRecordScanner(CharSequence text, RecordTemplate template, boolean singleLineRecords) {
+        this.text = text;
+        this.length = text.length();
+        this.template = template;
+        this.singleLineRecords = singleLineRecords;
+    }
+
+    /**
+     * Scan forward to the next complete record
+     * @return the next record, accepted or rejected, or null when the input is exhausted
+     */
+    public ParsedRecord next() {
+        if (pending != null) {
+            ParsedRecord record = pending;
+            pending = null;
+            return record;
+        }
+
+        while (position < length) {
+            int lineStart = position;
+            int lineEnd = lineStart;
+            while (lineEnd < length && text.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            position = lineEnd + 1;
+            lineNumber++;
+
+            int start = skipWhitespace(lineStart, lineEnd);
+            int end = trimTrailingWhitespace(start, lineEnd);
+            if (start == end) {
+                blankLineSinceField = true;
+                continue;
+            }
+
+            int valueStart = template.matchLabel(text, start, end, matchedField);
+            if (valueStart >= 0) {
+                blankLineSinceField = false;
+                if (matchedField[0] == Field.ITEM_NAME) {
+                    ParsedRecord completed = inRecord ? completeRecord() : null;
+                    inRecord = true;
+                    recordLine = lineNumber;
+                    itemName = text.subSequence(valueStart, end).toString();
+                    quantity = null;
+                    place = null;
+                    description = null;
+                    foundDate = null;
+                    invalidDate = null;
+                    if (completed != null) {
+                        return completed;
+                    }
+                } else if (inRecord) {
+                    readField(matchedField[0], valueStart, end);
+                }
+                continue;
+            }
+
+            // A line in an open record that is no key, e.g. a remark, is not an item of its own
+            if (singleLineRecords && (!inRecord || blankLineSinceField)) {
+                ParsedRecord record = parseSingleLine(start, end);
+                if (record != null) {
+                    if (inRecord) {
+                        inRecord = false;
+                        pending = record;
+                        return completeRecord();
+                    }
+                    return record;
+                }
+            }
+        }
+
+        if (inRecord) {
+            inRecord = false;
+            return completeRecord();
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of lines consumed so far
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    private void readField(Field field, int valueStart, int end) {
+        switch (field) {
+            case QUANTITY -> {
+                Integer parsed = ParsedRecord.parseQuantity(text, valueStart, end);
+                if (parsed != null) {
+                    quantity = parsed;
+                }
+            }
+            case PLACE -> place = text.subSequence(valueStart, end).toString();
+            case DESCRIPTION -> description = text.subSequence(valueStart, end).toString();
+            case DATE -> {
+                String value = text.subSequence(valueStart, end).toString();
+                foundDate = template.parseDate(value);
+                invalidDate = foundDate == null ? value : null;
+            }
+            default -> throw new IllegalStateException("Unexpected field: " + field);
+        }
+    }
+
+    private ParsedRecord completeRecord() {
+        if (invalidDate != null) {
+            return ParsedRecord.rejected(recordLine,
+                    "Date '" + invalidDate + "' does not match the pattern " + template.getDatePattern());
+        }
+        return ParsedRecord.of(itemName, quantity, place, description, foundDate, recordLine);
+    }
+
+    /**
+     * Read a trimmed, non-key line as {@code name, quantity, place} if it contains a comma,
+     * otherwise as {@code name quantity place}. In the comma-separated form, the name and place must not
+     * be empty and the quantity must be all digits, so that prose with commas is not taken for a record.
+     * In the space-separated form, the quantity is the last all-digit word that has words on both sides,
+     * so "iPhone 15 2 Computer Lab Room 205" is 2 x "iPhone 15" found in "Computer Lab Room 205".
+     * @return the record, or null if the line does not have the shape of a record
+     */
+    private ParsedRecord parseSingleLine(int start, int end) {
+        int firstComma = indexOf(',', start, end);
+        if (firstComma >= 0) {
+            int secondComma = indexOf(',', firstComma + 1, end);
+            if (secondComma < 0) {
+                return null;
+            }
+            int quantityStart = skipWhitespace(firstComma + 1, secondComma);
+            int quantityEnd = trimTrailingWhitespace(quantityStart, secondComma);
+            if (trimTrailingWhitespace(start, firstComma) == start || !isDigits(quantityStart, quantityEnd)
+                    || skipWhitespace(secondComma + 1, end) == end) {
+                return null;
+            }
+            return singleLineRecord(start, firstComma, quantityStart, quantityEnd, secondComma + 1, end);
+        }
+
+        int quantityStart = -1;
+        int quantityEnd = -1;
+        int wordStart = skipWhitespace(start, end);
+        while (wordStart < end) {
+            int wordEnd = wordStart;
+            boolean digits = true;
+            while (wordEnd < end && text.charAt(wordEnd) > ' ') {
+                char c = text.charAt(wordEnd++);
+                digits &= c >= '0' && c <= '9';
+            }
+            if (digits && wordStart > start && wordEnd < end) {
+                quantityStart = wordStart;
+                quantityEnd = wordEnd;
+            }
+            wordStart = skipWhitespace(wordEnd, end);
+        }
+        if (quantityStart < 0) {
+            return null;
+        }
+        return singleLineRecord(start, quantityStart, quantityStart, quantityEnd, quantityEnd, end);
+    }
+
+    private ParsedRecord singleLineRecord(int nameStart, int nameEnd, int quantityStart, int quantityEnd,
+                                          int placeStart, int placeEnd) {
+        nameEnd = trimTrailingWhitespace(nameStart, nameEnd);
+        placeStart = skipWhitespace(placeStart, placeEnd);
+        return ParsedRecord.of(
+                text.subSequence(nameStart, nameEnd).toString(),
+                ParsedRecord.parseQuantity(text, quantityStart, quantityEnd),
+                text.subSequence(placeStart, placeEnd).toString(),
+                lineNumber);
+    }
+
+    private boolean isDigits(int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(char c, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int skipWhitespace(int i, int end) {
+        while (i < end && text.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private int trimTrailingWhitespace(int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
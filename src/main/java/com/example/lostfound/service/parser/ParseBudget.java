@@ -0,0 +1,103 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.exception.ParseBudgetExceededException;
+import com.example.lostfound.exception.ParseBudgetExceededException.Limit;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The remaining budget of one parse. Not thread-safe: a parse runs on a single thread, and CPU time is
+ * that thread's. Limits are enforced cooperatively, so strategies must call {@link #checkpoint()} from
+ * every loop whose length depends on the input.
+ */
+public final class ParseBudget {
+
+    /** Reading the clocks costs far more than a checkpoint, so only every n-th checkpoint reads them */
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final int maxPages;
+    private final long maxCharacters;
+    private final long maxWallTimeNanos;
+    private final long maxCpuTimeNanos;
+    private final boolean cpuTimeSupported;
+
+    private long startNanos;
+    private long startCpuNanos;
+    private int pages;
+    private long characters;
+    private int checkpoints;
+
+    ParseBudget(int maxPages, long maxCharacters, long maxWallTimeNanos, long maxCpuTimeNanos) {
+        this.maxPages = maxPages;
+        this.maxCharacters = maxCharacters;
+        this.maxWallTimeNanos = maxWallTimeNanos;
+        this.maxCpuTimeNanos = maxCpuTimeNanos;
+        this.cpuTimeSupported = THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+        this.startNanos = System.nanoTime();
+        this.startCpuNanos = cpuTimeSupported ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * Called once per unit of work (record, content stream operator, ...); checks the clocks periodically
+     */
+    public void checkpoint() throws ParseBudgetExceededException {
+        if (checkpoints++ % CLOCK_CHECK_INTERVAL == 0) {
+            checkClocks();
+        }
+    }
+
+    /**
+     * Fail fast on a document that declares more pages than allowed, before any of them is processed
+     */
+    public void checkPageCount(int pageCount) throws ParseBudgetExceededException {
+        if (pageCount > maxPages) {
+            throw new ParseBudgetExceededException(Limit.PAGES,
+                    "Document has " + pageCount + " pages; at most " + maxPages + " are allowed");
+        }
+    }
+
+    public void addPage() throws ParseBudgetExceededException {
+        if (++pages > maxPages) {
+            throw new ParseBudgetExceededException(Limit.PAGES,
+                    "Parsing stopped after " + maxPages + " pages");
+        }
+        checkClocks();
+    }
+
+    public void addCharacters(int count) throws ParseBudgetExceededException {
+        characters += count;
+        if (characters > maxCharacters) {
+            throw new ParseBudgetExceededException(Limit.CHARACTERS,
+                    "Parsing stopped after extracting more than " + maxCharacters + " characters");
+        }
+    }
+
+    /**
+     * Run work that is not part of parsing (e.g. storing a chunk) without charging its time to the budget
+     */
+    public void excluding(Runnable work) {
+        long nanos = System.nanoTime();
+        long cpuNanos = cpuTimeSupported ? THREADS.getCurrentThreadCpuTime() : 0;
+        try {
+            work.run();
+        } finally {
+            startNanos += System.nanoTime() - nanos;
+            if (cpuTimeSupported) {
+                startCpuNanos += THREADS.getCurrentThreadCpuTime() - cpuNanos;
+            }
+        }
+    }
+
+    private void checkClocks() throws ParseBudgetExceededException {
+        if (System.nanoTime() - startNanos > maxWallTimeNanos) {
+            throw new ParseBudgetExceededException(Limit.WALL_TIME,
+                    "Parsing took longer than " + maxWallTimeNanos / 1_000_000 + " ms");
+        }
+        if (cpuTimeSupported && THREADS.getCurrentThreadCpuTime() - startCpuNanos > maxCpuTimeNanos) {
+            throw new ParseBudgetExceededException(Limit.CPU_TIME,
+                    "Parsing used more than " + maxCpuTimeNanos / 1_000_000 + " ms of CPU time");
+        }
+    }
+}
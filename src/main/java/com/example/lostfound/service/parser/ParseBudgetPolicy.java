@@ -0,0 +1,68 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.exception.ParseBudgetExceededException.Limit;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Configured limits for a single parse. Each parse gets its own {@link ParseBudget} from {@link #start()};
+ * strategies charge work to it from their loops and stop as soon as a limit is used up.
+ */
+@Component
+public class ParseBudgetPolicy {
+
+    static final String EXCEEDED_METRIC = "file.parsing.budget.exceeded";
+
+    private final int maxPages;
+    private final long maxCharacters;
+    private final long maxWallTimeNanos;
+    private final long maxCpuTimeNanos;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public ParseBudgetPolicy(@Value("${file.parsing.limits.max-pages:500}") int maxPages,
+                             @Value("${file.parsing.limits.max-characters:10000000}") long maxCharacters,
+                             @Value("${file.parsing.limits.wall-time:30s}") Duration maxWallTime,
+                             @Value("${file.parsing.limits.cpu-time:20s}") Duration maxCpuTime,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this(maxPages, maxCharacters, maxWallTime, maxCpuTime, meterRegistry.getIfAvailable());
+    }
+
+    public ParseBudgetPolicy(int maxPages, long maxCharacters, Duration maxWallTime, Duration maxCpuTime,
+                             MeterRegistry meterRegistry) {
+        this.maxPages = maxPages;
+        this.maxCharacters = maxCharacters;
+        this.maxWallTimeNanos = maxWallTime.toNanos();
+        this.maxCpuTimeNanos = maxCpuTime.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * No limits and no metrics; used by strategies created outside the Spring context
+     */
+    public static ParseBudgetPolicy unlimited() {
+        return new ParseBudgetPolicy(Integer.MAX_VALUE, Long.MAX_VALUE,
+                Duration.ofNanos(Long.MAX_VALUE), Duration.ofNanos(Long.MAX_VALUE), (MeterRegistry) null);
+    }
+
+    /**
+     * Start the budget for a parse; the clocks start now and CPU time is measured on the calling thread
+     */
+    public ParseBudget start() {
+        return new ParseBudget(maxPages, maxCharacters, maxWallTimeNanos, maxCpuTimeNanos);
+    }
+
+    void recordExceeded(String strategyName, Limit limit) {
+        if (meterRegistry != null) {
+            meterRegistry.counter(EXCEEDED_METRIC,
+                    "strategy", strategyName,
+                    "limit", limit.name().toLowerCase(Locale.ROOT)).increment();
+        }
+    }
+}
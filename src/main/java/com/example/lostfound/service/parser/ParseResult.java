@@ -0,0 +1,9 @@
+package com.example.lostfound.service.parser;
+
+/**
+ * Outcome of a chunked parse
+ * @param itemCount number of items handed to the consumer
+ * @param rejectedCount number of records skipped as invalid
+ */
+public record ParseResult(int itemCount, int rejectedCount) {
+}
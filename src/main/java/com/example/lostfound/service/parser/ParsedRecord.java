@@ -0,0 +1,77 @@
+package com.example.lostfound.service.parser;
+
+import java.time.LocalDate;
+
+/**
+ * A single record produced by a record scanner.
+ * Invalid records are reported as values carrying a rejection reason instead of exceptions,
+ * so a bad record costs no more than a good one.
+ */
+public record ParsedRecord(String itemName, Integer quantity, String place, String description,
+                           LocalDate foundDate, int line, String rejectionReason) {
+
+    /**
+     * Build a record from raw field values, rejecting it if the fields are not a valid item
+     */
+    public static ParsedRecord of(String itemName, Integer quantity, String place, int line) {
+        return of(itemName, quantity, place, null, null, line);
+    }
+
+    /**
+     * Build a record including the optional fields, which are not validated
+     */
+    public static ParsedRecord of(String itemName, Integer quantity, String place, String description,
+                                  LocalDate foundDate, int line) {
+        String violation = violationOf(itemName, quantity, place);
+        return violation == null
+                ? new ParsedRecord(itemName, quantity, place, description, foundDate, line, null)
+                : rejected(line, violation);
+    }
+
+    public static ParsedRecord rejected(int line, String reason) {
+        return new ParsedRecord(null, null, null, null, null, line, reason);
+    }
+
+    public boolean isAccepted() {
+        return rejectionReason == null;
+    }
+
+    /**
+     * Check item fields against the import rules
+     * @return the first violated rule, or null if the fields are valid
+     */
+    public static String violationOf(String itemName, Integer quantity, String place) {
+        if (itemName == null || itemName.isBlank()) {
+            return "Item name cannot be empty";
+        }
+        if (quantity == null || quantity <= 0) {
+            return "Quantity must be a positive number";
+        }
+        if (place == null || place.isBlank()) {
+            return "Place cannot be empty";
+        }
+        return null;
+    }
+
+    /**
+     * Parse a non-negative decimal quantity without substrings or exceptions
+     * @return the parsed value, or null if the range is empty, not all ASCII digits, or overflows an int
+     */
+    public static Integer parseQuantity(CharSequence text, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE) {
+                return null;
+            }
+        }
+        return (int) value;
+    }
+}
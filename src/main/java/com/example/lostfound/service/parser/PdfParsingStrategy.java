@@ -2,34 +2,27 @@ package com.example.lostfound.service.parser;
 
 import com.example.lostfound.entity.LostItem;
 import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.ParseBudgetExceededException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Component
 public class PdfParsingStrategy extends AbstractFileParsingStrategy {
 
-    // Structured patterns for key-value format
-    private static final Pattern ITEM_NAME_PATTERN = Pattern.compile(
-            "^\\s*Item\\s*Name\\s*:\\s*(.+?)\\s*$", Pattern.CASE_INSENSITIVE
-    );
-    private static final Pattern QUANTITY_PATTERN = Pattern.compile(
-            "^\\s*Quantity\\s*:\\s*(\\d+)\\s*$", Pattern.CASE_INSENSITIVE
-    );
-    private static final Pattern PLACE_PATTERN = Pattern.compile(
-            "^\\s*Place\\s*:\\s*(.+?)\\s*$", Pattern.CASE_INSENSITIVE
-    );
-
     @Override
     protected List<LostItem> doParseFile(MultipartFile file) throws Exception {
         String text = extractTextFromPdf(file);
@@ -52,15 +45,22 @@ public class PdfParsingStrategy extends AbstractFileParsingStrategy {
     }
 
     private String extractTextFromPdf(MultipartFile file) throws IOException, FileParsingException {
-        try (PDDocument document = Loader.loadPDF(file.getBytes())) {
+        ParseBudget budget = budget();
+        try (PDDocument document = load(file)) {
             if (document.getNumberOfPages() == 0) {
                 throw new FileParsingException("PDF file is empty or corrupted");
             }
+            budget.checkPageCount(document.getNumberOfPages());
             
-            PDFTextStripper stripper = new PDFTextStripper();
-            String text = stripper.getText(document);
+            PDFTextStripper stripper = new BudgetedTextStripper(budget);
+            String text;
+            try {
+                text = stripper.getText(document);
+            } catch (BudgetExceededIOException e) {
+                throw e.getCause();
+            }
             
-            if (text == null || text.trim().isEmpty()) {
+            if (text == null || text.isBlank()) {
                 throw new FileParsingException("No text content found in PDF");
             }
             
@@ -69,73 +69,41 @@ public class PdfParsingStrategy extends AbstractFileParsingStrategy {
         }
     }
 
-    private List<LostItem> parseStructuredFormat(String text) throws FileParsingException {
+    /**
+     * A file spooled to disk (a resumable upload or an archive entry) is read from its file as PDFBox needs
+     * it, rather than copied onto the heap whole
+     */
+    private static PDDocument load(MultipartFile file) throws IOException {
+        if (file instanceof SpooledMultipartFile spooled) {
+            return Loader.loadPDF(new RandomAccessReadBufferedFile(spooled.getPath()));
+        }
+        return Loader.loadPDF(file.getBytes());
+    }
+
+    private List<LostItem> parseStructuredFormat(CharSequence text) throws FileParsingException {
         List<LostItem> items = new ArrayList<>();
-        String[] lines = text.split("\n");
+        int rejected = 0;
         
-        String currentItemName = null;
-        Integer currentQuantity = null;
-        String currentPlace = null;
-        
-        for (String line : lines) {
-            line = line.trim();
-            
-            if (line.isEmpty() || isHeaderLine(line)) {
-                continue;
-            }
-            
-            // Try to match item name
-            Matcher itemNameMatcher = ITEM_NAME_PATTERN.matcher(line);
-            if (itemNameMatcher.matches()) {
-                // If we have a complete item, save it
-                if (currentItemName != null && currentQuantity != null && currentPlace != null) {
-                    try {
-                        validateItemData(currentItemName, currentQuantity, currentPlace);
-                        items.add(createLostItem(currentItemName, currentQuantity, currentPlace));
-                        log.debug("Parsed item: {} (qty: {}, place: {})", 
-                                 currentItemName, currentQuantity, currentPlace);
-                    } catch (Exception e) {
-                        log.debug("Failed to create item: {} - {}", currentItemName, e.getMessage());
-                    }
-                }
-                // Start new item
-                currentItemName = itemNameMatcher.group(1).trim();
-                currentQuantity = null;
-                currentPlace = null;
-                continue;
-            }
-            
-            // Try to match quantity
-            Matcher quantityMatcher = QUANTITY_PATTERN.matcher(line);
-            if (quantityMatcher.matches()) {
-                try {
-                    currentQuantity = Integer.parseInt(quantityMatcher.group(1).trim());
-                } catch (NumberFormatException e) {
-                    log.debug("Invalid quantity: {}", quantityMatcher.group(1));
-                }
-                continue;
-            }
-            
-            // Try to match place
-            Matcher placeMatcher = PLACE_PATTERN.matcher(line);
-            if (placeMatcher.matches()) {
-                currentPlace = placeMatcher.group(1).trim();
-                continue;
+        KeyValueRecordScanner scanner = new KeyValueRecordScanner(text, template(), false);
+        ParsedRecord record;
+        while ((record = scanner.next()) != null) {
+            budget().checkpoint();
+            if (record.isAccepted()) {
+                items.add(createLostItem(record));
+            } else {
+                rejected++;
+                log.debug("Skipping record at line {}: {}", record.line(), record.rejectionReason());
             }
         }
         
-        // Handle the last item
-        if (currentItemName != null && currentQuantity != null && currentPlace != null) {
-            try {
-                validateItemData(currentItemName, currentQuantity, currentPlace);
-                items.add(createLostItem(currentItemName, currentQuantity, currentPlace));
-                log.debug("Parsed item: {} (qty: {}, place: {})", 
-                         currentItemName, currentQuantity, currentPlace);
-            } catch (Exception e) {
-                log.debug("Failed to create last item: {} - {}", currentItemName, e.getMessage());
-            }
+        recordRejected(rejected);
+        if (rejected > 0) {
+            log.info("Skipped {} invalid records", rejected);
         }
         
+        if (items.isEmpty() && template() != RecordTemplate.DEFAULT) {
+            throw new FileParsingException("No valid items found with the selected parse template");
+        }
         if (items.isEmpty()) {
             throw new FileParsingException(
                 "No valid items found. Expected format:\n" +
@@ -148,9 +116,75 @@ public class PdfParsingStrategy extends AbstractFileParsingStrategy {
         return items;
     }
 
-    private boolean isHeaderLine(String line) {
-        String lower = line.toLowerCase();
-        return lower.contains("lost items") || lower.contains("report")
-            || lower.matches("^[\\s\\-=]+$");  // Lines with only spaces, dashes, or equals
+    /**
+     * Charges every content stream operator, page and extracted string to the parse budget, so that
+     * extraction of a pathological document stops between operators rather than running unbounded
+     */
+    private static final class BudgetedTextStripper extends PDFTextStripper {
+
+        private final ParseBudget budget;
+
+        private BudgetedTextStripper(ParseBudget budget) {
+            this.budget = budget;
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            charge(budget::addPage);
+            super.startPage(page);
+        }
+
+        @Override
+        protected void processOperator(Operator operator, List<COSBase> operands) throws IOException {
+            charge(budget::checkpoint);
+            super.processOperator(operator, operands);
+        }
+
+        /**
+         * PDFBox only logs a failure while drawing an XObject ({@code Do}) and carries on, which would
+         * lose a budget failure raised inside a form; it is passed on instead
+         */
+        @Override
+        protected void operatorException(Operator operator, List<COSBase> operands, IOException e)
+                throws IOException {
+            if (e instanceof BudgetExceededIOException) {
+                throw e;
+            }
+            super.operatorException(operator, operands, e);
+        }
+
+        @Override
+        protected void writeString(String text, List<TextPosition> textPositions) throws IOException {
+            charge(() -> budget.addCharacters(text.length()));
+            super.writeString(text, textPositions);
+        }
+
+        private static void charge(BudgetCharge charge) throws BudgetExceededIOException {
+            try {
+                charge.run();
+            } catch (ParseBudgetExceededException e) {
+                throw new BudgetExceededIOException(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface BudgetCharge {
+        void run() throws ParseBudgetExceededException;
+    }
+
+    /**
+     * Carries a budget failure out of PDFBox callbacks, which may only throw IOException
+     */
+    private static final class BudgetExceededIOException extends IOException {
+
+        private BudgetExceededIOException(ParseBudgetExceededException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ParseBudgetExceededException getCause() {
+            return (ParseBudgetExceededException) super.getCause();
+        }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.example.lostfound.service.parser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.pdmodel.font.FontMappers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+/**
+ * Takes PDFBox's one-time costs (system font scan of the font mapper, class loading and JIT of the text
+ * extraction path) at startup instead of on the first PDF upload, by parsing a small bundled PDF in the
+ * background. Reports OUT_OF_SERVICE until then; include it in the readiness health group so that no
+ * traffic is routed to the instance before warm-up has finished.
+ */
+@Slf4j
+@Component
+public class PdfWarmup implements HealthIndicator {
+
+    static final String WARMUP_METRIC = "file.parsing.pdf.warmup";
+    private static final String WARMUP_DOCUMENT = "warmup/lost-items.pdf";
+
+    private final PdfParsingStrategy pdfParsingStrategy;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    private volatile Health health = Health.outOfService().withDetail("warmup", "pending").build();
+
+    public PdfWarmup(PdfParsingStrategy pdfParsingStrategy,
+                     ObjectProvider<MeterRegistry> meterRegistry,
+                     @Value("${file.parsing.pdf.warmup.enabled:true}") boolean enabled) {
+        this.pdfParsingStrategy = pdfParsingStrategy;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.enabled = enabled;
+        if (!enabled) {
+            health = Health.up().withDetail("warmup", "disabled").build();
+        }
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void startWarmup() {
+        if (enabled) {
+            Thread.ofPlatform().name("pdf-warmup").daemon(true).start(this::warmUp);
+        }
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    void warmUp() {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            // The font mapper scans the system fonts lazily on the first lookup of a non-embedded font
+            FontMappers.instance().getFontBoxFont("Helvetica", null);
+
+            Path document = Files.createTempFile("pdf-warmup-", ".pdf");
+            try {
+                try (InputStream in = new ClassPathResource(WARMUP_DOCUMENT).getInputStream()) {
+                    Files.copy(in, document, StandardCopyOption.REPLACE_EXISTING);
+                }
+                pdfParsingStrategy.parseFile(new SpooledMultipartFile(
+                        "warmup.pdf", "application/pdf", document, Files.size(document)));
+            } finally {
+                Files.deleteIfExists(document);
+            }
+        } catch (Exception e) {
+            // Warm-up only saves time; a failure must not keep the instance out of service
+            outcome = "failure";
+            log.warn("PDF parser warm-up failed; the first PDF upload will be slower", e);
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        if (meterRegistry != null) {
+            Timer.builder(WARMUP_METRIC)
+                    .description("Time taken to warm up PDF parsing at startup")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(duration);
+        }
+        health = Health.up()
+                .withDetail("warmup", outcome)
+                .withDetail("durationMs", duration.toMillis())
+                .build();
+        log.info("PDF parser warm-up finished in {} ms ({})", duration.toMillis(), outcome);
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.lostfound.service.parser;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiled layout of key-value records: the label of each field and the separator between label and
+ * value. All labels are compiled into one deterministic automaton over ASCII, so a line is matched
+ * against every label in a single left-to-right pass, however many fields the template has.
+ * <p>
+ * Labels are matched case-insensitively, and the whitespace between the words of a label is optional
+ * ("Item Name", "itemname" and "ITEM   NAME" are the same label). Label syntax is ASCII only, so the
+ * automaton also runs on byte-backed sequences such as {@link Utf8ByteSequence}. Instances are
+ * immutable and thread-safe; compile once and share.
+ */
+public final class RecordTemplate {
+
+    public enum Field {
+        ITEM_NAME, QUANTITY, PLACE, DESCRIPTION, DATE
+    }
+
+    public static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd";
+
+    private static final int ALPHABET = 128;
+    private static final Field[] FIELDS = Field.values();
+
+    /** The built-in layout: {@code Item Name: ...}, {@code Quantity: ...}, {@code Place: ...} */
+    public static final RecordTemplate DEFAULT = compile(
+            Map.of(Field.ITEM_NAME, "Item Name", Field.QUANTITY, "Quantity", Field.PLACE, "Place"), ":", null);
+
+    /** Transition table, {@code next[state * ALPHABET + c]}, -1 where there is no transition */
+    private final int[] next;
+    /** Ordinal of the field whose label ends in a state, or -1 */
+    private final byte[] accepting;
+    private final char[] separator;
+    private final boolean hasDescription;
+    private final boolean hasDate;
+    private final String datePattern;
+    private final DateTimeFormatter dateFormatter;
+
+    private RecordTemplate(int[] next, byte[] accepting, String separator, boolean hasDescription,
+                           String datePattern) {
+        this.next = next;
+        this.accepting = accepting;
+        this.separator = separator.toCharArray();
+        this.hasDescription = hasDescription;
+        this.hasDate = datePattern != null;
+        this.datePattern = datePattern;
+        this.dateFormatter = datePattern != null ? DateTimeFormatter.ofPattern(datePattern, Locale.ROOT) : null;
+    }
+
+    /**
+     * Compile a template
+     * @param labels label per field; item name, quantity and place are required
+     * @param separator text between label and value, e.g. ":" or "=>"
+     * @param datePattern {@link DateTimeFormatter} pattern of date values, or null for
+     *                    {@value #DEFAULT_DATE_PATTERN}; ignored without a date label
+     * @throws IllegalArgumentException if the template is incomplete or ambiguous
+     */
+    public static RecordTemplate compile(Map<Field, String> labels, String separator, String datePattern) {
+        for (Field required : List.of(Field.ITEM_NAME, Field.QUANTITY, Field.PLACE)) {
+            if (labels.get(required) == null || labels.get(required).isBlank()) {
+                throw new IllegalArgumentException("A label for " + describe(required) + " is required");
+            }
+        }
+        if (separator == null || separator.isBlank()) {
+            throw new IllegalArgumentException("Separator must not be blank");
+        }
+        separator = separator.strip();
+        requireAscii(separator, "Separator");
+
+        Builder builder = new Builder();
+        Map<Field, String> sorted = new EnumMap<>(labels);
+        for (Map.Entry<Field, String> entry : sorted.entrySet()) {
+            String label = entry.getValue();
+            if (label == null || label.isBlank()) {
+                continue;
+            }
+            requireAscii(label, "Label '" + label + "'");
+            if (label.indexOf(separator.charAt(0)) >= 0) {
+                throw new IllegalArgumentException(
+                        "Label '" + label + "' must not contain '" + separator.charAt(0) + "'");
+            }
+            builder.add(entry.getKey(), label.strip().split("\\s+"));
+        }
+
+        boolean hasDate = sorted.get(Field.DATE) != null && !sorted.get(Field.DATE).isBlank();
+        String pattern = null;
+        if (hasDate) {
+            pattern = datePattern == null || datePattern.isBlank() ? DEFAULT_DATE_PATTERN : datePattern;
+            try {
+                DateTimeFormatter.ofPattern(pattern, Locale.ROOT);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid date pattern '" + pattern + "': " + e.getMessage());
+            }
+        }
+
+        boolean hasDescription = sorted.get(Field.DESCRIPTION) != null && !sorted.get(Field.DESCRIPTION).isBlank();
+        return builder.build(separator, hasDescription, pattern);
+    }
+
+    /**
+     * Match a label and the separator at the start of a trimmed line
+     * @param fieldOut receives the matched field at index 0 when a label matches
+     * @return the index of the first non-whitespace character of the value, or -1 if no label matches
+     */
+    int matchLabel(CharSequence text, int start, int end, Field[] fieldOut) {
+        int state = 0;
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c >= ALPHABET) {
+                break;
+            }
+            int target = next[state * ALPHABET + c];
+            if (target < 0) {
+                break;
+            }
+            state = target;
+            i++;
+        }
+        int field = accepting[state];
+        if (field < 0 || end - i < separator.length) {
+            return -1;
+        }
+        for (char expected : separator) {
+            if (text.charAt(i++) != expected) {
+                return -1;
+            }
+        }
+        while (i < end && text.charAt(i) <= ' ') {
+            i++;
+        }
+        fieldOut[0] = FIELDS[field];
+        return i;
+    }
+
+    public boolean hasDescription() {
+        return hasDescription;
+    }
+
+    public boolean hasDate() {
+        return hasDate;
+    }
+
+    public String getDatePattern() {
+        return datePattern;
+    }
+
+    /**
+     * @return the parsed date, or null if the value does not match the date pattern
+     */
+    LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value, dateFormatter);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static void requireAscii(String value, String what) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= ALPHABET || (c < ' ' && !Character.isWhitespace(c))) {
+                throw new IllegalArgumentException(what + " may only contain printable ASCII characters");
+            }
+        }
+    }
+
+    private static String describe(Field field) {
+        return field.name().toLowerCase(Locale.ROOT).replace('_', ' ');
+    }
+
+    private static char fold(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Builds the automaton as a trie of label characters. Between two words of a label the end state of
+     * the first word continues directly with the next word, or on whitespace to a gap state that skips
+     * further whitespace and then continues with the next word only (not with other labels that continue
+     * the same word). Label ends accept in both the end state and its gap state, which allows whitespace
+     * before the separator.
+     */
+    private static final class Builder {
+
+        private final List<int[]> states = new ArrayList<>();
+        private final List<Integer> accepting = new ArrayList<>();
+        /** Gap state of each state, or -1 if none has been created */
+        private final List<Integer> gaps = new ArrayList<>();
+
+        Builder() {
+            newState();
+        }
+
+        void add(Field field, String[] words) {
+            int state = 0;
+            for (int w = 0; w < words.length; w++) {
+                String word = words[w];
+                int first = step(state, fold(word.charAt(0)));
+                if (w > 0) {
+                    // the next word is reachable with or without whitespace in between
+                    int gap = gapOf(state);
+                    link(gap, fold(word.charAt(0)), first);
+                }
+                state = first;
+                for (int i = 1; i < word.length(); i++) {
+                    state = step(state, fold(word.charAt(i)));
+                }
+            }
+
+            Integer existing = accepting.get(state);
+            if (existing >= 0) {
+                throw new IllegalArgumentException("The labels for " + describe(FIELDS[existing]) + " and "
+                        + describe(field) + " are the same");
+            }
+            accepting.set(state, field.ordinal());
+            accepting.set(gapOf(state), field.ordinal());
+        }
+
+        RecordTemplate build(String separator, boolean hasDescription, String datePattern) {
+            int[] next = new int[states.size() * ALPHABET];
+            byte[] accept = new byte[states.size()];
+            for (int s = 0; s < states.size(); s++) {
+                System.arraycopy(states.get(s), 0, next, s * ALPHABET, ALPHABET);
+                accept[s] = (byte) (int) accepting.get(s);
+            }
+            return new RecordTemplate(next, accept, separator, hasDescription, datePattern);
+        }
+
+        /** Follow or create the transition on a (folded) label character */
+        private int step(int state, char c) {
+            int target = states.get(state)[c];
+            if (target < 0) {
+                target = newState();
+                link(state, c, target);
+            }
+            return target;
+        }
+
+        /** Add a transition on a folded character and its upper-case form, so matching needs no folding */
+        private void link(int state, char c, int target) {
+            states.get(state)[c] = target;
+            if (c >= 'a' && c <= 'z') {
+                states.get(state)[c - ('a' - 'A')] = target;
+            }
+        }
+
+        private int gapOf(int state) {
+            int gap = gaps.get(state);
+            if (gap < 0) {
+                gap = newState();
+                gaps.set(state, gap);
+                for (char c = 0; c <= ' '; c++) {
+                    states.get(state)[c] = gap;
+                    states.get(gap)[c] = gap;
+                }
+                // A gap may be created after the state already accepts a label
+                accepting.set(gap, accepting.get(state));
+            }
+            return gap;
+        }
+
+        private int newState() {
+            int[] transitions = new int[ALPHABET];
+            Arrays.fill(transitions, -1);
+            states.add(transitions);
+            accepting.add(-1);
+            gaps.add(-1);
+            return states.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.FileParsingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Parses plain-text reports in either the key-value format or the single-line
+ * {@code name quantity place} / {@code name, quantity, place} format (both may be mixed in one file).
+ * The upload is spooled to the upload directory, unless it is on disk already, and memory-mapped; the
+ * scanner runs over the mapped UTF-8 bytes in place and decodes only the field values it keeps.
+ */
+@Slf4j
+@Component
+public class TextParsingStrategy extends AbstractFileParsingStrategy {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final Path spoolDirectory;
+
+    public TextParsingStrategy(@Value("${file.upload.directory:${java.io.tmpdir}}") Path spoolDirectory) {
+        this.spoolDirectory = spoolDirectory.toAbsolutePath();
+    }
+
+    @Override
+    protected List<LostItem> doParseFile(MultipartFile file) throws Exception {
+        List<LostItem> items = new ArrayList<>();
+        doParseFile(file, DEFAULT_CHUNK_SIZE, items::addAll);
+        return items;
+    }
+
+    @Override
+    protected int doParseFile(MultipartFile file, int chunkSize, Consumer<List<LostItem>> chunkConsumer)
+            throws Exception {
+        // A file already spooled to disk (a resumable upload or an archive entry) is mapped where it is
+        Path spooled = file instanceof SpooledMultipartFile onDisk ? onDisk.getPath() : spool(file);
+        try (FileChannel channel = FileChannel.open(spooled, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new FileParsingException("Text file is too large to map: " + size + " bytes");
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            skipByteOrderMark(mapped);
+
+            KeyValueRecordScanner scanner = new KeyValueRecordScanner(new Utf8ByteSequence(mapped), template(), true);
+            ItemChunker chunker = new ItemChunker(chunkSize, chunkConsumer, budget());
+
+            ParsedRecord record;
+            while ((record = scanner.next()) != null) {
+                if (record.isAccepted()) {
+                    chunker.add(createLostItem(record));
+                } else {
+                    chunker.reject();
+                    log.debug("Skipping record at line {}: {}", record.line(), record.rejectionReason());
+                }
+            }
+
+            int itemCount = chunker.finish();
+            recordRejected(chunker.getRejectedCount());
+            if (chunker.getRejectedCount() > 0) {
+                log.info("Skipped {} invalid text records", chunker.getRejectedCount());
+            }
+            return itemCount;
+        } finally {
+            if (!(file instanceof SpooledMultipartFile)) {
+                deleteSpooledFile(spooled);
+            }
+        }
+    }
+
+    @Override
+    protected List<String> getSupportedExtensions() {
+        return List.of(".txt", ".text");
+    }
+
+    @Override
+    protected List<String> getSupportedMimeTypes() {
+        return List.of("text/plain");
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Text File Parser";
+    }
+
+    /**
+     * Move the upload into a file we own so it can be mapped; for disk-backed multipart
+     * uploads transferTo is a rename rather than a copy
+     */
+    private Path spool(MultipartFile file) throws IOException {
+        Files.createDirectories(spoolDirectory);
+        Path spooled = Files.createTempFile(spoolDirectory, "upload-", ".txt");
+        try {
+            file.transferTo(spooled.toFile());
+        } catch (IOException | RuntimeException e) {
+            deleteSpooledFile(spooled);
+            throw e;
+        }
+        return spooled;
+    }
+
+    private static void skipByteOrderMark(MappedByteBuffer buffer) {
+        if (buffer.remaining() >= 3
+                && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+            buffer.position(3);
+        }
+    }
+
+    private static void deleteSpooledFile(Path spooled) {
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled upload {}: {}", spooled, e.getMessage());
+        }
+    }
+}
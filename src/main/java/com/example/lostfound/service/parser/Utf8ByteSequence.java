@@ -0,0 +1,54 @@
+package com.example.lostfound.service.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view over UTF-8 bytes that decodes lazily.
+ * {@link #charAt(int)} returns the raw byte, which is exact for ASCII; every byte of a multi-byte
+ * UTF-8 sequence is at least 0x80, so it can never be mistaken for ASCII syntax such as whitespace,
+ * digits, colons or key letters. Only {@link #toString()} decodes, so a scanner whose syntax is pure
+ * ASCII can work in place over a (memory-mapped) buffer and decode just the values it keeps.
+ * Indexes are byte offsets, not character offsets.
+ */
+final class Utf8ByteSequence implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    Utf8ByteSequence(ByteBuffer buffer) {
+        this(buffer, buffer.position(), buffer.remaining());
+    }
+
+    private Utf8ByteSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new Utf8ByteSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
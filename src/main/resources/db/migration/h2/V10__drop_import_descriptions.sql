@@ -0,0 +1,5 @@
+-- H2 counterpart of mysql/V10__drop_import_descriptions.sql
+
+DELETE FROM lost_item_details
+WHERE description IN ('Imported from CSV Parser', 'Imported from JSON Parser', 'Imported from PDF Parser',
+                      'Imported from Text File Parser');
@@ -0,0 +1,45 @@
+-- H2 counterpart of mysql/V1__initial_schema.sql, used by the default and test profiles
+
+CREATE TABLE users (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username                VARCHAR(255) NOT NULL,
+    password                VARCHAR(255) NOT NULL,
+    name                    VARCHAR(255) NOT NULL,
+    email                   VARCHAR(255) NOT NULL,
+    role                    VARCHAR(20)  NOT NULL,
+    created_at              TIMESTAMP(6) NOT NULL,
+    updated_at              TIMESTAMP(6),
+    enabled                 BOOLEAN      NOT NULL,
+    account_non_expired     BOOLEAN      NOT NULL,
+    account_non_locked      BOOLEAN      NOT NULL,
+    credentials_non_expired BOOLEAN      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username),
+    CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+);
+
+CREATE TABLE lost_items (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    item_name          VARCHAR(255) NOT NULL,
+    quantity           INTEGER      NOT NULL,
+    remaining_quantity INTEGER      NOT NULL,
+    place              VARCHAR(255) NOT NULL,
+    description        CLOB,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6),
+    version            BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE claims (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id          BIGINT       NOT NULL,
+    lost_item_id     BIGINT       NOT NULL,
+    claimed_quantity INTEGER      NOT NULL,
+    claim_date       TIMESTAMP(6) NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    notes            CLOB,
+    PRIMARY KEY (id),
+    CONSTRAINT FKpa11rhvbu0t3yoouw2m6k15ic FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT FKmaf4yv970rmu2ee413knk30s3 FOREIGN KEY (lost_item_id) REFERENCES lost_items (id)
+);
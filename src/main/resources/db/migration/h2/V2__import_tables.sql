@@ -0,0 +1,68 @@
+-- H2 counterpart of mysql/V2__import_tables.sql
+
+ALTER TABLE lost_items ADD COLUMN found_date DATE AFTER description;
+ALTER TABLE lost_items ADD COLUMN import_batch_id BIGINT AFTER updated_at;
+ALTER TABLE lost_items ADD COLUMN merge_key VARCHAR(64) AFTER import_batch_id;
+
+CREATE INDEX idx_lost_items_import_batch ON lost_items (import_batch_id);
+CREATE INDEX idx_lost_items_merge_key ON lost_items (merge_key);
+
+CREATE TABLE import_batches (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    content_hash   VARCHAR(64)  NOT NULL,
+    file_name      VARCHAR(255),
+    content_type   VARCHAR(255),
+    file_size      BIGINT       NOT NULL,
+    mode           VARCHAR(20)  NOT NULL,
+    item_count     INTEGER      NOT NULL,
+    created_count  INTEGER      NOT NULL,
+    merged_count   INTEGER      NOT NULL,
+    rejected_count INTEGER      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_import_batches_content_hash UNIQUE (content_hash)
+);
+
+CREATE TABLE import_merges (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    import_batch_id BIGINT  NOT NULL,
+    lost_item_id    BIGINT  NOT NULL,
+    quantity        INTEGER NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_import_merges_import_batch ON import_merges (import_batch_id);
+CREATE INDEX idx_import_merges_lost_item ON import_merges (lost_item_id);
+
+CREATE TABLE parse_templates (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name              VARCHAR(100) NOT NULL,
+    item_name_label   VARCHAR(100) NOT NULL,
+    quantity_label    VARCHAR(100) NOT NULL,
+    place_label       VARCHAR(100) NOT NULL,
+    description_label VARCHAR(100),
+    date_label        VARCHAR(100),
+    date_pattern      VARCHAR(50),
+    label_separator   VARCHAR(10)  NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    version           BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_parse_templates_name UNIQUE (name)
+);
+
+CREATE TABLE upload_sessions (
+    id             VARCHAR(36)  NOT NULL,
+    file_name      VARCHAR(255) NOT NULL,
+    content_type   VARCHAR(255),
+    file_size      BIGINT       NOT NULL,
+    received_bytes BIGINT       NOT NULL,
+    mode           VARCHAR(20)  NOT NULL,
+    template_name  VARCHAR(100),
+    status         VARCHAR(20)  NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_upload_sessions_updated_at ON upload_sessions (updated_at);
@@ -0,0 +1,13 @@
+-- H2 counterpart of mysql/V3__query_indexes.sql
+
+-- Available items (remaining_quantity > 0), listed and counted on every browse
+CREATE INDEX idx_lost_items_remaining_quantity ON lost_items (remaining_quantity);
+
+-- Duplicate-claim check (user_id, lost_item_id); also serves the user_id foreign key
+CREATE INDEX idx_claims_user_lost_item ON claims (user_id, lost_item_id);
+
+-- Claimed quantity of an item by status; also serves the lost_item_id foreign key
+CREATE INDEX idx_claims_lost_item_status ON claims (lost_item_id, status);
+
+-- Admin listing of claims by status
+CREATE INDEX idx_claims_status ON claims (status);
@@ -0,0 +1,15 @@
+-- H2 counterpart of mysql/V4__availability_counters.sql
+
+CREATE TABLE availability_counters (
+    scope           VARCHAR(10)  NOT NULL, -- TOTAL, or PLACE for the counter of one place
+    place           VARCHAR(255) NOT NULL, -- empty for the total
+    stripe          INTEGER      NOT NULL,
+    available_items BIGINT       NOT NULL,
+    PRIMARY KEY (scope, place, stripe)
+);
+
+INSERT INTO availability_counters (scope, place, stripe, available_items)
+SELECT 'TOTAL', '', 0, COUNT(*) FROM lost_items WHERE remaining_quantity > 0;
+
+INSERT INTO availability_counters (scope, place, stripe, available_items)
+SELECT 'PLACE', place, 0, COUNT(*) FROM lost_items WHERE remaining_quantity > 0 GROUP BY place;
@@ -0,0 +1,5 @@
+-- H2 counterpart of mysql/V5__partition_claims.sql. H2 cannot partition claims; its foreign keys are
+-- dropped all the same, so that both databases enforce the same constraints.
+
+ALTER TABLE claims DROP CONSTRAINT FKpa11rhvbu0t3yoouw2m6k15ic;
+ALTER TABLE claims DROP CONSTRAINT FKmaf4yv970rmu2ee413knk30s3;
@@ -0,0 +1,28 @@
+-- H2 counterpart of mysql/V6__archive_tables.sql. Ids are copied from the hot tables, not generated.
+
+CREATE TABLE lost_items_archive (
+    id                 BIGINT       NOT NULL,
+    item_name          VARCHAR(255) NOT NULL,
+    quantity           INTEGER      NOT NULL,
+    remaining_quantity INTEGER      NOT NULL,
+    place              VARCHAR(255) NOT NULL,
+    description        CLOB,
+    found_date         DATE,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6),
+    import_batch_id    BIGINT,
+    merge_key          VARCHAR(64),
+    version            BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE claims_archive (
+    id               BIGINT       NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    lost_item_id     BIGINT       NOT NULL,
+    claimed_quantity INTEGER      NOT NULL,
+    claim_date       TIMESTAMP(6) NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    notes            CLOB,
+    PRIMARY KEY (id)
+);
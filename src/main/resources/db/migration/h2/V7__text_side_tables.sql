@@ -0,0 +1,31 @@
+-- H2 counterpart of mysql/V7__text_side_tables.sql
+
+CREATE TABLE lost_item_details (
+    lost_item_id BIGINT NOT NULL,
+    description  CLOB   NOT NULL,
+    PRIMARY KEY (lost_item_id)
+);
+
+INSERT INTO lost_item_details (lost_item_id, description)
+SELECT id, description FROM lost_items WHERE description IS NOT NULL;
+
+INSERT INTO lost_item_details (lost_item_id, description)
+SELECT id, description FROM lost_items_archive WHERE description IS NOT NULL;
+
+ALTER TABLE lost_items DROP COLUMN description;
+ALTER TABLE lost_items_archive DROP COLUMN description;
+
+CREATE TABLE claim_notes (
+    claim_id BIGINT NOT NULL,
+    notes    CLOB   NOT NULL,
+    PRIMARY KEY (claim_id)
+);
+
+INSERT INTO claim_notes (claim_id, notes)
+SELECT id, notes FROM claims WHERE notes IS NOT NULL;
+
+INSERT INTO claim_notes (claim_id, notes)
+SELECT id, notes FROM claims_archive WHERE notes IS NOT NULL;
+
+ALTER TABLE claims DROP COLUMN notes;
+ALTER TABLE claims_archive DROP COLUMN notes;
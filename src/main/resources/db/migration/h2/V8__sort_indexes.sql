@@ -0,0 +1,11 @@
+-- H2 counterpart of mysql/V8__sort_indexes.sql
+
+-- Available items by newest, by name, and by place then name
+CREATE INDEX idx_lost_items_created_at ON lost_items (created_at);
+CREATE INDEX idx_lost_items_item_name ON lost_items (item_name);
+CREATE INDEX idx_lost_items_place_item_name ON lost_items (place, item_name);
+
+-- Claims by claim date, and by status then claim date; the latter replaces idx_claims_status
+CREATE INDEX idx_claims_claim_date ON claims (claim_date);
+CREATE INDEX idx_claims_status_claim_date ON claims (status, claim_date);
+DROP INDEX idx_claims_status;
@@ -0,0 +1,10 @@
+-- H2 counterpart of mysql/V9__search_columns.sql
+
+ALTER TABLE lost_items ADD COLUMN item_name_search VARCHAR(255);
+ALTER TABLE lost_items ADD COLUMN place_search VARCHAR(255);
+
+CREATE INDEX idx_lost_items_item_name_search ON lost_items (item_name_search);
+CREATE INDEX idx_lost_items_place_search ON lost_items (place_search);
+
+ALTER TABLE lost_items_archive ADD COLUMN item_name_search VARCHAR(255);
+ALTER TABLE lost_items_archive ADD COLUMN place_search VARCHAR(255);
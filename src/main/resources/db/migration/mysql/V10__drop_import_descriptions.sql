@@ -0,0 +1,6 @@
+-- Imports used to store 'Imported from <parser>' as the description of every record that had none. They
+-- now store no description for such a record, and where an imported item came from is read from its
+-- import_batches row (LostItemDetailsRepository.findDescriptions), so the boilerplate rows are removed.
+DELETE FROM lost_item_details
+WHERE description IN ('Imported from CSV Parser', 'Imported from JSON Parser', 'Imported from PDF Parser',
+                      'Imported from Text File Parser');
@@ -0,0 +1,47 @@
+-- Schema as ddl-auto: update created it before the schema moved to migrations, constraint names
+-- included, so that existing databases can be baselined at this version
+-- (spring.flyway.baseline-on-migrate) and fresh ones end up identical.
+
+CREATE TABLE users (
+    id                      BIGINT       NOT NULL AUTO_INCREMENT,
+    username                VARCHAR(255) NOT NULL,
+    password                VARCHAR(255) NOT NULL,
+    name                    VARCHAR(255) NOT NULL,
+    email                   VARCHAR(255) NOT NULL,
+    role                    ENUM ('ADMIN','USER') NOT NULL,
+    created_at              DATETIME(6)  NOT NULL,
+    updated_at              DATETIME(6),
+    enabled                 BIT          NOT NULL,
+    account_non_expired     BIT          NOT NULL,
+    account_non_locked      BIT          NOT NULL,
+    credentials_non_expired BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username),
+    CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE lost_items (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    item_name          VARCHAR(255) NOT NULL,
+    quantity           INTEGER      NOT NULL,
+    remaining_quantity INTEGER      NOT NULL,
+    place              VARCHAR(255) NOT NULL,
+    description        TEXT,
+    created_at         DATETIME(6)  NOT NULL,
+    updated_at         DATETIME(6),
+    version            BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE claims (
+    id               BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT      NOT NULL,
+    lost_item_id     BIGINT      NOT NULL,
+    claimed_quantity INTEGER     NOT NULL,
+    claim_date       DATETIME(6) NOT NULL,
+    status           ENUM ('APPROVED','FULFILLED','PENDING','REJECTED') NOT NULL,
+    notes            TEXT,
+    PRIMARY KEY (id),
+    CONSTRAINT FKpa11rhvbu0t3yoouw2m6k15ic FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT FKmaf4yv970rmu2ee413knk30s3 FOREIGN KEY (lost_item_id) REFERENCES lost_items (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,70 @@
+-- Imports: the batches and merges behind import listing and rollback, admin-defined parse templates,
+-- resumable upload sessions, and the found date, import and merge key of each item.
+
+ALTER TABLE lost_items
+    ADD COLUMN found_date      DATE        AFTER description,
+    ADD COLUMN import_batch_id BIGINT      AFTER updated_at,
+    ADD COLUMN merge_key       VARCHAR(64) AFTER import_batch_id;
+
+CREATE INDEX idx_lost_items_import_batch ON lost_items (import_batch_id);
+CREATE INDEX idx_lost_items_merge_key ON lost_items (merge_key);
+
+CREATE TABLE import_batches (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    content_hash   VARCHAR(64)  NOT NULL,
+    file_name      VARCHAR(255),
+    content_type   VARCHAR(255),
+    file_size      BIGINT       NOT NULL,
+    mode           ENUM ('APPEND','MERGE') NOT NULL,
+    item_count     INTEGER      NOT NULL,
+    created_count  INTEGER      NOT NULL,
+    merged_count   INTEGER      NOT NULL,
+    rejected_count INTEGER      NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_import_batches_content_hash UNIQUE (content_hash)
+) ENGINE = InnoDB;
+
+CREATE TABLE import_merges (
+    id              BIGINT  NOT NULL AUTO_INCREMENT,
+    import_batch_id BIGINT  NOT NULL,
+    lost_item_id    BIGINT  NOT NULL,
+    quantity        INTEGER NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_import_merges_import_batch ON import_merges (import_batch_id);
+CREATE INDEX idx_import_merges_lost_item ON import_merges (lost_item_id);
+
+CREATE TABLE parse_templates (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    name              VARCHAR(100) NOT NULL,
+    item_name_label   VARCHAR(100) NOT NULL,
+    quantity_label    VARCHAR(100) NOT NULL,
+    place_label       VARCHAR(100) NOT NULL,
+    description_label VARCHAR(100),
+    date_label        VARCHAR(100),
+    date_pattern      VARCHAR(50),
+    label_separator   VARCHAR(10)  NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    updated_at        DATETIME(6),
+    version           BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_parse_templates_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE upload_sessions (
+    id             VARCHAR(36)  NOT NULL,
+    file_name      VARCHAR(255) NOT NULL,
+    content_type   VARCHAR(255),
+    file_size      BIGINT       NOT NULL,
+    received_bytes BIGINT       NOT NULL,
+    mode           ENUM ('APPEND','MERGE') NOT NULL,
+    template_name  VARCHAR(100),
+    status         ENUM ('OPEN','COMPLETING') NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_upload_sessions_updated_at ON upload_sessions (updated_at);
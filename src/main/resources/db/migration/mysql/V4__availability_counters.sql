@@ -0,0 +1,17 @@
+-- Counters of available items (remaining_quantity > 0), in total and per place, maintained by the
+-- application in the transactions that change availability (see AvailabilityCounterService). Each
+-- counter is split over stripes, rows of the same scope and place summed on read.
+
+CREATE TABLE availability_counters (
+    scope           VARCHAR(10)  NOT NULL, -- TOTAL, or PLACE for the counter of one place
+    place           VARCHAR(255) NOT NULL, -- empty for the total
+    stripe          INTEGER      NOT NULL,
+    available_items BIGINT       NOT NULL,
+    PRIMARY KEY (scope, place, stripe)
+) ENGINE = InnoDB;
+
+INSERT INTO availability_counters (scope, place, stripe, available_items)
+SELECT 'TOTAL', '', 0, COUNT(*) FROM lost_items WHERE remaining_quantity > 0;
+
+INSERT INTO availability_counters (scope, place, stripe, available_items)
+SELECT 'PLACE', place, 0, COUNT(*) FROM lost_items WHERE remaining_quantity > 0 GROUP BY place;
@@ -0,0 +1,23 @@
+-- Range partitions of claims by claim_date: p_history for everything before the month of this migration,
+-- then one partition per month, and p_future (MAXVALUE), which ClaimPartitionService keeps empty by splitting
+-- the coming months off it. Retention drops whole monthly partitions. Queries bounded by claim_date only
+-- read the partitions of their range.
+
+-- A partitioned table cannot have foreign keys
+ALTER TABLE claims
+    DROP FOREIGN KEY FKpa11rhvbu0t3yoouw2m6k15ic,
+    DROP FOREIGN KEY FKmaf4yv970rmu2ee413knk30s3;
+
+-- Every unique key of a partitioned table must contain the partitioning column
+ALTER TABLE claims DROP PRIMARY KEY, ADD PRIMARY KEY (id, claim_date);
+
+SET @month = DATE_FORMAT(CURRENT_DATE, '%Y-%m-01');
+SET @partition_claims = CONCAT(
+    'ALTER TABLE claims PARTITION BY RANGE COLUMNS (claim_date) (',
+    'PARTITION p_history VALUES LESS THAN (''', @month, '''), ',
+    'PARTITION p', DATE_FORMAT(@month, '%Y%m'),
+    ' VALUES LESS THAN (''', DATE_ADD(@month, INTERVAL 1 MONTH), '''), ',
+    'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_claims FROM @partition_claims;
+EXECUTE partition_claims;
+DEALLOCATE PREPARE partition_claims;
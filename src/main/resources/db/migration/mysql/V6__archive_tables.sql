@@ -0,0 +1,8 @@
+-- Archive tier: depleted items and closed claims are moved here by ArchiveService, so that the hot
+-- tables only hold what listings and claims work on. Same columns and indexes as the hot tables; the
+-- claims archive is not partitioned.
+
+CREATE TABLE lost_items_archive LIKE lost_items;
+
+CREATE TABLE claims_archive LIKE claims;
+ALTER TABLE claims_archive REMOVE PARTITIONING;
@@ -0,0 +1,34 @@
+-- Item descriptions and claim notes move out of the hot rows into side tables keyed by the owner's id,
+-- read only by detail views and listings that ask for them. Archived rows keep their text in the same
+-- side tables.
+-- Instances running the previous version still select these columns: stop them before migrating.
+
+CREATE TABLE lost_item_details (
+    lost_item_id BIGINT NOT NULL,
+    description  TEXT   NOT NULL,
+    PRIMARY KEY (lost_item_id)
+) ENGINE = InnoDB;
+
+INSERT INTO lost_item_details (lost_item_id, description)
+SELECT id, description FROM lost_items WHERE description IS NOT NULL;
+
+INSERT INTO lost_item_details (lost_item_id, description)
+SELECT id, description FROM lost_items_archive WHERE description IS NOT NULL;
+
+ALTER TABLE lost_items DROP COLUMN description;
+ALTER TABLE lost_items_archive DROP COLUMN description;
+
+CREATE TABLE claim_notes (
+    claim_id BIGINT NOT NULL,
+    notes    TEXT   NOT NULL,
+    PRIMARY KEY (claim_id)
+) ENGINE = InnoDB;
+
+INSERT INTO claim_notes (claim_id, notes)
+SELECT id, notes FROM claims WHERE notes IS NOT NULL;
+
+INSERT INTO claim_notes (claim_id, notes)
+SELECT id, notes FROM claims_archive WHERE notes IS NOT NULL;
+
+ALTER TABLE claims DROP COLUMN notes;
+ALTER TABLE claims_archive DROP COLUMN notes;
@@ -0,0 +1,13 @@
+-- Indexes that return the sorts accepted by PagePolicy in order, so a page is read from an index scan
+-- instead of sorting every matching row. InnoDB keeps the primary key at the end of each secondary
+-- index, so each of them is also in id order for equal values, the tie-breaker PagePolicy appends.
+
+-- Available items by newest, by name, and by place then name
+CREATE INDEX idx_lost_items_created_at ON lost_items (created_at);
+CREATE INDEX idx_lost_items_item_name ON lost_items (item_name);
+CREATE INDEX idx_lost_items_place_item_name ON lost_items (place, item_name);
+
+-- Claims by claim date, and by status then claim date; the latter replaces idx_claims_status
+CREATE INDEX idx_claims_claim_date ON claims (claim_date);
+CREATE INDEX idx_claims_status_claim_date ON claims (status, claim_date);
+DROP INDEX idx_claims_status ON claims;
@@ -0,0 +1,16 @@
+-- Normalized copies of item_name and place that search compares with (LostItem.searchKeyOf): lower-cased,
+-- accents removed and whitespace collapsed by the application on every write. As no function has to be
+-- applied to them, a prefix search ('umbr%') is a range scan of their indexes. Binary collation, as they
+-- are already normalized and are compared exactly. Existing rows are filled in at startup
+-- (LostItemService.backfillSearchKeys). The archive gets the same columns, so that it keeps the columns of
+-- lost_items and archived rows are copied whole; it is not searched, so it needs no index on them.
+ALTER TABLE lost_items
+    ADD COLUMN item_name_search VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin,
+    ADD COLUMN place_search     VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin;
+
+CREATE INDEX idx_lost_items_item_name_search ON lost_items (item_name_search);
+CREATE INDEX idx_lost_items_place_search ON lost_items (place_search);
+
+ALTER TABLE lost_items_archive
+    ADD COLUMN item_name_search VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin,
+    ADD COLUMN place_search     VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin;
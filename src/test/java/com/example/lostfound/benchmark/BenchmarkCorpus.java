@@ -0,0 +1,182 @@
+package com.example.lostfound.benchmark;
+
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+
+/**
+ * Deterministic corpus of lost item reports for the parser benchmarks. The same seed and record count
+ * always produce the same records, so runs on different machines and commits parse identical input.
+ * Every {@value #INVALID_EVERY}th record has quantity 0 and is rejected by the parsers.
+ * <p>
+ * Files are written once to {@code target/benchmark-corpus} (override with {@code -Dbenchmark.corpus.dir})
+ * and reused by later runs. Generate them up front with this class's {@code main} method, passing the
+ * record counts (default: 1000 10000 100000 1000000).
+ */
+public final class BenchmarkCorpus {
+
+    public enum Format {
+        PDF(".pdf", "application/pdf"),
+        TEXT(".txt", "text/plain"),
+        CSV(".csv", "text/csv");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    static final int INVALID_EVERY = 50;
+
+    private static final long SEED = 0x105F0C0DL;
+    private static final String[] ITEMS = {
+            "Laptop", "Backpack", "Umbrella", "Water Bottle", "Keys", "Wallet", "Phone Charger",
+            "Headphones", "Textbook", "Calculator", "Jacket", "Sunglasses", "USB Flash Drive", "Notebook"
+    };
+    private static final String[] PLACES = {
+            "Library Main Floor", "Computer Lab Room 205", "Cafeteria", "Gym Locker Room",
+            "Main Entrance", "Lecture Hall B", "Parking Lot C", "Student Union", "Science Building Lobby"
+    };
+
+    // PDF layout: US Letter, 12pt Helvetica, four lines per record (three fields and a blank line)
+    private static final float FONT_SIZE = 12;
+    private static final float LEADING = 14;
+    private static final float MARGIN = 50;
+    private static final int RECORDS_PER_PAGE =
+            (int) ((PDRectangle.LETTER.getHeight() - 2 * MARGIN) / LEADING) / 4;
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * Path of the corpus file with the given format and record count, generating it if it does not exist yet
+     */
+    public static synchronized Path file(Format format, int records) throws IOException {
+        Path directory = Path.of(System.getProperty("benchmark.corpus.dir", "target/benchmark-corpus"));
+        Path file = directory.resolve("lost-items-" + records + format.extension);
+        if (Files.exists(file)) {
+            return file;
+        }
+
+        Files.createDirectories(directory);
+        Path partial = Files.createTempFile(directory, "lost-items-", format.extension + ".part");
+        try {
+            switch (format) {
+                case PDF -> writePdf(partial, records);
+                case TEXT -> writeText(partial, records);
+                case CSV -> writeCsv(partial, records);
+            }
+            Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        return file;
+    }
+
+    /**
+     * Number of records in a corpus of the given size that the parsers accept
+     */
+    public static int validRecords(int records) {
+        return records - (records + INVALID_EVERY - 1) / INVALID_EVERY;
+    }
+
+    private static void writeText(Path path, int records) throws IOException {
+        Generator generator = new Generator();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("Lost Items Report\n=================\n\n");
+            for (int i = 0; i < records; i++) {
+                generator.next(i);
+                writer.write("Item Name: " + generator.itemName + "\n");
+                writer.write("Quantity: " + generator.quantity + "\n");
+                writer.write("Place: " + generator.place + "\n\n");
+            }
+        }
+    }
+
+    private static void writeCsv(Path path, int records) throws IOException {
+        Generator generator = new Generator();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("Item Name,Quantity,Place\n");
+            for (int i = 0; i < records; i++) {
+                generator.next(i);
+                writer.write(generator.itemName + "," + generator.quantity + "," + generator.place + "\n");
+            }
+        }
+    }
+
+    private static void writePdf(Path path, int records) throws IOException {
+        Generator generator = new Generator();
+        // Spool finished pages to disk so that a million records do not have to fit in memory
+        try (PDDocument document = new PDDocument(IOUtils.createTempFileOnlyStreamCache())) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int first = 0; first < records; first += RECORDS_PER_PAGE) {
+                PDPage page = new PDPage(PDRectangle.LETTER);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, FONT_SIZE);
+                    content.setLeading(LEADING);
+                    content.newLineAtOffset(MARGIN, PDRectangle.LETTER.getHeight() - MARGIN);
+                    for (int i = first; i < Math.min(first + RECORDS_PER_PAGE, records); i++) {
+                        generator.next(i);
+                        content.showText("Item Name: " + generator.itemName);
+                        content.newLine();
+                        content.showText("Quantity: " + generator.quantity);
+                        content.newLine();
+                        content.showText("Place: " + generator.place);
+                        content.newLine();
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(path.toFile());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String[] counts = args.length > 0 ? args : new String[]{"1000", "10000", "100000", "1000000"};
+        for (String count : counts) {
+            for (Format format : Format.values()) {
+                long start = System.nanoTime();
+                Path file = file(format, Integer.parseInt(count));
+                System.out.printf("%s (%,d bytes) ready in %,d ms%n",
+                        file, Files.size(file), (System.nanoTime() - start) / 1_000_000);
+            }
+        }
+    }
+
+    /** Field values of record i; a fresh generator per file yields the same sequence for every format */
+    private static final class Generator {
+
+        private final Random random = new Random(SEED);
+        private String itemName;
+        private int quantity;
+        private String place;
+
+        void next(int i) {
+            itemName = ITEMS[random.nextInt(ITEMS.length)] + " " + i;
+            quantity = i % INVALID_EVERY == 0 ? 0 : 1 + random.nextInt(7);
+            place = PLACES[random.nextInt(PLACES.length)];
+        }
+    }
+}
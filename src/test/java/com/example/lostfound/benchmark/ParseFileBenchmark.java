@@ -0,0 +1,109 @@
+package com.example.lostfound.benchmark;
+
+import com.example.lostfound.benchmark.BenchmarkCorpus.Format;
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.service.parser.AbstractFileParsingStrategy;
+import com.example.lostfound.service.parser.CsvParsingStrategy;
+import com.example.lostfound.service.parser.PdfParsingStrategy;
+import com.example.lostfound.service.parser.SpooledMultipartFile;
+import com.example.lostfound.service.parser.TextParsingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code parseFile} of each strategy on the {@link BenchmarkCorpus}, both the list-returning
+ * variant used by append imports and the chunked variant used by merge imports. The upload size limit is
+ * lifted so that the large corpus files are accepted.
+ * <p>
+ * Run with: {@code mvn test-compile} followed by this class's {@code main} method on the test classpath.
+ * The 1M-record PDF takes minutes per operation; narrow a run with e.g. {@code -p format=TEXT,CSV}
+ * through {@code org.openjdk.jmh.Main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParseFileBenchmark {
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Param({"TEXT", "CSV", "PDF"})
+    private Format format;
+
+    @Param({"1000", "100000", "1000000"})
+    private int records;
+
+    private AbstractFileParsingStrategy strategy;
+    private SpooledMultipartFile file;
+    private int validRecords;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path path = BenchmarkCorpus.file(format, records);
+        file = new SpooledMultipartFile(path.getFileName().toString(), format.getContentType(), path,
+                Files.size(path));
+        strategy = switch (format) {
+            case PDF -> new PdfParsingStrategy() {
+                @Override
+                protected long getMaxFileSize() {
+                    return Long.MAX_VALUE;
+                }
+            };
+            case TEXT -> new TextParsingStrategy(Path.of(System.getProperty("java.io.tmpdir"))) {
+                @Override
+                protected long getMaxFileSize() {
+                    return Long.MAX_VALUE;
+                }
+            };
+            case CSV -> new CsvParsingStrategy(',',
+                    List.of("item name"), List.of("quantity"), List.of("place"), List.of("description")) {
+                @Override
+                protected long getMaxFileSize() {
+                    return Long.MAX_VALUE;
+                }
+            };
+        };
+        validRecords = BenchmarkCorpus.validRecords(records);
+    }
+
+    @Benchmark
+    public List<LostItem> parseFile(ParseThroughput throughput) throws FileParsingException {
+        List<LostItem> items = strategy.parseFile(file);
+        verify(items.size());
+        throughput.add(records, file.getSize());
+        return items;
+    }
+
+    @Benchmark
+    public void parseFileChunked(ParseThroughput throughput, Blackhole blackhole) throws FileParsingException {
+        int itemCount = strategy.parseFile(file, CHUNK_SIZE, blackhole::consume);
+        verify(itemCount);
+        throughput.add(records, file.getSize());
+    }
+
+    private void verify(int itemCount) {
+        if (itemCount != validRecords) {
+            throw new IllegalStateException("Expected " + validRecords + " items but parsed " + itemCount);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParseFileBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
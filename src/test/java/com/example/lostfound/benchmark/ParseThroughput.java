@@ -0,0 +1,34 @@
+package com.example.lostfound.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary results of the parser benchmarks. JMH divides the counters by the measured time, so they
+ * show up next to ops/s as {@code records} (records/s) and {@code megabytes} (MB/s of input).
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ParseThroughput {
+
+    public long records;
+    private long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        records = 0;
+        bytes = 0;
+    }
+
+    public double megabytes() {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    void add(long parsedRecords, long inputBytes) {
+        records += parsedRecords;
+        bytes += inputBytes;
+    }
+}
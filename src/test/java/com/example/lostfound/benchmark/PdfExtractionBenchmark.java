@@ -0,0 +1,86 @@
+package com.example.lostfound.benchmark;
+
+import com.example.lostfound.benchmark.BenchmarkCorpus.Format;
+import com.example.lostfound.service.parser.KeyValueRecordScanner;
+import com.example.lostfound.service.parser.ParsedRecord;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two halves of PdfParsingStrategy measured separately: PDFBox text extraction and scanning the
+ * extracted text into records, on PDFs from {@link BenchmarkCorpus}.
+ * <p>
+ * Run with: {@code mvn test-compile} followed by this class's {@code main} method on the test classpath.
+ * The 1M-record PDF is left out of the defaults because generating it takes minutes; add it with
+ * {@code -p records=1000000} when running through {@code org.openjdk.jmh.Main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PdfExtractionBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int records;
+
+    private byte[] pdf;
+    private String text;
+    private int validRecords;
+
+    @Setup
+    public void setUp() throws IOException {
+        pdf = Files.readAllBytes(BenchmarkCorpus.file(Format.PDF, records));
+        text = extractText();
+        validRecords = BenchmarkCorpus.validRecords(records);
+    }
+
+    @Benchmark
+    public String textExtraction(ParseThroughput throughput) throws IOException {
+        String extracted = extractText();
+        throughput.add(records, pdf.length);
+        return extracted;
+    }
+
+    @Benchmark
+    public void lineParsing(ParseThroughput throughput, Blackhole blackhole) {
+        KeyValueRecordScanner scanner = new KeyValueRecordScanner(text);
+        int accepted = 0;
+        ParsedRecord record;
+        while ((record = scanner.next()) != null) {
+            if (record.isAccepted()) {
+                accepted++;
+            }
+            blackhole.consume(record);
+        }
+        if (accepted != validRecords) {
+            throw new IllegalStateException("Expected " + validRecords + " records but parsed " + accepted);
+        }
+        throughput.add(records, text.length());
+    }
+
+    private String extractText() throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            return new PDFTextStripper().getText(document);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PdfExtractionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
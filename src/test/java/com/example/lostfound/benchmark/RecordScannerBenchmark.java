@@ -0,0 +1,135 @@
+package com.example.lostfound.benchmark;
+
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.service.parser.KeyValueRecordScanner;
+import com.example.lostfound.service.parser.ParsedRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the regex/split line parser previously used by PdfParsingStrategy with
+ * {@link KeyValueRecordScanner} on a 1M-line key-value input (250k records, 2% invalid).
+ * <p>
+ * Run with: {@code mvn test-compile} followed by this class's {@code main} method on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RecordScannerBenchmark {
+
+    private static final Pattern ITEM_NAME_PATTERN = Pattern.compile(
+            "^\\s*Item\\s*Name\\s*:\\s*(.+?)\\s*$", Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern QUANTITY_PATTERN = Pattern.compile(
+            "^\\s*Quantity\\s*:\\s*(\\d+)\\s*$", Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern PLACE_PATTERN = Pattern.compile(
+            "^\\s*Place\\s*:\\s*(.+?)\\s*$", Pattern.CASE_INSENSITIVE
+    );
+
+    @Param({"1000000"})
+    private int lines;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(lines * 24);
+        for (int record = 0; record < lines / 4; record++) {
+            builder.append("Item Name: Backpack ").append(record).append('\n')
+                   .append("Quantity: ").append(record % 50 == 0 ? 0 : 1 + record % 7).append('\n')
+                   .append("Place: Library Floor ").append(record % 12).append('\n')
+                   .append('\n');
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public void keyValueScanner(Blackhole blackhole) {
+        KeyValueRecordScanner scanner = new KeyValueRecordScanner(text);
+        ParsedRecord record;
+        while ((record = scanner.next()) != null) {
+            blackhole.consume(record);
+        }
+    }
+
+    @Benchmark
+    public void legacyRegexParser(Blackhole blackhole) {
+        String currentItemName = null;
+        Integer currentQuantity = null;
+        String currentPlace = null;
+
+        for (String line : text.split("\n")) {
+            line = line.trim();
+            if (line.isEmpty() || isHeaderLine(line)) {
+                continue;
+            }
+
+            Matcher itemNameMatcher = ITEM_NAME_PATTERN.matcher(line);
+            if (itemNameMatcher.matches()) {
+                if (currentItemName != null && currentQuantity != null && currentPlace != null) {
+                    emit(blackhole, currentItemName, currentQuantity, currentPlace);
+                }
+                currentItemName = itemNameMatcher.group(1).trim();
+                currentQuantity = null;
+                currentPlace = null;
+                continue;
+            }
+
+            Matcher quantityMatcher = QUANTITY_PATTERN.matcher(line);
+            if (quantityMatcher.matches()) {
+                try {
+                    currentQuantity = Integer.parseInt(quantityMatcher.group(1).trim());
+                } catch (NumberFormatException e) {
+                    // ignored, as in the original parser
+                }
+                continue;
+            }
+
+            Matcher placeMatcher = PLACE_PATTERN.matcher(line);
+            if (placeMatcher.matches()) {
+                currentPlace = placeMatcher.group(1).trim();
+            }
+        }
+
+        if (currentItemName != null && currentQuantity != null && currentPlace != null) {
+            emit(blackhole, currentItemName, currentQuantity, currentPlace);
+        }
+    }
+
+    private static void emit(Blackhole blackhole, String itemName, Integer quantity, String place) {
+        try {
+            String violation = ParsedRecord.violationOf(itemName, quantity, place);
+            if (violation != null) {
+                throw new FileParsingException(violation);
+            }
+            blackhole.consume(itemName);
+        } catch (FileParsingException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private static boolean isHeaderLine(String line) {
+        String lower = line.toLowerCase();
+        return lower.contains("lost items") || lower.contains("report")
+            || lower.matches("^[\\s\\-=]+$");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RecordScannerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
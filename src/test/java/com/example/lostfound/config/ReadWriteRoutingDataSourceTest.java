@@ -0,0 +1,149 @@
+package com.example.lostfound.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Routes against separate in-memory H2 databases, each of which answers with its own name
+ */
+@DisplayName("Read/Write Routing Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private final String run = UUID.randomUUID().toString();
+
+    private ReadYourWrites readYourWrites;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", database("replica-0"));
+        replicas.put("replica-1", database("replica-1"));
+        setUp(replicas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readYourWrites.end();
+    }
+
+    private void setUp(Map<String, DataSource> replicas) {
+        readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+        routingDataSource = new ReadWriteRoutingDataSource(database("primary"), replicas, readYourWrites);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replicas, round-robin")
+    void shouldRouteReadOnlyTransactionsToReplicas() {
+        assertThat(readOnly()).isEqualTo("replica-0");
+        assertThat(readOnly()).isEqualTo("replica-1");
+        assertThat(readOnly()).isEqualTo("replica-0");
+    }
+
+    @Test
+    @DisplayName("Should keep read-write transactions and non-transactional work on the primary")
+    void shouldRouteWritesToPrimary() {
+        String written = readWriteTransaction.execute(status -> origin());
+        assertThat(written).isEqualTo("primary");
+        assertThat(origin()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should send a write that follows a read in the same thread to the primary")
+    void shouldRouteWriteAfterReadToPrimary() {
+        assertThat(readOnly()).startsWith("replica-");
+
+        String written = readWriteTransaction.execute(status -> origin());
+        assertThat(written).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary after they wrote")
+    void shouldReadYourWrites() {
+        readYourWrites.begin("alice");
+        readWriteTransaction.execute(status -> origin());
+        assertThat(readOnly()).isEqualTo("primary");
+        readYourWrites.end();
+
+        readYourWrites.begin("alice");
+        assertThat(readOnly()).isEqualTo("primary");
+        readYourWrites.end();
+
+        readYourWrites.begin("bob");
+        assertThat(readOnly()).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("Should leave unhealthy replicas out of the rotation until they recover")
+    void shouldSkipUnhealthyReplicas() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", unreachableDatabase());
+        replicas.put("replica-1", database("replica-1"));
+        setUp(replicas);
+
+        routingDataSource.checkReplicas();
+
+        assertThat(readOnly()).isEqualTo("replica-1");
+        assertThat(readOnly()).isEqualTo("replica-1");
+        assertThat(routingDataSource.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(routingDataSource.health().getDetails()).containsEntry("healthyReplicas", 1L);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when no replica is reachable")
+    void shouldFallBackToPrimary() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", unreachableDatabase());
+        setUp(replicas);
+
+        assertThat(readOnly()).isEqualTo("primary");
+        assertThat(readOnly()).isEqualTo("primary");
+    }
+
+    private String readOnly() {
+        return readOnlyTransaction.execute(status -> origin());
+    }
+
+    private String origin() {
+        return jdbcTemplate.queryForObject("SELECT name FROM origin", String.class);
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + run + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE IF NOT EXISTS origin (name VARCHAR(20))"); // tests that set up again reuse it
+        setup.update("DELETE FROM origin");
+        setup.update("INSERT INTO origin VALUES (?)", name);
+        return dataSource;
+    }
+
+    private DataSource unreachableDatabase() {
+        return new DriverManagerDataSource("jdbc:h2:mem:missing-" + run + ";IFEXISTS=TRUE", "sa", "");
+    }
+}
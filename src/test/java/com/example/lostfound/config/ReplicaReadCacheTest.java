@@ -0,0 +1,96 @@
+package com.example.lostfound.config;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.repository.LostItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The replica is a separate in-memory H2 database with the same schema, which only gets the rows the test
+ * copies to it, so it lags behind the primary as long as the test wants
+ */
+@SpringBootTest(properties = {
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.read-your-writes-window=PT0S",
+        "app.datasource.replicas[0].url=" + ReplicaReadCacheTest.REPLICA_URL,
+        "app.datasource.replicas[0].username=sa",
+        "app.datasource.replicas[0].password="
+})
+@ActiveProfiles("test")
+@DisplayName("Replica Read Cache Tests")
+class ReplicaReadCacheTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-cache;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private LostItemRepository lostItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    @DisplayName("Should not cache what a lagging replica returns")
+    void shouldNotCacheReplicaReads() {
+        LostItem item = lostItemRepository.save(LostItem.builder()
+                .itemName("Replicated Umbrella")
+                .quantity(5)
+                .place("Library")
+                .build());
+        replica.update("INSERT INTO lost_items (id, item_name, quantity, remaining_quantity, place, created_at, version) " +
+                "VALUES (?, ?, 5, 5, 'Library', ?, 0)", item.getId(), item.getItemName(), LocalDateTime.now());
+        // a claim on the primary that the replica has not caught up with
+        jdbcTemplate.update("UPDATE lost_items SET remaining_quantity = 3, version = version + 1 WHERE id = ?",
+                item.getId());
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Integer replicaQuantity = readOnly.execute(status ->
+                lostItemRepository.findById(item.getId()).orElseThrow().getRemainingQuantity());
+        readOnly.executeWithoutResult(status ->
+                lostItemRepository.findByRemainingQuantityGreaterThan(0, PageRequest.of(0, 20)));
+        Integer primaryQuantity = new TransactionTemplate(transactionManager).execute(status ->
+                lostItemRepository.findById(item.getId()).orElseThrow().getRemainingQuantity());
+
+        assertThat(replicaQuantity).isEqualTo(5);
+        assertThat(primaryQuantity).isEqualTo(3);
+        assertThat(statistics.getSecondLevelCachePutCount()).isEqualTo(1); // the primary's load only
+        assertThat(statistics.getQueryCachePutCount()).isZero();
+    }
+}
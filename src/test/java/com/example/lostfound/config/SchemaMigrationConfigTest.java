@@ -0,0 +1,57 @@
+package com.example.lostfound.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaMigrationConfigTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Flyway flyway;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void migrate_ShouldApplyPendingMigrationsByDefault() {
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+
+        strategy(false).migrate(flyway);
+
+        verify(flyway).migrate();
+        verify(flyway, never()).validate();
+        assertThat(meterRegistry.find(SchemaMigrationConfig.SCHEMA_METRIC).tag("mode", "migrate").timer())
+                .isNotNull()
+                .extracting(timer -> timer.count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void migrate_ShouldOnlyValidateInValidateOnlyMode() {
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+
+        strategy(true).migrate(flyway);
+
+        verify(flyway).validate();
+        verify(flyway, never()).migrate();
+        assertThat(meterRegistry.find(SchemaMigrationConfig.SCHEMA_METRIC).tag("mode", "validate").timer())
+                .isNotNull();
+    }
+
+    private FlywayMigrationStrategy strategy(boolean validateOnly) {
+        return new SchemaMigrationConfig().flywayMigrationStrategy(validateOnly, meterRegistryProvider);
+    }
+}
@@ -1,12 +1,40 @@
 package com.example.lostfound.controller;
 
+import com.example.lostfound.dto.FileImportResultDto;
+import com.example.lostfound.dto.ArchiveImportResultDto;
+import com.example.lostfound.dto.AvailabilityDto;
 import com.example.lostfound.dto.ClaimDto;
+import com.example.lostfound.dto.ClaimTransitionResultDto;
+import com.example.lostfound.dto.ImportBatchDto;
+import com.example.lostfound.dto.ImportResultDto;
+import com.example.lostfound.dto.ImportRollbackResultDto;
 import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.dto.MultiFileImportResultDto;
+import com.example.lostfound.dto.ParseTemplateDto;
+import com.example.lostfound.dto.UploadSessionDto;
 import com.example.lostfound.entity.ClaimStatus;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.entity.UploadSessionStatus;
 import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.ImportRollbackConflictException;
+import com.example.lostfound.exception.InvalidParseTemplateException;
+import com.example.lostfound.exception.InvalidSortException;
+import com.example.lostfound.exception.ParseBudgetExceededException;
+import com.example.lostfound.exception.ParseBudgetExceededException.Limit;
+import com.example.lostfound.exception.ParseTemplateNotFoundException;
 import com.example.lostfound.exception.UnsupportedFileTypeException;
+import com.example.lostfound.exception.UploadOffsetConflictException;
+import com.example.lostfound.service.ArchiveImportService;
+import com.example.lostfound.service.ArchiveService;
+import com.example.lostfound.service.AvailabilityCounterService;
+import com.example.lostfound.service.ChunkedUploadService;
 import com.example.lostfound.service.ClaimService;
+import com.example.lostfound.service.ImportBatchService;
+import com.example.lostfound.service.ImportTransactionScope;
 import com.example.lostfound.service.LostItemService;
+import com.example.lostfound.service.MultiFileImportService;
+import com.example.lostfound.service.ParseTemplateService;
+import com.example.lostfound.service.parser.RecordTemplate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,11 +51,17 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,9 +79,30 @@ class AdminControllerTest {
     @MockBean
     private LostItemService lostItemService;
 
+    @MockBean
+    private ArchiveImportService archiveImportService;
+
+    @MockBean
+    private MultiFileImportService multiFileImportService;
+
+    @MockBean
+    private ChunkedUploadService chunkedUploadService;
+
+    @MockBean
+    private ImportBatchService importBatchService;
+
+    @MockBean
+    private ParseTemplateService parseTemplateService;
+
     @MockBean
     private ClaimService claimService;
 
+    @MockBean
+    private AvailabilityCounterService availabilityCounterService;
+
+    @MockBean
+    private ArchiveService archiveService;
+
     private static final LostItemDto SAMPLE_ITEM = LostItemDto.builder()
             .id(1L)
             .itemName("Laptop")
@@ -82,14 +137,169 @@ class AdminControllerTest {
         void shouldUploadPdfSuccessfully() throws Exception {
             MockMultipartFile file = new MockMultipartFile(
                     "file", "test.pdf", "application/pdf", "test content".getBytes());
-            when(lostItemService.uploadAndParseFile(any())).thenReturn(List.of(SAMPLE_ITEM));
+            when(lostItemService.uploadAndParseFile(any(), any(), any())).thenReturn(ImportResultDto.builder()
+                    .importId(5L)
+                    .mode(ImportMode.APPEND)
+                    .itemsCount(1)
+                    .createdCount(1)
+                    .rejectedCount(2)
+                    .durationMs(40)
+                    .build());
 
             mockMvc.perform(multipart("/api/admin/upload").file(file).with(csrf()))
                     .andExpect(status().isCreated())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.message", is("File uploaded and processed successfully")))
+                    .andExpect(jsonPath("$.importId", is(5)))
                     .andExpect(jsonPath("$.itemsCount", is(1)))
-                    .andExpect(jsonPath("$.items[0].itemName", is("Laptop")));
+                    .andExpect(jsonPath("$.rejectedCount", is(2)))
+                    .andExpect(jsonPath("$.durationMs", is(40)))
+                    .andExpect(jsonPath("$.items").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should pass the merge mode to the service and report merged records")
+        void shouldUploadInMergeMode() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "items.csv", "text/csv", "test content".getBytes());
+            when(lostItemService.uploadAndParseFile(any(), eq(ImportMode.MERGE), any())).thenReturn(ImportResultDto.builder()
+                    .importId(6L)
+                    .mode(ImportMode.MERGE)
+                    .itemsCount(3)
+                    .createdCount(1)
+                    .mergedCount(2)
+                    .build());
+
+            mockMvc.perform(multipart("/api/admin/upload").file(file).param("mode", "MERGE").with(csrf()))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.mode", is("MERGE")))
+                    .andExpect(jsonPath("$.createdCount", is(1)))
+                    .andExpect(jsonPath("$.mergedCount", is(2)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return a per-entry summary for archive uploads")
+        void shouldUploadArchive() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "reports.zip", "application/zip", "test content".getBytes());
+            when(archiveImportService.importArchive(any(), eq(ImportMode.APPEND), any())).thenReturn(ArchiveImportResultDto.builder()
+                    .archiveName("reports.zip")
+                    .mode(ImportMode.APPEND)
+                    .entriesCount(2)
+                    .importedCount(1)
+                    .failedCount(1)
+                    .itemsCount(4)
+                    .entries(List.of(
+                            FileImportResultDto.builder().fileName("monday.pdf")
+                                    .status(FileImportResultDto.Status.IMPORTED).importId(8L).itemsCount(4).build(),
+                            FileImportResultDto.builder().fileName("tuesday.pdf")
+                                    .status(FileImportResultDto.Status.FAILED).error("No valid items found").build()))
+                    .build());
+
+            mockMvc.perform(multipart("/api/admin/upload/archive").file(file).with(csrf()))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.importedCount", is(1)))
+                    .andExpect(jsonPath("$.entries[0].status", is("IMPORTED")))
+                    .andExpect(jsonPath("$.entries[1].error", is("No valid items found")));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should upload several files with the requested transaction scope")
+        void shouldUploadSeveralFiles() throws Exception {
+            MockMultipartFile monday = new MockMultipartFile(
+                    "files", "monday.csv", "text/csv", "monday".getBytes());
+            MockMultipartFile tuesday = new MockMultipartFile(
+                    "files", "tuesday.csv", "text/csv", "tuesday".getBytes());
+            when(multiFileImportService.importFiles(argThat(files -> files.size() == 2), eq(ImportMode.APPEND),
+                    eq(ImportTransactionScope.SINGLE), any())).thenReturn(MultiFileImportResultDto.builder()
+                    .mode(ImportMode.APPEND)
+                    .transactionScope(ImportTransactionScope.SINGLE)
+                    .filesCount(2)
+                    .failedCount(1)
+                    .files(List.of(
+                            FileImportResultDto.builder().fileName("monday.csv")
+                                    .status(FileImportResultDto.Status.NOT_STORED).build(),
+                            FileImportResultDto.builder().fileName("tuesday.csv")
+                                    .status(FileImportResultDto.Status.FAILED).error("No valid items found").build()))
+                    .build());
+
+            mockMvc.perform(multipart("/api/admin/upload/batch").file(monday).file(tuesday)
+                            .param("transaction", "SINGLE").with(csrf()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.transactionScope", is("SINGLE")))
+                    .andExpect(jsonPath("$.files[0].status", is("NOT_STORED")))
+                    .andExpect(jsonPath("$.files[1].error", is("No valid items found")));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should reject an unknown import mode")
+        void shouldRejectUnknownMode() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "items.csv", "text/csv", "test content".getBytes());
+
+            mockMvc.perform(multipart("/api/admin/upload").file(file).param("mode", "REPLACE").with(csrf()))
+                    .andExpect(status().isBadRequest());
+            verifyNoInteractions(lostItemService);
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return 200 referencing the original import for duplicate uploads")
+        void shouldShortCircuitDuplicateUploads() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "test.pdf", "application/pdf", "test content".getBytes());
+            when(lostItemService.uploadAndParseFile(any(), any(), any())).thenReturn(ImportResultDto.builder()
+                    .importId(3L)
+                    .itemsCount(12)
+                    .importedAt(LocalDateTime.now())
+                    .duplicate(true)
+                    .build());
+
+            mockMvc.perform(multipart("/api/admin/upload").file(file).with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.duplicate", is(true)))
+                    .andExpect(jsonPath("$.importId", is(3)))
+                    .andExpect(jsonPath("$.itemsCount", is(12)))
+                    .andExpect(jsonPath("$.items").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should parse with the parse template selected by name")
+        void shouldUploadWithParseTemplate() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "partner.txt", "text/plain", "test content".getBytes());
+            when(parseTemplateService.getRecordTemplate("partner")).thenReturn(RecordTemplate.DEFAULT);
+            when(lostItemService.uploadAndParseFile(any(), any(), eq(RecordTemplate.DEFAULT)))
+                    .thenReturn(ImportResultDto.builder()
+                            .importId(6L)
+                            .mode(ImportMode.APPEND)
+                            .itemsCount(1)
+                            .createdCount(1)
+                                    .build());
+
+            mockMvc.perform(multipart("/api/admin/upload").file(file).param("template", "partner").with(csrf()))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.importId", is(6)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should answer uploads with an unknown parse template with 404")
+        void shouldRejectUnknownParseTemplate() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "partner.txt", "text/plain", "test content".getBytes());
+            when(parseTemplateService.getRecordTemplate("missing"))
+                    .thenThrow(new ParseTemplateNotFoundException("Parse template not found: missing"));
+
+            mockMvc.perform(multipart("/api/admin/upload").file(file).param("template", "missing").with(csrf()))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error", is("Parse Template Not Found")));
+            verifyNoInteractions(lostItemService);
         }
 
         @Test
@@ -98,7 +308,7 @@ class AdminControllerTest {
         void shouldHandleFileParsingErrors() throws Exception {
             MockMultipartFile file = new MockMultipartFile(
                     "file", "invalid.pdf", "application/pdf", "invalid".getBytes());
-            when(lostItemService.uploadAndParseFile(any()))
+            when(lostItemService.uploadAndParseFile(any(), any(), any()))
                     .thenThrow(new FileParsingException("No valid items found"));
 
             mockMvc.perform(multipart("/api/admin/upload").file(file).with(csrf()))
@@ -106,13 +316,28 @@ class AdminControllerTest {
                     .andExpect(jsonPath("$.error", is("File Parsing Error")));
         }
 
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should answer uploads that exceed the parse budget with 422")
+        void shouldRejectUploadsExceedingParseBudget() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "huge.pdf", "application/pdf", "content".getBytes());
+            when(lostItemService.uploadAndParseFile(any(), any(), any()))
+                    .thenThrow(new ParseBudgetExceededException(Limit.PAGES, "Document has 900 pages"));
+
+            mockMvc.perform(multipart("/api/admin/upload").file(file).with(csrf()))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.code", is("PARSE_BUDGET_EXCEEDED")))
+                    .andExpect(jsonPath("$.message", is("Document has 900 pages")));
+        }
+
         @Test
         @WithMockUser(roles = "ADMIN")
         @DisplayName("Should reject unsupported file types")
         void shouldRejectUnsupportedFileTypes() throws Exception {
             MockMultipartFile file = new MockMultipartFile(
                     "file", "test.txt", "text/plain", "content".getBytes());
-            when(lostItemService.uploadAndParseFile(any()))
+            when(lostItemService.uploadAndParseFile(any(), any(), any()))
                     .thenThrow(new UnsupportedFileTypeException("Unsupported file type"));
 
             mockMvc.perform(multipart("/api/admin/upload").file(file).with(csrf()))
@@ -142,6 +367,233 @@ class AdminControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Resumable Upload Tests")
+    class ResumableUploadTests {
+
+        private static final UploadSessionDto SESSION = UploadSessionDto.builder()
+                .id("5d0f3c9e-7c1a-4d8e-9d55-0a3f1b2c4e6f")
+                .fileName("north.pdf")
+                .fileSize(1000)
+                .receivedBytes(400)
+                .mode(ImportMode.APPEND)
+                .status(UploadSessionStatus.OPEN)
+                .build();
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should start a resumable upload")
+        void shouldCreateUploadSession() throws Exception {
+            when(chunkedUploadService.createSession(argThat(request -> request.getFileSize() == 1000)))
+                    .thenReturn(SESSION);
+
+            mockMvc.perform(post("/api/admin/upload/sessions").with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"fileName": "north.pdf", "contentType": "application/pdf", "fileSize": 1000}
+                                    """))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id", is(SESSION.getId())))
+                    .andExpect(jsonPath("$.receivedBytes", is(400)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should reject a session without a file size")
+        void shouldRejectSessionWithoutFileSize() throws Exception {
+            mockMvc.perform(post("/api/admin/upload/sessions").with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"fileName\": \"north.pdf\"}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(chunkedUploadService);
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should store a chunk at its offset")
+        void shouldUploadChunk() throws Exception {
+            when(chunkedUploadService.writeChunk(eq(SESSION.getId()), eq(0L), any())).thenReturn(SESSION);
+
+            mockMvc.perform(put("/api/admin/upload/sessions/" + SESSION.getId()).with(csrf())
+                            .param("offset", "0")
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .content(new byte[400]))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.receivedBytes", is(400)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should answer a chunk past the received bytes with 409 and the offset to resume at")
+        void shouldRefuseChunkLeavingAGap() throws Exception {
+            when(chunkedUploadService.writeChunk(eq(SESSION.getId()), eq(800L), any()))
+                    .thenThrow(new UploadOffsetConflictException(400, "Chunk at offset 800 would leave a gap"));
+
+            mockMvc.perform(put("/api/admin/upload/sessions/" + SESSION.getId()).with(csrf())
+                            .param("offset", "800")
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .content(new byte[10]))
+                    .andExpect(status().isConflict())
+                    .andExpect(header().string("Upload-Offset", "400"))
+                    .andExpect(jsonPath("$.code", is("UPLOAD_OFFSET_CONFLICT")));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should import the file when the upload is completed")
+        void shouldCompleteUploadSession() throws Exception {
+            when(chunkedUploadService.completeSession(SESSION.getId())).thenReturn(ImportResultDto.builder()
+                    .importId(8L)
+                    .mode(ImportMode.APPEND)
+                    .itemsCount(120)
+                    .createdCount(120)
+                    .build());
+
+            mockMvc.perform(post("/api/admin/upload/sessions/" + SESSION.getId() + "/complete").with(csrf()))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.importId", is(8)))
+                    .andExpect(jsonPath("$.itemsCount", is(120)));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void shouldDenyNonAdminAccess() throws Exception {
+            mockMvc.perform(post("/api/admin/upload/sessions").with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"fileName\": \"north.pdf\", \"fileSize\": 1000}"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("Import Management Tests")
+    class ImportTests {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should list imports newest first with their item counts")
+        void shouldListImports() throws Exception {
+            when(importBatchService.getImports(argThat(pageable ->
+                    pageable.getSort().getOrderFor("createdAt") != null
+                            && pageable.getSort().getOrderFor("createdAt").isDescending())))
+                    .thenReturn(new PageImpl<>(List.of(ImportBatchDto.builder()
+                            .id(7L)
+                            .fileName("monday.pdf")
+                            .mode(ImportMode.MERGE)
+                            .itemsCount(12)
+                            .createdCount(4)
+                            .mergedCount(8)
+                            .currentItemCount(3)
+                            .build()), PageRequest.of(0, 20), 1));
+
+            mockMvc.perform(get("/api/admin/imports"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id", is(7)))
+                    .andExpect(jsonPath("$.content[0].createdCount", is(4)))
+                    .andExpect(jsonPath("$.content[0].currentItemCount", is(3)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should page through the items of an import")
+        void shouldPageImportItems() throws Exception {
+            when(lostItemService.getImportItems(eq(7L), argThat(pageable -> pageable.getPageSize() == 2), eq(false)))
+                    .thenReturn(new PageImpl<>(List.of(SAMPLE_ITEM), PageRequest.of(1, 2), 3));
+
+            mockMvc.perform(get("/api/admin/imports/7/items").param("page", "1").param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].itemName", is("Laptop")))
+                    .andExpect(jsonPath("$.totalElements", is(3)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should roll back an import")
+        void shouldRollbackImport() throws Exception {
+            when(importBatchService.rollbackImport(7L)).thenReturn(ImportRollbackResultDto.builder()
+                    .importId(7L)
+                    .fileName("monday.pdf")
+                    .deletedCount(3)
+                    .withdrawnCount(1)
+                    .revertedCount(8)
+                    .build());
+
+            mockMvc.perform(post("/api/admin/imports/7/rollback").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.deletedCount", is(3)))
+                    .andExpect(jsonPath("$.withdrawnCount", is(1)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should answer refused rollbacks with 409")
+        void shouldRefuseConflictingRollback() throws Exception {
+            when(importBatchService.rollbackImport(7L))
+                    .thenThrow(new ImportRollbackConflictException("Later imports merged records into items of import 7"));
+
+            mockMvc.perform(post("/api/admin/imports/7/rollback").with(csrf()))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error", is("Import Rollback Conflict")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parse Template Tests")
+    class ParseTemplateTests {
+
+        private static final String TEMPLATE_JSON = """
+                {"name": "partner", "itemNameLabel": "Article", "quantityLabel": "Count",
+                 "placeLabel": "Found in", "dateLabel": "Found on", "datePattern": "dd.MM.yyyy", "separator": "="}
+                """;
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should create a parse template")
+        void shouldCreateParseTemplate() throws Exception {
+            when(parseTemplateService.createTemplate(argThat(request -> request.getName().equals("partner")
+                    && request.getSeparator().equals("=")))).thenReturn(ParseTemplateDto.builder()
+                    .id(1L)
+                    .name("partner")
+                    .itemNameLabel("Article")
+                    .quantityLabel("Count")
+                    .placeLabel("Found in")
+                    .dateLabel("Found on")
+                    .datePattern("dd.MM.yyyy")
+                    .separator("=")
+                    .build());
+
+            mockMvc.perform(post("/api/admin/parse-templates").contentType(MediaType.APPLICATION_JSON)
+                            .content(TEMPLATE_JSON).with(csrf()))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id", is(1)))
+                    .andExpect(jsonPath("$.placeLabel", is("Found in")));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should reject ambiguous parse templates")
+        void shouldRejectInvalidParseTemplate() throws Exception {
+            when(parseTemplateService.createTemplate(any()))
+                    .thenThrow(new InvalidParseTemplateException("The labels for quantity and place are the same"));
+
+            mockMvc.perform(post("/api/admin/parse-templates").contentType(MediaType.APPLICATION_JSON)
+                            .content(TEMPLATE_JSON).with(csrf()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error", is("Invalid Parse Template")));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should deny template management to non-admin users")
+        void shouldDenyNonAdminAccess() throws Exception {
+            mockMvc.perform(post("/api/admin/parse-templates").contentType(MediaType.APPLICATION_JSON)
+                            .content(TEMPLATE_JSON).with(csrf()))
+                    .andExpect(status().isForbidden());
+            verifyNoInteractions(parseTemplateService);
+        }
+    }
+
     @Nested
     @DisplayName("Claims Management Tests")
     class ClaimsTests {
@@ -151,7 +603,7 @@ class AdminControllerTest {
         @DisplayName("Should retrieve claims with pagination")
         void shouldRetrieveClaimsWithPagination() throws Exception {
             Page<ClaimDto> claimsPage = new PageImpl<>(List.of(SAMPLE_CLAIM), PageRequest.of(0, 20), 1);
-            when(claimService.getAllClaims(any(Pageable.class))).thenReturn(claimsPage);
+            when(claimService.getClaims(isNull(), isNull(), isNull(), eq(false), any(Pageable.class))).thenReturn(claimsPage);
 
             mockMvc.perform(get("/api/admin/claims"))
                     .andExpect(status().isOk())
@@ -167,7 +619,7 @@ class AdminControllerTest {
         @DisplayName("Should handle empty claims result")
         void shouldHandleEmptyClaimsResult() throws Exception {
             Page<ClaimDto> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
-            when(claimService.getAllClaims(any(Pageable.class))).thenReturn(emptyPage);
+            when(claimService.getClaims(isNull(), isNull(), isNull(), eq(false), any(Pageable.class))).thenReturn(emptyPage);
 
             mockMvc.perform(get("/api/admin/claims"))
                     .andExpect(status().isOk())
@@ -175,6 +627,54 @@ class AdminControllerTest {
                     .andExpect(jsonPath("$.totalElements", is(0)));
         }
 
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should filter claims by date range and status")
+        void shouldFilterClaimsByDateRangeAndStatus() throws Exception {
+            Page<ClaimDto> claimsPage = new PageImpl<>(List.of(SAMPLE_CLAIM), PageRequest.of(0, 20), 1);
+            when(claimService.getClaims(eq(ClaimStatus.PENDING), eq(LocalDate.of(2026, 9, 1)),
+                    eq(LocalDate.of(2026, 9, 30)), eq(false), any(Pageable.class))).thenReturn(claimsPage);
+
+            mockMvc.perform(get("/api/admin/claims")
+                            .param("from", "2026-09-01")
+                            .param("to", "2026-09-30")
+                            .param("status", "PENDING"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should include notes when asked for")
+        void shouldIncludeNotesWhenAskedFor() throws Exception {
+            Page<ClaimDto> claimsPage = new PageImpl<>(List.of(SAMPLE_CLAIM), PageRequest.of(0, 20), 1);
+            when(claimService.getClaims(isNull(), isNull(), isNull(), eq(true), any(Pageable.class))).thenReturn(claimsPage);
+
+            mockMvc.perform(get("/api/admin/claims").param("includeNotes", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].notes", is("Test claim")));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should reject sorting by notes")
+        void shouldRejectSortingByNotes() throws Exception {
+            when(claimService.getClaims(isNull(), isNull(), isNull(), anyBoolean(), any(Pageable.class)))
+                    .thenThrow(new InvalidSortException("Sorting claims by notes is not supported; sort by one of id | claimDate | status,claimDate, all in one direction"));
+
+            mockMvc.perform(get("/api/admin/claims").param("sort", "notes"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", startsWith("Sorting claims by notes is not supported")));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should reject a malformed date")
+        void shouldRejectMalformedDate() throws Exception {
+            mockMvc.perform(get("/api/admin/claims").param("from", "01/09/2026"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @WithMockUser(roles = "USER")
         @DisplayName("Should deny access to non-admin users")
@@ -190,4 +690,132 @@ class AdminControllerTest {
                     .andExpect(status().isUnauthorized());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Claim Status Transition Tests")
+    class ClaimTransitionTests {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should report the outcome of every claim")
+        void shouldTransitionClaims() throws Exception {
+            when(claimService.transitionClaims(argThat(request -> request.getStatus() == ClaimStatus.REJECTED
+                    && request.getClaimIds().equals(List.of(1L, 2L)))))
+                    .thenReturn(ClaimTransitionResultDto.builder()
+                            .status(ClaimStatus.REJECTED)
+                            .transitionedCount(1)
+                            .releasedQuantity(2)
+                            .claims(List.of(
+                                    ClaimTransitionResultDto.ClaimOutcome.builder().claimId(1L)
+                                            .previousStatus(ClaimStatus.PENDING)
+                                            .outcome(ClaimTransitionResultDto.Outcome.TRANSITIONED).build(),
+                                    ClaimTransitionResultDto.ClaimOutcome.builder().claimId(2L)
+                                            .previousStatus(ClaimStatus.FULFILLED)
+                                            .outcome(ClaimTransitionResultDto.Outcome.INVALID_TRANSITION).build()))
+                            .build());
+
+            mockMvc.perform(put("/api/admin/claims/status").with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"claimIds\": [1, 2], \"status\": \"REJECTED\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.transitionedCount", is(1)))
+                    .andExpect(jsonPath("$.releasedQuantity", is(2)))
+                    .andExpect(jsonPath("$.claims[1].outcome", is("INVALID_TRANSITION")));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should reject a request without claim ids")
+        void shouldRejectEmptyRequest() throws Exception {
+            mockMvc.perform(put("/api/admin/claims/status").with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"claimIds\": [], \"status\": \"APPROVED\"}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(claimService);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should deny access to non-admin users")
+        void shouldDenyNonAdminAccess() throws Exception {
+            mockMvc.perform(put("/api/admin/claims/status").with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"claimIds\": [1], \"status\": \"APPROVED\"}"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("Archive Tests")
+    class ArchiveTests {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should page through archived claims")
+        void shouldReturnArchivedClaims() throws Exception {
+            ClaimDto fulfilled = ClaimDto.builder().id(7L).userName("John Doe").itemName("Laptop")
+                    .claimedQuantity(1).status(ClaimStatus.FULFILLED).build();
+            when(archiveService.getArchivedClaims(any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(fulfilled), PageRequest.of(0, 20), 1));
+
+            mockMvc.perform(get("/api/admin/archive/claims"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].status", is("FULFILLED")))
+                    .andExpect(jsonPath("$.totalElements", is(1)));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should page through archived items")
+        void shouldReturnArchivedItems() throws Exception {
+            when(archiveService.getArchivedItems(any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(SAMPLE_ITEM), PageRequest.of(1, 10), 11));
+
+            mockMvc.perform(get("/api/admin/archive/items").param("page", "1").param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.totalElements", is(11)));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should deny access to non-admin users")
+        void shouldDenyNonAdminAccess() throws Exception {
+            mockMvc.perform(get("/api/admin/archive/items"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("Availability Tests")
+    class AvailabilityTests {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return the available item counts in total and per place")
+        void shouldReturnAvailability() throws Exception {
+            when(availabilityCounterService.getAvailability()).thenReturn(AvailabilityDto.builder()
+                    .availableItems(5)
+                    .places(List.of(
+                            AvailabilityDto.PlaceAvailability.builder().place("Gym").availableItems(2).build(),
+                            AvailabilityDto.PlaceAvailability.builder().place("Library").availableItems(3).build()))
+                    .build());
+
+            mockMvc.perform(get("/api/admin/availability"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.availableItems", is(5)))
+                    .andExpect(jsonPath("$.places", hasSize(2)))
+                    .andExpect(jsonPath("$.places[1].place", is("Library")))
+                    .andExpect(jsonPath("$.places[1].availableItems", is(3)));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should deny access to non-admin users")
+        void shouldDenyNonAdminAccess() throws Exception {
+            mockMvc.perform(get("/api/admin/availability"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.example.lostfound.controller;
 import com.example.lostfound.dto.ClaimDto;
 import com.example.lostfound.dto.ClaimRequest;
 import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.dto.SearchMode;
 import com.example.lostfound.entity.ClaimStatus;
 import com.example.lostfound.exception.InsufficientQuantityException;
+import com.example.lostfound.exception.InvalidSortException;
 import com.example.lostfound.exception.LostItemNotFoundException;
 import com.example.lostfound.exception.UserNotFoundException;
 import com.example.lostfound.service.ClaimService;
@@ -34,7 +36,9 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -144,7 +148,7 @@ class UserControllerTest {
         void shouldRetrieveItemsWithDefaultPagination() throws Exception {
             // Given
             Page<LostItemDto> itemsPage = createPageResponse(List.of(sampleLostItem), 0, 20, 1);
-            when(lostItemService.getAvailableItems(any(Pageable.class))).thenReturn(itemsPage);
+            when(lostItemService.getAvailableItems(any(Pageable.class), eq(false))).thenReturn(itemsPage);
 
             // When & Then
             ResultActions result = performGetItems();
@@ -163,7 +167,7 @@ class UserControllerTest {
         void shouldHandleCustomPaginationAndSorting() throws Exception {
             // Given
             Page<LostItemDto> itemsPage = createPageResponse(List.of(sampleLostItem), 2, 5, 15);
-            when(lostItemService.getAvailableItems(any(Pageable.class))).thenReturn(itemsPage);
+            when(lostItemService.getAvailableItems(any(Pageable.class), eq(false))).thenReturn(itemsPage);
 
             // When & Then
             ResultActions result = performGetItemsWithParams("page", "2", "size", "5", "sort", "itemName,asc");
@@ -180,7 +184,7 @@ class UserControllerTest {
         void shouldHandleEdgeCasePaginationValues(int pageSize) throws Exception {
             // Given
             Page<LostItemDto> emptyPage = createPageResponse(Collections.emptyList(), 0, Math.max(1, pageSize), 0);
-            when(lostItemService.getAvailableItems(any(Pageable.class))).thenReturn(emptyPage);
+            when(lostItemService.getAvailableItems(any(Pageable.class), eq(false))).thenReturn(emptyPage);
 
             // When & Then
             assertSuccessfulItemsResponse(performGetItemsWithParams("size", String.valueOf(pageSize)), 0);
@@ -192,7 +196,7 @@ class UserControllerTest {
         void shouldReturnEmptyPageWhenNoItemsAvailable() throws Exception {
             // Given
             Page<LostItemDto> emptyPage = createPageResponse(Collections.emptyList(), 0, 20, 0);
-            when(lostItemService.getAvailableItems(any(Pageable.class))).thenReturn(emptyPage);
+            when(lostItemService.getAvailableItems(any(Pageable.class), eq(false))).thenReturn(emptyPage);
 
             // When & Then
             ResultActions result = performGetItems();
@@ -201,6 +205,80 @@ class UserControllerTest {
                     .andExpect(jsonPath("$.empty", is(true)));
         }
 
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should include descriptions when asked for")
+        void shouldIncludeDescriptionsWhenAskedFor() throws Exception {
+            Page<LostItemDto> itemsPage = createPageResponse(List.of(sampleLostItem), 0, 20, 1);
+            when(lostItemService.getAvailableItems(any(Pageable.class), eq(true))).thenReturn(itemsPage);
+
+            performGetItemsWithParams("includeDescription", "true")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].description", is("Found in library")));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should reject sorting by description")
+        void shouldRejectSortingByDescription() throws Exception {
+            when(lostItemService.getAvailableItems(any(Pageable.class), anyBoolean()))
+                    .thenThrow(new InvalidSortException("Sorting items by description is not supported"));
+
+            performGetItemsWithParams("sort", "description")
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error", is("Invalid Sort")));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should search by prefix unless another mode is given")
+        void shouldSearchByPrefixByDefault() throws Exception {
+            Page<LostItemDto> itemsPage = createPageResponse(List.of(sampleLostItem), 0, 20, 1);
+            when(lostItemService.searchAvailableItems(eq("lap"), isNull(), eq(SearchMode.PREFIX), 
+                    any(Pageable.class), eq(false))).thenReturn(itemsPage);
+            when(lostItemService.searchAvailableItems(eq("top"), eq("lib"), eq(SearchMode.SUBSTRING), 
+                    any(Pageable.class), eq(false))).thenReturn(itemsPage);
+
+            mockMvc.perform(get("/api/user/items/search").param("itemName", "lap"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].itemName", is("Laptop")));
+            mockMvc.perform(get("/api/user/items/search")
+                            .param("itemName", "top")
+                            .param("place", "lib")
+                            .param("mode", "SUBSTRING"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should reject an unknown search mode")
+        void shouldRejectUnknownSearchMode() throws Exception {
+            mockMvc.perform(get("/api/user/items/search").param("itemName", "lap").param("mode", "FUZZY"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should get one item with its description")
+        void shouldGetOneItemWithItsDescription() throws Exception {
+            when(lostItemService.getItem(1L)).thenReturn(sampleLostItem);
+
+            mockMvc.perform(get("/api/user/items/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.description", is("Found in library")));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Should return 404 for an unknown item")
+        void shouldReturn404ForUnknownItem() throws Exception {
+            when(lostItemService.getItem(99L)).thenThrow(new LostItemNotFoundException("Lost item not found with id: 99"));
+
+            mockMvc.perform(get("/api/user/items/99"))
+                    .andExpect(status().isNotFound());
+        }
+
         @Test
         @DisplayName("Should return 401 for unauthenticated requests")
         void shouldReturn401ForUnauthenticatedRequests() throws Exception {
@@ -0,0 +1,92 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.entity.LostItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Archive Repository Tests")
+class ArchiveRepositoryTest {
+
+    @Autowired
+    private ArchiveRepository archiveRepository;
+
+    @Autowired
+    private LostItemRepository lostItemRepository;
+
+    @Autowired
+    private ImportBatchRepository importBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should copy every column of a depleted item into the archive")
+    void shouldArchiveWholeItemRows() {
+        LostItem item = lostItemRepository.save(LostItem.builder()
+                .itemName("Café Umbrella")
+                .quantity(1)
+                .remainingQuantity(0)
+                .place("Main  Entrance")
+                .build());
+        LocalDateTime idle = LocalDateTime.now().minusDays(60);
+        jdbcTemplate.update("UPDATE lost_items SET created_at = ?, updated_at = ? WHERE id = ?", idle, idle, item.getId());
+
+        List<Long> moved = transactionTemplate.execute(status ->
+                archiveRepository.moveDepletedItems(item.getId() - 1, item.getId(), LocalDateTime.now().minusDays(30)));
+
+        assertThat(moved).containsExactly(item.getId());
+        assertThat(lostItemRepository.existsById(item.getId())).isFalse();
+        assertThat(jdbcTemplate.queryForMap("SELECT item_name, place, item_name_search, place_search " +
+                "FROM lost_items_archive WHERE id = ?", item.getId()))
+                .containsEntry("ITEM_NAME", "Café Umbrella")
+                .containsEntry("PLACE", "Main  Entrance")
+                .containsEntry("ITEM_NAME_SEARCH", "cafe umbrella")
+                .containsEntry("PLACE_SEARCH", "main entrance");
+    }
+
+    @Test
+    @DisplayName("Should describe an archived imported item without a description by its file")
+    void shouldDescribeArchivedImportedItemsByTheirFile() {
+        ImportBatch batch = importBatchRepository.save(ImportBatch.builder()
+                .contentHash("archive-test")
+                .fileName("tuesday.csv")
+                .fileSize(10L)
+                .itemCount(1)
+                .createdCount(1)
+                .createdAt(LocalDateTime.now())
+                .build());
+        LostItem item = lostItemRepository.save(LostItem.builder()
+                .itemName("Gloves")
+                .quantity(1)
+                .remainingQuantity(0)
+                .place("Library")
+                .importBatchId(batch.getId())
+                .build());
+        LocalDateTime idle = LocalDateTime.now().minusDays(60);
+        jdbcTemplate.update("UPDATE lost_items SET created_at = ?, updated_at = ? WHERE id = ?", idle, idle, item.getId());
+        transactionTemplate.executeWithoutResult(status ->
+                archiveRepository.moveDepletedItems(item.getId() - 1, item.getId(), LocalDateTime.now().minusDays(30)));
+
+        assertThat(archiveRepository.findArchivedItems(0, 100))
+                .filteredOn(archived -> archived.getId().equals(item.getId()))
+                .extracting(LostItemDto::getDescription)
+                .containsExactly("Imported from tuesday.csv");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.entity.LostItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Item Details Repository Tests")
+class LostItemDetailsRepositoryTest {
+
+    @Autowired
+    private LostItemRepository lostItemRepository;
+
+    @Autowired
+    private ImportBatchRepository importBatchRepository;
+
+    @Autowired
+    private LostItemDetailsRepository lostItemDetailsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should only store real descriptions and describe other imported items by their file")
+    void shouldDescribeImportedItemsByTheirFile() {
+        ImportBatch batch = importBatchRepository.save(ImportBatch.builder()
+                .contentHash("details-test")
+                .fileName("monday.csv")
+                .fileSize(10L)
+                .itemCount(2)
+                .createdCount(2)
+                .createdAt(LocalDateTime.now())
+                .build());
+        LostItem described = item("Umbrella", "Black, with a wooden handle", batch.getId());
+        LostItem plain = item("Keys", null, batch.getId());
+        LostItem entered = item("Scarf", null, null);
+        List<LostItem> saved = lostItemRepository.saveAll(List.of(described, plain, entered));
+
+        lostItemDetailsRepository.saveDescriptions(saved);
+
+        List<Long> ids = saved.stream().map(LostItem::getId).toList();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lost_item_details WHERE lost_item_id IN (?, ?, ?)",
+                Long.class, ids.toArray())).isEqualTo(1L);
+        assertThat(lostItemDetailsRepository.findDescriptions(ids))
+                .containsEntry(described.getId(), "Black, with a wooden handle")
+                .containsEntry(plain.getId(), "Imported from monday.csv")
+                .doesNotContainKey(entered.getId());
+    }
+
+    private static LostItem item(String itemName, String description, Long importBatchId) {
+        return LostItem.builder()
+                .itemName(itemName)
+                .quantity(1)
+                .place("Library")
+                .description(description)
+                .importBatchId(importBatchId)
+                .build();
+    }
+}
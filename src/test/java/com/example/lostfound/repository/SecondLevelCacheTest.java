@@ -0,0 +1,80 @@
+package com.example.lostfound.repository;
+
+import com.example.lostfound.entity.LostItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Second-Level Cache Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private LostItemRepository lostItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated item loads from the LostItem region")
+    void shouldCacheLostItems() {
+        Long id = lostItemRepository.save(LostItem.builder()
+                .itemName("Cached Umbrella")
+                .quantity(2)
+                .place("Library")
+                .build()).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> lostItemRepository.findById(id));
+        transactionTemplate.executeWithoutResult(status -> lostItemRepository.findById(id));
+
+        var region = statistics.getDomainDataRegionStatistics(LostItem.class.getName());
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated listing page from the query cache until items change")
+    void shouldCacheListingQueries() {
+        lostItemRepository.save(LostItem.builder().itemName("Listed Scarf").quantity(1).place("Gym").build());
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status ->
+                lostItemRepository.findByRemainingQuantityGreaterThan(0, PageRequest.of(0, 20)));
+        transactionTemplate.executeWithoutResult(status ->
+                lostItemRepository.findByRemainingQuantityGreaterThan(0, PageRequest.of(0, 20)));
+
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+
+        lostItemRepository.save(LostItem.builder().itemName("New Gloves").quantity(1).place("Gym").build());
+        long hits = statistics.getQueryCacheHitCount();
+        transactionTemplate.executeWithoutResult(status ->
+                lostItemRepository.findByRemainingQuantityGreaterThan(0, PageRequest.of(0, 20)));
+
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ArchiveImportResultDto;
+import com.example.lostfound.dto.FileImportResultDto;
+import com.example.lostfound.dto.FileImportResultDto.Status;
+import com.example.lostfound.dto.ImportResultDto;
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.UnsupportedFileTypeException;
+import com.example.lostfound.service.parser.CsvParsingStrategy;
+import com.example.lostfound.service.parser.FileParsingStrategyFactory;
+import com.example.lostfound.service.parser.TextParsingStrategy;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Archive Import Service Tests")
+class ArchiveImportServiceTest {
+
+    private static final String LAPTOP_REPORT = """
+            Item Name: Laptop
+            Quantity: 1
+            Place: Library
+            """;
+    private static final String CSV_REPORT = """
+            Item Name,Quantity,Place
+            Umbrella,2,Main Entrance
+            Keys,1,Lobby
+            """;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    @Mock
+    private LostItemService lostItemService;
+
+    private ExecutorService executor;
+    private ArchiveImportService archiveImportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(2);
+        FileParsingStrategyFactory factory = new FileParsingStrategyFactory(List.of(
+                new TextParsingStrategy(spoolDirectory.resolve("text")),
+                new CsvParsingStrategy(',',
+                        List.of("item name", "item", "name"),
+                        List.of("quantity", "qty", "count"),
+                        List.of("place", "location", "found at"),
+                        List.of("description", "details", "notes"))));
+        archiveImportService = new ArchiveImportService(
+                new ImportPipeline(lostItemService), factory, executor, spoolDirectory.resolve("archive"), 2, 1000, 1024);
+
+        // The content itself stands in for its hash
+        lenient().when(lostItemService.computeContentHash(any())).thenAnswer(invocation ->
+                new String(invocation.<MultipartFile>getArgument(0).getBytes(), StandardCharsets.UTF_8));
+        lenient().when(lostItemService.findPreviousImport(anyString())).thenReturn(Optional.empty());
+        lenient().when(lostItemService.saveImport(any(ImportBatch.class), anyList())).thenAnswer(invocation -> {
+            List<LostItem> items = invocation.getArgument(1);
+            return ImportResultDto.builder()
+                    .importId((long) invocation.<ImportBatch>getArgument(0).getFileName().length())
+                    .itemsCount(items.size())
+                    .createdCount(items.size())
+                    .build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static MockMultipartFile zip(Map<String, String> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+        return new MockMultipartFile("file", "reports.zip", "application/zip", bytes.toByteArray());
+    }
+
+    private static MockMultipartFile tarGz(Map<String, String> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream out = new TarArchiveOutputStream(new GZIPOutputStream(bytes))) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                byte[] content = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                TarArchiveEntry tarEntry = new TarArchiveEntry(entry.getKey());
+                tarEntry.setSize(content.length);
+                out.putArchiveEntry(tarEntry);
+                out.write(content);
+                out.closeArchiveEntry();
+            }
+        }
+        return new MockMultipartFile("file", "reports.tar.gz", "application/gzip", bytes.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should report every entry of a zip archive in archive order")
+    void shouldImportZipEntries() throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("monday/", "");
+        entries.put("monday/laptop.txt", LAPTOP_REPORT);
+        entries.put("monday/readme.md", "# not a report");
+        entries.put("__MACOSX/monday/._laptop.txt", "resource fork");
+        entries.put("tuesday/items.csv", CSV_REPORT);
+        entries.put("tuesday/laptop-copy.txt", LAPTOP_REPORT);
+        entries.put("tuesday/empty-report.txt", "Nothing was found today");
+
+        ArchiveImportResultDto result = archiveImportService.importArchive(zip(entries), ImportMode.APPEND);
+
+        assertThat(result.getEntries())
+                .extracting(FileImportResultDto::getFileName, FileImportResultDto::getStatus)
+                .containsExactly(
+                        tuple("monday/laptop.txt", Status.IMPORTED),
+                        tuple("monday/readme.md", Status.SKIPPED),
+                        tuple("tuesday/items.csv", Status.IMPORTED),
+                        tuple("tuesday/laptop-copy.txt", Status.DUPLICATE),
+                        tuple("tuesday/empty-report.txt", Status.FAILED));
+        assertThat(result.getEntries().get(3).getImportId()).isEqualTo(result.getEntries().get(0).getImportId());
+        assertThat(result.getEntries().get(4).getError()).isNotBlank();
+        assertThat(result.getEntriesCount()).isEqualTo(5);
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getItemsCount()).isEqualTo(3);
+
+        verify(lostItemService, times(2)).saveImport(any(ImportBatch.class), anyList());
+        try (var spooled = Files.list(spoolDirectory.resolve("archive"))) {
+            assertThat(spooled).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should import tar.gz entries with the requested mode")
+    void shouldImportTarGzEntries() throws Exception {
+        ArchiveImportResultDto result = archiveImportService.importArchive(
+                tarGz(Map.of("items.csv", CSV_REPORT)), ImportMode.MERGE);
+
+        ArgumentCaptor<ImportBatch> batch = ArgumentCaptor.forClass(ImportBatch.class);
+        verify(lostItemService).saveImport(batch.capture(), argThat(items -> items.size() == 2));
+        assertThat(batch.getValue().getMode()).isEqualTo(ImportMode.MERGE);
+        assertThat(batch.getValue().getFileName()).isEqualTo("items.csv");
+        assertThat(batch.getValue().getContentHash()).isEqualTo(CSV_REPORT);
+        assertThat(result.getImportedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not parse entries whose content was imported before")
+    void shouldSkipPreviouslyImportedEntries() throws Exception {
+        when(lostItemService.findPreviousImport(LAPTOP_REPORT)).thenReturn(Optional.of(ImportResultDto.builder()
+                .importId(3L)
+                .itemsCount(1)
+                .duplicate(true)
+                .build()));
+
+        ArchiveImportResultDto result = archiveImportService.importArchive(
+                zip(Map.of("laptop.txt", LAPTOP_REPORT)), ImportMode.APPEND);
+
+        assertThat(result.getEntries()).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getStatus()).isEqualTo(Status.DUPLICATE);
+                    assertThat(entry.getImportId()).isEqualTo(3L);
+                });
+        verify(lostItemService, never()).saveImport(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should fail entries larger than the entry size limit")
+    void shouldFailOversizedEntries() throws Exception {
+        ArchiveImportResultDto result = archiveImportService.importArchive(
+                zip(Map.of("huge.txt", LAPTOP_REPORT.repeat(100))), ImportMode.APPEND);
+
+        assertThat(result.getEntries()).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getStatus()).isEqualTo(Status.FAILED);
+                    assertThat(entry.getError()).contains("maximum allowed size");
+                });
+        verifyNoInteractions(lostItemService);
+    }
+
+    @Test
+    @DisplayName("Should reject uploads that are not zip or tar.gz archives")
+    void shouldRejectUnsupportedArchives() {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "reports.rar", "application/vnd.rar", "test content".getBytes());
+
+        assertThatThrownBy(() -> archiveImportService.importArchive(file, ImportMode.APPEND))
+                .isInstanceOf(UnsupportedFileTypeException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ClaimDto;
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.repository.ArchiveRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 9, 1, 0, 0);
+
+    @Mock
+    private ArchiveRepository archiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
+    private ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new ArchiveService(archiveRepository, new TransactionTemplate(transactionManager),
+                entityManagerFactory, true, 2, Duration.ofDays(30));
+    }
+
+    @Test
+    void archiveClosedClaims_ShouldMoveOneIdRangeAfterAnotherEachInItsOwnTransaction() {
+        when(archiveRepository.findClosedClaimChunkEnd(0L, CUTOFF, 2)).thenReturn(5L);
+        when(archiveRepository.findClosedClaimChunkEnd(5L, CUTOFF, 2)).thenReturn(9L);
+        when(archiveRepository.findClosedClaimChunkEnd(9L, CUTOFF, 2)).thenReturn(null);
+        when(archiveRepository.moveClosedClaims(0L, 5L, CUTOFF)).thenReturn(2);
+        when(archiveRepository.moveClosedClaims(5L, 9L, CUTOFF)).thenReturn(1);
+
+        int moved = archiveService.archiveClosedClaims(CUTOFF);
+
+        assertThat(moved).isEqualTo(3);
+        InOrder inOrder = inOrder(archiveRepository);
+        inOrder.verify(archiveRepository).moveClosedClaims(0L, 5L, CUTOFF);
+        inOrder.verify(archiveRepository).moveClosedClaims(5L, 9L, CUTOFF);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void archiveDepletedItems_ShouldEvictTheMovedItemsFromTheSecondLevelCache() {
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(archiveRepository.findDepletedItemChunkEnd(0L, CUTOFF, 2)).thenReturn(4L);
+        when(archiveRepository.findDepletedItemChunkEnd(4L, CUTOFF, 2)).thenReturn(null);
+        when(archiveRepository.moveDepletedItems(0L, 4L, CUTOFF)).thenReturn(List.of(3L, 4L));
+
+        int moved = archiveService.archiveDepletedItems(CUTOFF);
+
+        assertThat(moved).isEqualTo(2);
+        verify(cache).evict(LostItem.class, 3L);
+        verify(cache).evict(LostItem.class, 4L);
+    }
+
+    @Test
+    void archive_WhenDisabled_ShouldMoveNothing() {
+        archiveService = new ArchiveService(archiveRepository, new TransactionTemplate(transactionManager),
+                entityManagerFactory, false, 2, Duration.ofDays(30));
+
+        archiveService.archive();
+
+        verifyNoInteractions(archiveRepository);
+    }
+
+    @Test
+    void archive_ShouldMoveClaimsBeforeItems() {
+        when(archiveRepository.findClosedClaimChunkEnd(anyLong(), any(), anyInt())).thenReturn(null);
+        when(archiveRepository.findDepletedItemChunkEnd(anyLong(), any(), anyInt())).thenReturn(null);
+
+        archiveService.archive();
+
+        InOrder inOrder = inOrder(archiveRepository);
+        inOrder.verify(archiveRepository).findClosedClaimChunkEnd(eq(0L),
+                argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusDays(29))), eq(2));
+        inOrder.verify(archiveRepository).findDepletedItemChunkEnd(eq(0L), any(), eq(2));
+    }
+
+    @Test
+    void getArchivedClaims_ShouldReadTheRequestedPage() {
+        when(archiveRepository.findArchivedClaims(20L, 10)).thenReturn(List.of(ClaimDto.builder().id(1L).build()));
+
+        Page<ClaimDto> page = archiveService.getArchivedClaims(PageRequest.of(2, 10));
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getTotalElements()).isEqualTo(21); // last page, so the total needs no count
+        verify(archiveRepository, never()).countArchivedClaims();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.AvailabilityDto;
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.repository.AvailabilityCounterRepository;
+import com.example.lostfound.repository.AvailabilityCounterRepository.PlaceCounter;
+import com.example.lostfound.repository.LostItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityCounterServiceTest {
+
+    @Mock
+    private AvailabilityCounterRepository counterRepository;
+
+    @Mock
+    private LostItemRepository lostItemRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private AvailabilityCounterService availabilityCounterService;
+
+    @BeforeEach
+    void setUp() {
+        availabilityCounterService = new AvailabilityCounterService(counterRepository, lostItemRepository,
+                entityManager, meterRegistry, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void record_WithoutTransaction_ShouldIncrementRightAway() {
+        availabilityCounterService.record("Gym", 1);
+
+        verify(counterRepository).incrementTotal(intThat(stripe -> stripe >= 0 && stripe < 4), eq(1L));
+        verify(counterRepository).incrementPlace(eq("Gym"), intThat(stripe -> stripe >= 0 && stripe < 4), eq(1L));
+    }
+
+    @Test
+    void record_InTransaction_ShouldApplyTheSummedChangesBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        availabilityCounterService.recordCreated(List.of(
+                LostItem.builder().itemName("Scarf").quantity(1).remainingQuantity(1).place("Gym").build(),
+                LostItem.builder().itemName("Ball").quantity(2).remainingQuantity(2).place("Gym").build(),
+                LostItem.builder().itemName("Key").quantity(1).remainingQuantity(0).place("Lobby").build()));
+        availabilityCounterService.record("Library", -1);
+        verifyNoInteractions(counterRepository);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        InOrder inOrder = inOrder(entityManager, counterRepository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(counterRepository).incrementTotal(anyInt(), eq(1L));
+        inOrder.verify(counterRepository).incrementPlace(eq("Gym"), anyInt(), eq(2L));
+        inOrder.verify(counterRepository).incrementPlace(eq("Library"), anyInt(), eq(-1L));
+        verify(counterRepository, never()).incrementPlace(eq("Lobby"), anyInt(), anyLong());
+    }
+
+    @Test
+    void reconcile_ShouldCorrectCountersThatDrifted() {
+        when(counterRepository.sumTotal()).thenReturn(5L);
+        when(counterRepository.sumByPlace()).thenReturn(List.of(
+                new PlaceCounter("Gym", 3), new PlaceCounter("Library", 2)));
+        when(lostItemRepository.countAvailableByPlace()).thenReturn(List.of(
+                placeCount("Gym", 3L), placeCount("Library", 1L), placeCount("Lobby", 2L)));
+
+        availabilityCounterService.reconcile();
+
+        verify(counterRepository).incrementTotal(0, 1L);
+        verify(counterRepository).incrementPlace("Library", 0, -1L);
+        verify(counterRepository).incrementPlace("Lobby", 0, 2L);
+        verify(counterRepository, never()).incrementPlace(eq("Gym"), anyInt(), anyLong());
+        verify(counterRepository).deleteEmptyStripes();
+    }
+
+    @Test
+    void reconcile_WhenCountersAgree_ShouldChangeNothing() {
+        when(counterRepository.sumTotal()).thenReturn(3L);
+        when(counterRepository.sumByPlace()).thenReturn(List.of(new PlaceCounter("Gym", 3)));
+        when(lostItemRepository.countAvailableByPlace()).thenReturn(List.of(placeCount("Gym", 3L)));
+
+        availabilityCounterService.reconcile();
+
+        verify(counterRepository, never()).incrementTotal(anyInt(), anyLong());
+        verify(counterRepository, never()).incrementPlace(any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void getAvailability_ShouldLeaveOutPlacesWithoutAvailableItems() {
+        when(counterRepository.sumTotal()).thenReturn(3L);
+        when(counterRepository.sumByPlace()).thenReturn(List.of(
+                new PlaceCounter("Gym", 3), new PlaceCounter("Lobby", 0)));
+
+        AvailabilityDto availability = availabilityCounterService.getAvailability();
+
+        assertThat(availability.getAvailableItems()).isEqualTo(3);
+        assertThat(availability.getPlaces()).extracting(AvailabilityDto.PlaceAvailability::getPlace)
+                .containsExactly("Gym");
+    }
+
+    private static LostItemRepository.PlaceCount placeCount(String place, Long count) {
+        return new LostItemRepository.PlaceCount() {
+            @Override
+            public String getPlace() {
+                return place;
+            }
+
+            @Override
+            public Long getItemCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ImportResultDto;
+import com.example.lostfound.dto.UploadSessionDto;
+import com.example.lostfound.dto.UploadSessionRequest;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.entity.UploadSession;
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.InvalidUploadChunkException;
+import com.example.lostfound.exception.UploadOffsetConflictException;
+import com.example.lostfound.exception.UploadSessionNotFoundException;
+import com.example.lostfound.repository.UploadSessionRepository;
+import com.example.lostfound.service.parser.FileParsingStrategyFactory;
+import com.example.lostfound.service.parser.RecordTemplate;
+import com.example.lostfound.service.parser.SpooledMultipartFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+
+    private static final byte[] CONTENT = "Item Name: Umbrella\nQuantity: 2\nPlace: Main Entrance\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private LostItemService lostItemService;
+
+    @Mock
+    private ParseTemplateService parseTemplateService;
+
+    @Mock
+    private FileParsingStrategyFactory parsingStrategyFactory;
+
+    @TempDir
+    private Path uploadDirectory;
+
+    private ChunkedUploadService chunkedUploadService;
+
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        chunkedUploadService = new ChunkedUploadService(uploadSessionRepository, lostItemService,
+                parseTemplateService, parsingStrategyFactory, uploadDirectory,
+                DataSize.ofMegabytes(1), DataSize.ofBytes(32), Duration.ofHours(24));
+
+        when(uploadSessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        UploadSessionDto created = chunkedUploadService.createSession(UploadSessionRequest.builder()
+                .fileName("north.txt")
+                .contentType("text/plain")
+                .fileSize((long) CONTENT.length)
+                .mode(ImportMode.MERGE)
+                .build());
+        session = UploadSession.builder()
+                .id(created.getId())
+                .fileName("north.txt")
+                .contentType("text/plain")
+                .fileSize((long) CONTENT.length)
+                .mode(ImportMode.MERGE)
+                .build();
+        lenient().when(uploadSessionRepository.findById(created.getId())).thenReturn(Optional.of(session));
+    }
+
+    @Test
+    void createSession_ShouldRejectFilesAboveTheLimit() {
+        assertThatThrownBy(() -> chunkedUploadService.createSession(UploadSessionRequest.builder()
+                .fileName("huge.pdf")
+                .contentType("application/pdf")
+                .fileSize(DataSize.ofMegabytes(2).toBytes())
+                .build()))
+                .isInstanceOf(InvalidUploadChunkException.class);
+    }
+
+    @Test
+    void writeChunk_ShouldWriteChunksAtTheirOffsetAndAcknowledgeThem() throws Exception {
+        when(uploadSessionRepository.acknowledge(eq(session.getId()), anyLong(), anyLong(), any())).thenReturn(1);
+
+        UploadSessionDto first = chunkedUploadService.writeChunk(session.getId(), 0, chunk(0, 30));
+        UploadSessionDto second = chunkedUploadService.writeChunk(session.getId(), 30, chunk(30, CONTENT.length));
+
+        assertThat(first.getReceivedBytes()).isEqualTo(30);
+        assertThat(second.getReceivedBytes()).isEqualTo(CONTENT.length);
+        assertThat(Files.readAllBytes(uploadDirectory.resolve("chunked").resolve(session.getId() + ".part")))
+                .isEqualTo(CONTENT);
+        verify(uploadSessionRepository).acknowledge(eq(session.getId()), eq(30L), eq((long) CONTENT.length), any());
+    }
+
+    @Test
+    void writeChunk_ShouldAcceptResentBytes() throws Exception {
+        session.setReceivedBytes(30L);
+        when(uploadSessionRepository.acknowledge(eq(session.getId()), eq(20L), anyLong(), any())).thenReturn(1);
+
+        UploadSessionDto result = chunkedUploadService.writeChunk(session.getId(), 20, chunk(20, 50));
+
+        assertThat(result.getReceivedBytes()).isEqualTo(50);
+    }
+
+    @Test
+    void writeChunk_ShouldRefuseChunksThatLeaveAGap() {
+        session.setReceivedBytes(10L);
+
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(session.getId(), 30, chunk(30, 40)))
+                .isInstanceOf(UploadOffsetConflictException.class)
+                .extracting(e -> ((UploadOffsetConflictException) e).getReceivedBytes())
+                .isEqualTo(10L);
+        verify(uploadSessionRepository, never()).acknowledge(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void writeChunk_ShouldRefuseBytesPastTheDeclaredSize() {
+        session.setReceivedBytes(30L);
+        byte[] tooLong = new byte[CONTENT.length - 30 + 1];
+
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(session.getId(), 30, new ByteArrayInputStream(tooLong)))
+                .isInstanceOf(InvalidUploadChunkException.class)
+                .hasMessageContaining("declared file size");
+    }
+
+    @Test
+    void writeChunk_ShouldRefuseChunksAboveTheChunkLimit() {
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(session.getId(), 0, chunk(0, 33)))
+                .isInstanceOf(InvalidUploadChunkException.class)
+                .hasMessageContaining("Chunk size");
+    }
+
+    @Test
+    void completeSession_ShouldImportTheSpooledFileAndRemoveTheSession() throws Exception {
+        Path spooled = uploadDirectory.resolve("chunked").resolve(session.getId() + ".part");
+        Files.write(spooled, CONTENT);
+        session.setReceivedBytes((long) CONTENT.length);
+        when(uploadSessionRepository.markCompleting(eq(session.getId()), any())).thenReturn(1);
+        when(parseTemplateService.getRecordTemplate(null)).thenReturn(RecordTemplate.DEFAULT);
+        when(lostItemService.uploadAndParseFile(any(), eq(ImportMode.MERGE), eq(RecordTemplate.DEFAULT)))
+                .thenReturn(ImportResultDto.builder().importId(9L).itemsCount(1).build());
+
+        ImportResultDto result = chunkedUploadService.completeSession(session.getId());
+
+        assertThat(result.getImportId()).isEqualTo(9L);
+        ArgumentCaptor<MultipartFile> file = ArgumentCaptor.forClass(MultipartFile.class);
+        verify(lostItemService).uploadAndParseFile(file.capture(), eq(ImportMode.MERGE), eq(RecordTemplate.DEFAULT));
+        assertThat(file.getValue()).isInstanceOf(SpooledMultipartFile.class);
+        assertThat(file.getValue().getOriginalFilename()).isEqualTo("north.txt");
+        verify(uploadSessionRepository).deleteById(session.getId());
+        assertThat(spooled).doesNotExist();
+    }
+
+    @Test
+    void completeSession_ShouldRefuseIncompleteUploads() {
+        session.setReceivedBytes(30L);
+
+        assertThatThrownBy(() -> chunkedUploadService.completeSession(session.getId()))
+                .isInstanceOf(UploadOffsetConflictException.class)
+                .hasMessageContaining("incomplete");
+        verifyNoInteractions(lostItemService);
+    }
+
+    @Test
+    void completeSession_ShouldReopenTheSessionWhenTheImportFails() throws Exception {
+        session.setReceivedBytes((long) CONTENT.length);
+        when(uploadSessionRepository.markCompleting(eq(session.getId()), any())).thenReturn(1);
+        when(parseTemplateService.getRecordTemplate(null)).thenReturn(RecordTemplate.DEFAULT);
+        when(lostItemService.uploadAndParseFile(any(), any(), any()))
+                .thenThrow(new FileParsingException("No valid items found in the file"));
+
+        assertThatThrownBy(() -> chunkedUploadService.completeSession(session.getId()))
+                .isInstanceOf(FileParsingException.class);
+        verify(uploadSessionRepository).reopen(eq(session.getId()), any());
+        verify(uploadSessionRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void abortSession_ShouldRemoveAnOpenSessionWithItsFile() throws Exception {
+        Path spooled = uploadDirectory.resolve("chunked").resolve(session.getId() + ".part");
+        when(uploadSessionRepository.deleteIfOpen(session.getId())).thenReturn(1);
+
+        chunkedUploadService.abortSession(session.getId());
+
+        assertThat(spooled).doesNotExist();
+    }
+
+    @Test
+    void abortSession_ShouldKeepASessionThatIsBeingCompleted() {
+        Path spooled = uploadDirectory.resolve("chunked").resolve(session.getId() + ".part");
+        when(uploadSessionRepository.deleteIfOpen(session.getId())).thenReturn(0);
+
+        assertThatThrownBy(() -> chunkedUploadService.abortSession(session.getId()))
+                .isInstanceOf(UploadOffsetConflictException.class)
+                .hasMessageContaining("being completed");
+        assertThat(spooled).exists();
+        verify(uploadSessionRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void removeExpiredSessions_ShouldOnlyRemoveSessionsThatAreStillOpen() {
+        Path spooled = uploadDirectory.resolve("chunked").resolve(session.getId() + ".part");
+        when(uploadSessionRepository.findOpenIdsUpdatedBefore(any())).thenReturn(List.of(session.getId()));
+        when(uploadSessionRepository.deleteIfOpen(session.getId())).thenReturn(0); // completion started since
+
+        chunkedUploadService.removeExpiredSessions();
+
+        assertThat(spooled).exists();
+        verify(uploadSessionRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void getSession_ShouldForgetSessionsWhoseDataIsGone() throws Exception {
+        Files.delete(uploadDirectory.resolve("chunked").resolve(session.getId() + ".part"));
+
+        assertThatThrownBy(() -> chunkedUploadService.getSession(session.getId()))
+                .isInstanceOf(UploadSessionNotFoundException.class);
+        verify(uploadSessionRepository).deleteById(session.getId());
+    }
+
+    private static ByteArrayInputStream chunk(int from, int to) {
+        return new ByteArrayInputStream(CONTENT, from, to - from);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.repository.ClaimNotesRepository;
+import com.example.lostfound.repository.ClaimPartitionRepository;
+import com.example.lostfound.repository.ClaimPartitionRepository.ClaimPartition;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimPartitionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private ClaimPartitionRepository partitionRepository;
+
+    @Mock
+    private ClaimNotesRepository claimNotesRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClaimPartitionService claimPartitionService;
+
+    @BeforeEach
+    void setUp() {
+        claimPartitionService = new ClaimPartitionService(partitionRepository, claimNotesRepository,
+                new TransactionTemplate(transactionManager), 2, 12);
+    }
+
+    @Test
+    void maintainPartitions_ShouldAddTheComingMonthsInOrder() {
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                partition("p_history", LocalDate.of(2026, 10, 1)),
+                partition("p202610", LocalDate.of(2026, 11, 1)),
+                partition(ClaimPartitionRepository.FUTURE_PARTITION, null)));
+
+        claimPartitionService.maintainPartitions(TODAY);
+
+        InOrder inOrder = inOrder(partitionRepository);
+        inOrder.verify(partitionRepository).splitFuturePartition("p202611", LocalDate.of(2026, 12, 1));
+        inOrder.verify(partitionRepository).splitFuturePartition("p202612", LocalDate.of(2027, 1, 1));
+        verify(partitionRepository, times(2)).splitFuturePartition(any(), any());
+        verify(partitionRepository, never()).dropPartitions(any());
+    }
+
+    @Test
+    void maintainPartitions_ShouldDropPartitionsBeyondTheRetention() {
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                partition("p_history", LocalDate.of(2025, 9, 1)),
+                partition("p202509", LocalDate.of(2025, 10, 1)),
+                partition("p202510", LocalDate.of(2025, 11, 1)),
+                partition("p202701", LocalDate.of(2027, 2, 1)),
+                partition(ClaimPartitionRepository.FUTURE_PARTITION, null)));
+
+        claimPartitionService.maintainPartitions(TODAY);
+
+        InOrder inOrder = inOrder(claimNotesRepository, partitionRepository);
+        inOrder.verify(claimNotesRepository).deleteNotesOfClaimsMadeBetween(null, LocalDate.of(2025, 9, 1));
+        inOrder.verify(claimNotesRepository)
+                .deleteNotesOfClaimsMadeBetween(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 1));
+        inOrder.verify(partitionRepository).dropPartitions(List.of("p_history", "p202509"));
+        verify(claimNotesRepository, times(2)).deleteNotesOfClaimsMadeBetween(any(), any());
+        verify(partitionRepository, never()).splitFuturePartition(any(), any());
+    }
+
+    @Test
+    void maintainPartitions_ShouldKeepExpiredPartitionsWithOpenClaims() {
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                partition("p_history", LocalDate.of(2025, 9, 1)),
+                partition("p202509", LocalDate.of(2025, 10, 1)),
+                partition("p202510", LocalDate.of(2025, 11, 1)),
+                partition(ClaimPartitionRepository.FUTURE_PARTITION, null)));
+        when(partitionRepository.countOpenClaims(null, LocalDate.of(2025, 9, 1))).thenReturn(3L);
+
+        claimPartitionService.maintainPartitions(TODAY);
+
+        verify(partitionRepository).dropPartitions(List.of("p202509"));
+        verify(claimNotesRepository, never()).deleteNotesOfClaimsMadeBetween(isNull(), any());
+        verify(claimNotesRepository)
+                .deleteNotesOfClaimsMadeBetween(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 1));
+    }
+
+    @Test
+    void maintainPartitions_WhenEveryExpiredPartitionHasOpenClaims_ShouldDropNothing() {
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                partition("p_history", LocalDate.of(2025, 9, 1)),
+                partition("p202510", LocalDate.of(2025, 11, 1)),
+                partition(ClaimPartitionRepository.FUTURE_PARTITION, null)));
+        when(partitionRepository.countOpenClaims(null, LocalDate.of(2025, 9, 1))).thenReturn(1L);
+
+        claimPartitionService.maintainPartitions(TODAY);
+
+        verify(partitionRepository, never()).dropPartitions(any());
+        verifyNoInteractions(claimNotesRepository);
+    }
+
+    @Test
+    void maintainPartitions_WithAutoCommitOff_ShouldCommitTheNoteDeletesBeforeTheDrop() {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl("jdbc:h2:mem:claim-partitions;DB_CLOSE_DELAY=-1");
+            dataSource.setUsername("sa");
+            dataSource.setAutoCommit(false); // as in the docker profile
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            transactionTemplate.executeWithoutResult(setup -> {
+                jdbcTemplate.execute("CREATE TABLE claims (id BIGINT PRIMARY KEY, claim_date TIMESTAMP)");
+                jdbcTemplate.execute("CREATE TABLE claim_notes (claim_id BIGINT PRIMARY KEY, notes CLOB)");
+                jdbcTemplate.update("INSERT INTO claims VALUES (1, '2025-08-15 10:00:00'), (2, '2026-10-01 10:00:00')");
+                jdbcTemplate.update("INSERT INTO claim_notes VALUES (1, 'expired'), (2, 'kept')");
+            });
+            ClaimPartitionService service = new ClaimPartitionService(partitionRepository,
+                    new ClaimNotesRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)),
+                    transactionTemplate, 2, 12);
+            when(partitionRepository.findPartitions()).thenReturn(List.of(
+                    partition("p_history", LocalDate.of(2025, 9, 1)),
+                    partition(ClaimPartitionRepository.FUTURE_PARTITION, null)));
+
+            service.maintainPartitions(TODAY);
+
+            verify(partitionRepository).dropPartitions(List.of("p_history"));
+            assertThat(jdbcTemplate.queryForList("SELECT claim_id FROM claim_notes", Long.class)).containsExactly(2L);
+        }
+    }
+
+    @Test
+    void maintainPartitions_WhenClaimsIsNotPartitioned_ShouldChangeNothing() {
+        when(partitionRepository.findPartitions()).thenReturn(List.of());
+
+        claimPartitionService.maintainPartitions(TODAY);
+
+        verify(partitionRepository, never()).splitFuturePartition(any(), any());
+        verify(partitionRepository, never()).dropPartitions(any());
+    }
+
+    @Test
+    void maintainPartitions_ShouldNotFailWhenTheDdlFails() {
+        when(partitionRepository.findPartitions()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        claimPartitionService.maintainPartitions();
+
+        verify(partitionRepository, never()).dropPartitions(any());
+    }
+
+    private static ClaimPartition partition(String name, LocalDate upperBound) {
+        return new ClaimPartition(name, upperBound, 10);
+    }
+}
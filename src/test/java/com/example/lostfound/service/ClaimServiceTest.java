@@ -2,31 +2,41 @@ package com.example.lostfound.service;
 
 import com.example.lostfound.dto.ClaimDto;
 import com.example.lostfound.dto.ClaimRequest;
+import com.example.lostfound.dto.ClaimTransitionRequest;
+import com.example.lostfound.dto.ClaimTransitionResultDto;
 import com.example.lostfound.entity.Claim;
 import com.example.lostfound.entity.ClaimStatus;
 import com.example.lostfound.entity.LostItem;
 import com.example.lostfound.entity.Role;
 import com.example.lostfound.entity.User;
 import com.example.lostfound.exception.InsufficientQuantityException;
+import com.example.lostfound.exception.InvalidSortException;
 import com.example.lostfound.exception.LostItemNotFoundException;
 import com.example.lostfound.exception.UserNotFoundException;
+import com.example.lostfound.repository.ClaimNotesRepository;
 import com.example.lostfound.repository.ClaimRepository;
 import com.example.lostfound.repository.LostItemRepository;
 import com.example.lostfound.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,6 +54,15 @@ class ClaimServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AvailabilityCounterService availabilityCounterService;
+
+    @Mock
+    private ClaimNotesRepository claimNotesRepository;
+
+    @Spy
+    private PagePolicy pagePolicy = new PagePolicy(100, (MeterRegistry) null);
+
     @InjectMocks
     private ClaimService claimService;
 
@@ -122,9 +141,28 @@ class ClaimServiceTest {
         verify(claimRepository).existsByUserIdAndLostItemId(1L, 1L);
         verify(lostItemRepository).save(testLostItem);
         verify(claimRepository).save(any(Claim.class));
+        verify(claimNotesRepository).saveNotes(1L, "I need this laptop for work");
 
         // Verify that the remaining quantity was decreased
         assertThat(testLostItem.getRemainingQuantity()).isEqualTo(1);
+        verifyNoInteractions(availabilityCounterService);
+    }
+
+    @Test
+    void createClaim_LastUnitsMakeTheItemUnavailable() throws Exception {
+        // Given
+        testLostItem.setRemainingQuantity(2);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(lostItemRepository.findById(1L)).thenReturn(Optional.of(testLostItem));
+        when(claimRepository.existsByUserIdAndLostItemId(1L, 1L)).thenReturn(false);
+        when(claimRepository.save(any(Claim.class))).thenReturn(testClaim);
+
+        // When
+        claimService.createClaim(testClaimRequest, "testuser");
+
+        // Then
+        assertThat(testLostItem.getRemainingQuantity()).isZero();
+        verify(availabilityCounterService).record("Library", -1);
     }
 
     @Test
@@ -321,4 +359,153 @@ class ClaimServiceTest {
 
         verify(claimRepository).findAllWithUserAndItem(pageable);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getClaims_WithDateRange_ShouldQueryTheWholeDaysOfTheRange() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(claimRepository.findByClaimDateRangeWithUserAndItem(any(), any(), any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(testClaim), pageable, 1));
+
+        Page<ClaimDto> result = claimService.getClaims(ClaimStatus.PENDING,
+                LocalDate.of(2026, 9, 1), LocalDate.of(2026, 9, 30), false, pageable);
+
+        assertThat(result.getContent()).hasSize(1);
+        verify(claimRepository).findByClaimDateRangeWithUserAndItem(LocalDateTime.of(2026, 9, 1, 0, 0),
+                LocalDateTime.of(2026, 10, 1, 0, 0), ClaimStatus.PENDING, pageable);
+    }
+
+    @Test
+    void getClaims_WithOpenEnd_ShouldStillBoundTheClaimDate() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(claimRepository.findByClaimDateRangeWithUserAndItem(any(), any(), isNull(), eq(pageable)))
+                .thenReturn(Page.empty(pageable));
+
+        claimService.getClaims(null, LocalDate.of(2026, 9, 1), null, false, pageable);
+
+        verify(claimRepository).findByClaimDateRangeWithUserAndItem(eq(LocalDateTime.of(2026, 9, 1, 0, 0)),
+                argThat(to -> to.getYear() == 9999), isNull(), eq(pageable));
+    }
+
+    @Test
+    void getClaims_WithoutFilters_ShouldListAllClaims() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(claimRepository.findAllWithUserAndItem(pageable)).thenReturn(Page.empty(pageable));
+
+        claimService.getClaims(null, null, null, false, pageable);
+
+        verify(claimRepository).findAllWithUserAndItem(pageable);
+        verify(claimRepository, never()).findByClaimDateRangeWithUserAndItem(any(), any(), any(), any());
+        verifyNoInteractions(claimNotesRepository);
+    }
+
+    @Test
+    void getClaims_WithNotes_ShouldReadTheNotesOfThePage() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(claimRepository.findAllWithUserAndItem(pageable))
+                .thenReturn(new PageImpl<>(List.of(testClaim), pageable, 1));
+        when(claimNotesRepository.findNotes(List.of(1L))).thenReturn(Map.of(1L, "Stored notes"));
+
+        Page<ClaimDto> result = claimService.getClaims(null, null, null, true, pageable);
+
+        assertThat(result.getContent()).extracting(ClaimDto::getNotes).containsExactly("Stored notes");
+    }
+
+    @Test
+    void getClaims_SortedByNotes_ShouldBeRejected() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("notes"));
+
+        assertThatThrownBy(() -> claimService.getClaims(null, null, null, true, pageable))
+                .isInstanceOf(InvalidSortException.class)
+                .hasMessageStartingWith("Sorting claims by notes is not supported");
+        verifyNoInteractions(claimRepository);
+    }
+
+    @Test
+    void transitionClaims_ShouldApplyValidTransitionsInOneUpdateAndReportEveryClaim() {
+        Claim pending = claim(1L, testLostItem, 2, ClaimStatus.PENDING);
+        Claim fulfilled = claim(2L, testLostItem, 1, ClaimStatus.FULFILLED);
+        Claim approved = claim(3L, testLostItem, 1, ClaimStatus.APPROVED);
+        when(claimRepository.findAllByIdForUpdate(Set.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(pending, fulfilled, approved));
+
+        ClaimTransitionResultDto result = claimService.transitionClaims(
+                new ClaimTransitionRequest(List.of(1L, 2L, 3L, 4L, 1L), ClaimStatus.APPROVED));
+
+        assertThat(result.getTransitionedCount()).isEqualTo(1);
+        assertThat(result.getReleasedQuantity()).isZero();
+        assertThat(result.getClaims())
+                .extracting(ClaimTransitionResultDto.ClaimOutcome::getClaimId, ClaimTransitionResultDto.ClaimOutcome::getOutcome)
+                .containsExactly(
+                        tuple(1L, ClaimTransitionResultDto.Outcome.TRANSITIONED),
+                        tuple(2L, ClaimTransitionResultDto.Outcome.INVALID_TRANSITION),
+                        tuple(3L, ClaimTransitionResultDto.Outcome.UNCHANGED),
+                        tuple(4L, ClaimTransitionResultDto.Outcome.NOT_FOUND));
+        verify(claimRepository).updateStatus(List.of(1L), ClaimStatus.APPROVED, Set.of(ClaimStatus.PENDING));
+        verify(lostItemRepository, never()).releaseQuantity(any(), anyInt(), any());
+        verifyNoInteractions(availabilityCounterService);
+    }
+
+    @Test
+    void transitionClaims_Rejected_ShouldReleaseTheQuantityWithOneUpdatePerItem() {
+        LostItem soldOut = LostItem.builder().id(2L).itemName("Umbrella").quantity(3).remainingQuantity(0)
+                .place("Lobby").build();
+        when(claimRepository.findAllByIdForUpdate(any())).thenReturn(List.of(
+                claim(1L, testLostItem, 2, ClaimStatus.PENDING),
+                claim(2L, testLostItem, 1, ClaimStatus.APPROVED),
+                claim(3L, soldOut, 3, ClaimStatus.PENDING)));
+        when(lostItemRepository.findStockByIds(Set.of(1L, 2L))).thenReturn(List.of(
+                itemStock(1L, "Library", 6), itemStock(2L, "Lobby", 3)));
+
+        ClaimTransitionResultDto result = claimService.transitionClaims(
+                new ClaimTransitionRequest(List.of(1L, 2L, 3L), ClaimStatus.REJECTED));
+
+        assertThat(result.getTransitionedCount()).isEqualTo(3);
+        assertThat(result.getReleasedQuantity()).isEqualTo(6);
+        verify(claimRepository).updateStatus(List.of(1L, 2L, 3L), ClaimStatus.REJECTED,
+                Set.of(ClaimStatus.PENDING, ClaimStatus.APPROVED));
+        verify(lostItemRepository).releaseQuantity(eq(1L), eq(3), any());
+        verify(lostItemRepository).releaseQuantity(eq(2L), eq(3), any());
+        // The umbrella had run out and is available again; the laptop still had some left
+        verify(availabilityCounterService).record("Lobby", 1);
+        verify(availabilityCounterService, never()).record(eq("Library"), anyLong());
+    }
+
+    @Test
+    void claimStatus_ShouldOnlyAllowTheDefinedTransitions() {
+        assertThat(ClaimStatus.PENDING.canTransitionTo(ClaimStatus.APPROVED)).isTrue();
+        assertThat(ClaimStatus.APPROVED.canTransitionTo(ClaimStatus.REJECTED)).isTrue();
+        assertThat(ClaimStatus.PENDING.canTransitionTo(ClaimStatus.FULFILLED)).isFalse();
+        assertThat(ClaimStatus.REJECTED.canTransitionTo(ClaimStatus.PENDING)).isFalse();
+        assertThat(ClaimStatus.sourcesOf(ClaimStatus.FULFILLED)).containsExactly(ClaimStatus.APPROVED);
+    }
+
+    private Claim claim(Long id, LostItem lostItem, int quantity, ClaimStatus status) {
+        return Claim.builder()
+                .id(id)
+                .user(testUser)
+                .lostItem(lostItem)
+                .claimedQuantity(quantity)
+                .status(status)
+                .claimDate(LocalDateTime.now())
+                .build();
+    }
+
+    private static LostItemRepository.ItemStock itemStock(Long id, String place, Integer remainingQuantity) {
+        return new LostItemRepository.ItemStock() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getPlace() {
+                return place;
+            }
+
+            @Override
+            public Integer getRemainingQuantity() {
+                return remainingQuantity;
+            }
+        };
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ImportBatchDto;
+import com.example.lostfound.dto.ImportRollbackResultDto;
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.exception.ImportNotFoundException;
+import com.example.lostfound.exception.ImportRollbackConflictException;
+import com.example.lostfound.repository.ImportBatchRepository;
+import com.example.lostfound.repository.ImportMergeRepository;
+import com.example.lostfound.repository.LostItemDetailsRepository;
+import com.example.lostfound.repository.LostItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportBatchServiceTest {
+
+    @Mock
+    private ImportBatchRepository importBatchRepository;
+
+    @Mock
+    private ImportMergeRepository importMergeRepository;
+
+    @Mock
+    private LostItemRepository lostItemRepository;
+
+    @Mock
+    private LostItemDetailsRepository lostItemDetailsRepository;
+
+    @Mock
+    private AvailabilityCounterService availabilityCounterService;
+
+    @InjectMocks
+    private ImportBatchService importBatchService;
+
+    private ImportBatch testBatch;
+
+    @BeforeEach
+    void setUp() {
+        testBatch = ImportBatch.builder()
+                .id(7L)
+                .contentHash("abc")
+                .fileName("monday.pdf")
+                .fileSize(1024L)
+                .mode(ImportMode.MERGE)
+                .itemCount(6)
+                .createdCount(3)
+                .mergedCount(3)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void getImports_ShouldIncludeCurrentItemCounts() {
+        Pageable pageable = PageRequest.of(0, 20);
+        ImportBatch emptied = ImportBatch.builder().id(8L).contentHash("def").fileSize(10L)
+                .itemCount(1).createdCount(1).build();
+        when(importBatchRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(testBatch, emptied), pageable, 2));
+        when(lostItemRepository.countByImportBatchIds(List.of(7L, 8L))).thenReturn(List.of(itemCount(7L, 2L)));
+
+        Page<ImportBatchDto> result = importBatchService.getImports(pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(ImportBatchDto::getCurrentItemCount).containsExactly(2L, 0L);
+        assertThat(result.getContent().get(0).getMergedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rollbackImport_ShouldRevertMergesAndRemoveCreatedItems() throws Exception {
+        when(importBatchRepository.findById(7L)).thenReturn(Optional.of(testBatch));
+        when(importMergeRepository.existsMergeIntoImport(7L)).thenReturn(false);
+        when(importMergeRepository.findMergedQuantities(7L)).thenReturn(List.of(
+                mergedQuantity(1L, 2L), mergedQuantity(2L, 1L), mergedQuantity(3L, 2L)));
+        when(lostItemRepository.subtractQuantity(eq(List.of(1L, 3L)), eq(2), any(LocalDateTime.class))).thenReturn(2);
+        when(lostItemRepository.subtractQuantity(eq(List.of(2L)), eq(1), any(LocalDateTime.class))).thenReturn(1);
+        when(lostItemRepository.deleteUnclaimedByImportBatchId(7L)).thenReturn(2);
+        when(lostItemRepository.withdrawByImportBatchId(eq(7L), any(LocalDateTime.class))).thenReturn(1);
+        List<LostItemRepository.PlaceCount> depletedByMerges = List.of(placeCount("Library", 1L));
+        when(lostItemRepository.countByPlaceDepletedBy(List.of(1L, 3L), 2)).thenReturn(depletedByMerges);
+        List<LostItemRepository.PlaceCount> depletedBySingleMerge = List.of(placeCount("Lobby", 1L));
+        when(lostItemRepository.countByPlaceDepletedBy(List.of(2L), 1)).thenReturn(depletedBySingleMerge);
+        List<LostItemRepository.PlaceCount> createdAvailable = List.of(placeCount("Gym", 2L));
+        when(lostItemRepository.countAvailableByPlaceForImportBatch(7L)).thenReturn(createdAvailable);
+
+        ImportRollbackResultDto result = importBatchService.rollbackImport(7L);
+
+        assertThat(result.getDeletedCount()).isEqualTo(2);
+        assertThat(result.getWithdrawnCount()).isEqualTo(1);
+        assertThat(result.getRevertedCount()).isEqualTo(3);
+        verify(availabilityCounterService).recordDepleted(depletedByMerges);
+        verify(availabilityCounterService).recordDepleted(depletedBySingleMerge);
+        verify(availabilityCounterService).recordDepleted(createdAvailable);
+        verify(importMergeRepository).deleteByImportBatchId(7L);
+        verify(importBatchRepository).delete(testBatch);
+    }
+
+    @Test
+    void rollbackImport_WhenLaterImportMergedIntoItems_ShouldRefuse() {
+        when(importBatchRepository.findById(7L)).thenReturn(Optional.of(testBatch));
+        when(importMergeRepository.existsMergeIntoImport(7L)).thenReturn(true);
+
+        assertThatThrownBy(() -> importBatchService.rollbackImport(7L))
+                .isInstanceOf(ImportRollbackConflictException.class)
+                .hasMessageContaining("roll those back first");
+        verifyNoInteractions(lostItemRepository);
+        verify(importBatchRepository, never()).delete(any());
+    }
+
+    @Test
+    void rollbackImport_WithUnknownId_ShouldThrowException() {
+        when(importBatchRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> importBatchService.rollbackImport(99L))
+                .isInstanceOf(ImportNotFoundException.class)
+                .hasMessage("Import not found with id: 99");
+    }
+
+    private static LostItemRepository.ImportItemCount itemCount(Long importBatchId, Long count) {
+        return new LostItemRepository.ImportItemCount() {
+            @Override
+            public Long getImportBatchId() {
+                return importBatchId;
+            }
+
+            @Override
+            public Long getItemCount() {
+                return count;
+            }
+        };
+    }
+
+    private static LostItemRepository.PlaceCount placeCount(String place, Long count) {
+        return new LostItemRepository.PlaceCount() {
+            @Override
+            public String getPlace() {
+                return place;
+            }
+
+            @Override
+            public Long getItemCount() {
+                return count;
+            }
+        };
+    }
+
+    private static ImportMergeRepository.MergedQuantity mergedQuantity(Long lostItemId, Long quantity) {
+        return new ImportMergeRepository.MergedQuantity() {
+            @Override
+            public Long getLostItemId() {
+                return lostItemId;
+            }
+
+            @Override
+            public Long getQuantity() {
+                return quantity;
+            }
+        };
+    }
+}
@@ -1,27 +1,51 @@
 package com.example.lostfound.service;
 
+import com.example.lostfound.dto.ImportResultDto;
 import com.example.lostfound.dto.LostItemDto;
+import com.example.lostfound.dto.SearchMode;
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.entity.ImportMerge;
+import com.example.lostfound.entity.ImportMode;
 import com.example.lostfound.entity.LostItem;
 import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.exception.ImportNotFoundException;
+import com.example.lostfound.exception.InvalidSortException;
+import com.example.lostfound.exception.LostItemNotFoundException;
 import com.example.lostfound.exception.UnsupportedFileTypeException;
+import com.example.lostfound.repository.ImportBatchRepository;
+import com.example.lostfound.repository.ImportMergeRepository;
+import com.example.lostfound.repository.LostItemDetailsRepository;
+import com.example.lostfound.repository.LostItemKeyRepository;
 import com.example.lostfound.repository.LostItemRepository;
 import com.example.lostfound.service.parser.FileParsingStrategy;
 import com.example.lostfound.service.parser.FileParsingStrategyFactory;
+import com.example.lostfound.service.parser.ParseResult;
+import com.example.lostfound.service.parser.RecordTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,15 +57,36 @@ class LostItemServiceTest {
     @Mock
     private LostItemRepository lostItemRepository;
 
+    @Mock
+    private ImportBatchRepository importBatchRepository;
+
+    @Mock
+    private ImportMergeRepository importMergeRepository;
+
     @Mock
     private FileParsingStrategyFactory parsingStrategyFactory;
 
     @Mock
     private FileParsingStrategy fileParsingStrategy;
 
+    @Mock
+    private AvailabilityCounterService availabilityCounterService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private LostItemDetailsRepository lostItemDetailsRepository;
+
+    @Mock
+    private LostItemKeyRepository lostItemKeyRepository;
+
     @Mock
     private MultipartFile multipartFile;
 
+    @Spy
+    private PagePolicy pagePolicy = new PagePolicy(100, (MeterRegistry) null);
+
     @InjectMocks
     private LostItemService lostItemService;
 
@@ -78,6 +123,30 @@ class LostItemServiceTest {
         testLostItems = List.of(testLostItem1, testLostItem2);
     }
 
+    private void givenFileContent(String content) throws Exception {
+        when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(content.getBytes()));
+    }
+
+    private void givenImportBatchSaved() {
+        when(importBatchRepository.save(any(ImportBatch.class))).thenAnswer(invocation -> {
+            ImportBatch batch = invocation.getArgument(0);
+            batch.setId(10L);
+            batch.setCreatedAt(LocalDateTime.now());
+            return batch;
+        });
+    }
+
+    private void givenParsedItems(List<LostItem> items, int rejectedCount) throws Exception {
+        when(fileParsingStrategy.parseFile(eq(multipartFile), eq(RecordTemplate.DEFAULT), anyInt(), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<List<LostItem>> consumer = invocation.getArgument(3);
+                    if (!items.isEmpty()) {
+                        consumer.accept(items);
+                    }
+                    return new ParseResult(items.size(), rejectedCount);
+                });
+    }
+
     @Test
     void uploadAndParseFile_Success() throws Exception {
         // Given
@@ -89,41 +158,36 @@ class LostItemServiceTest {
         when(multipartFile.getContentType()).thenReturn(contentType);
         when(multipartFile.getSize()).thenReturn(1024L);
         
+        givenFileContent("test content");
+        givenImportBatchSaved();
         when(parsingStrategyFactory.getStrategy(contentType, filename)).thenReturn(fileParsingStrategy);
-        when(fileParsingStrategy.parseFile(multipartFile)).thenReturn(testLostItems);
+        givenParsedItems(testLostItems, 1);
         when(lostItemRepository.saveAll(testLostItems)).thenReturn(testLostItems);
 
         // When
-        List<LostItemDto> result = lostItemService.uploadAndParseFile(multipartFile);
+        ImportResultDto importResult = lostItemService.uploadAndParseFile(multipartFile);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        
-        LostItemDto item1 = result.get(0);
-        assertThat(item1.getId()).isEqualTo(1L);
-        assertThat(item1.getItemName()).isEqualTo("Laptop");
-        assertThat(item1.getQuantity()).isEqualTo(3);
-        assertThat(item1.getRemainingQuantity()).isEqualTo(2);
-        assertThat(item1.getPlace()).isEqualTo("Library");
-        assertThat(item1.getDescription()).isEqualTo("Dell Laptop");
-        assertThat(item1.isAvailable()).isTrue();
-
-        LostItemDto item2 = result.get(1);
-        assertThat(item2.getId()).isEqualTo(2L);
-        assertThat(item2.getItemName()).isEqualTo("Phone");
-        assertThat(item2.getQuantity()).isEqualTo(2);
-        assertThat(item2.getRemainingQuantity()).isEqualTo(1);
-        assertThat(item2.getPlace()).isEqualTo("Cafeteria");
-        assertThat(item2.getDescription()).isEqualTo("iPhone");
-        assertThat(item2.isAvailable()).isTrue();
+        assertThat(importResult.isDuplicate()).isFalse();
+        assertThat(importResult.getImportId()).isEqualTo(10L);
+        assertThat(importResult.getItemsCount()).isEqualTo(2);
+        assertThat(importResult.getCreatedCount()).isEqualTo(2);
+        assertThat(importResult.getMergedCount()).isZero();
+        assertThat(importResult.getRejectedCount()).isEqualTo(1);
+        assertThat(importResult.getDurationMs()).isNotNegative();
+        assertThat(importResult.getContentHash()).hasSize(64);
+        assertThat(testLostItems).allMatch(item -> item.getImportBatchId() == 10L);
 
         verify(multipartFile).isEmpty();
         verify(multipartFile, atLeastOnce()).getOriginalFilename();
         verify(multipartFile).getContentType();
         verify(parsingStrategyFactory).getStrategy(contentType, filename);
-        verify(fileParsingStrategy).parseFile(multipartFile);
         verify(lostItemRepository).saveAll(testLostItems);
+        verify(lostItemDetailsRepository).saveDescriptions(testLostItems);
+        verify(availabilityCounterService).recordCreated(testLostItems);
+        // Stored chunks are detached so that memory does not grow with the import
+        verify(entityManager).flush();
+        verify(entityManager).clear();
     }
 
     @Test
@@ -177,8 +241,10 @@ class LostItemServiceTest {
         when(multipartFile.getContentType()).thenReturn(contentType);
         when(multipartFile.getSize()).thenReturn(1024L);
         
+        givenFileContent("test content");
         when(parsingStrategyFactory.getStrategy(contentType, filename)).thenReturn(fileParsingStrategy);
-        when(fileParsingStrategy.parseFile(multipartFile))
+        givenImportBatchSaved();
+        when(fileParsingStrategy.parseFile(eq(multipartFile), eq(RecordTemplate.DEFAULT), anyInt(), any()))
                 .thenThrow(new FileParsingException("Failed to parse PDF file"));
 
         // When & Then
@@ -190,7 +256,7 @@ class LostItemServiceTest {
         verify(multipartFile, atLeastOnce()).getOriginalFilename();
         verify(multipartFile).getContentType();
         verify(parsingStrategyFactory).getStrategy(contentType, filename);
-        verify(fileParsingStrategy).parseFile(multipartFile);
+        verify(fileParsingStrategy).parseFile(eq(multipartFile), eq(RecordTemplate.DEFAULT), anyInt(), any());
         verifyNoInteractions(lostItemRepository);
     }
 
@@ -206,8 +272,10 @@ class LostItemServiceTest {
         when(multipartFile.getContentType()).thenReturn(contentType);
         when(multipartFile.getSize()).thenReturn(1024L);
         
+        givenFileContent("");
         when(parsingStrategyFactory.getStrategy(contentType, filename)).thenReturn(fileParsingStrategy);
-        when(fileParsingStrategy.parseFile(multipartFile)).thenReturn(emptyList);
+        givenImportBatchSaved();
+        givenParsedItems(emptyList, 0);
 
         // When & Then
         assertThatThrownBy(() -> lostItemService.uploadAndParseFile(multipartFile))
@@ -218,7 +286,7 @@ class LostItemServiceTest {
         verify(multipartFile, atLeastOnce()).getOriginalFilename();
         verify(multipartFile).getContentType();
         verify(parsingStrategyFactory).getStrategy(contentType, filename);
-        verify(fileParsingStrategy).parseFile(multipartFile);
+        verify(fileParsingStrategy).parseFile(eq(multipartFile), eq(RecordTemplate.DEFAULT), anyInt(), any());
         verifyNoInteractions(lostItemRepository);
     }
 
@@ -233,8 +301,10 @@ class LostItemServiceTest {
         when(multipartFile.getContentType()).thenReturn(contentType);
         when(multipartFile.getSize()).thenReturn(1024L);
         
+        givenFileContent("test content");
+        givenImportBatchSaved();
         when(parsingStrategyFactory.getStrategy(contentType, filename)).thenReturn(fileParsingStrategy);
-        when(fileParsingStrategy.parseFile(multipartFile)).thenReturn(testLostItems);
+        givenParsedItems(testLostItems, 0);
         when(lostItemRepository.saveAll(testLostItems))
                 .thenThrow(new RuntimeException("Database connection failed"));
 
@@ -247,21 +317,221 @@ class LostItemServiceTest {
         verify(multipartFile, atLeastOnce()).getOriginalFilename();
         verify(multipartFile).getContentType();
         verify(parsingStrategyFactory).getStrategy(contentType, filename);
-        verify(fileParsingStrategy).parseFile(multipartFile);
+        verify(fileParsingStrategy).parseFile(eq(multipartFile), eq(RecordTemplate.DEFAULT), anyInt(), any());
         verify(lostItemRepository).saveAll(testLostItems);
     }
 
     @Test
-    void getAvailableItems_Success() {
+    void uploadAndParseFile_DuplicateContent() throws Exception {
+        // Given
+        String filename = "again.pdf";
+        String contentType = "application/pdf";
+        LocalDateTime importedAt = LocalDateTime.now().minusHours(1);
+        ImportBatch previousImport = ImportBatch.builder()
+                .id(7L)
+                .fileName("report.pdf")
+                .itemCount(12)
+                .createdAt(importedAt)
+                .build();
+        
+        when(multipartFile.isEmpty()).thenReturn(false);
+        when(multipartFile.getOriginalFilename()).thenReturn(filename);
+        when(multipartFile.getContentType()).thenReturn(contentType);
+        when(multipartFile.getSize()).thenReturn(1024L);
+        givenFileContent("test content");
+        
+        when(parsingStrategyFactory.getStrategy(contentType, filename)).thenReturn(fileParsingStrategy);
+        when(importBatchRepository.findByContentHash(anyString())).thenReturn(Optional.of(previousImport));
+
+        // When
+        ImportResultDto result = lostItemService.uploadAndParseFile(multipartFile);
+
+        // Then
+        assertThat(result.isDuplicate()).isTrue();
+        assertThat(result.getImportId()).isEqualTo(7L);
+        assertThat(result.getFileName()).isEqualTo("report.pdf");
+        assertThat(result.getItemsCount()).isEqualTo(12);
+        assertThat(result.getImportedAt()).isEqualTo(importedAt);
+
+        verify(importBatchRepository).findByContentHash(
+                "6ae8a75555209fd6c44157c0aed8016e763ff435a19cf186f76863140143ff72");
+        verify(importBatchRepository, never()).save(any());
+        verifyNoInteractions(fileParsingStrategy, lostItemRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void uploadAndParseFile_MergeMode() throws Exception {
+        // Given
+        String filename = "items.csv";
+        String contentType = "text/csv";
+        LostItem existingLaptops = LostItem.builder().itemName("Laptop").quantity(2).remainingQuantity(2)
+                .place("Library").build();
+        LostItem moreLaptops = LostItem.builder().itemName(" LAPTOP ").quantity(1).remainingQuantity(1)
+                .place("library").build();
+        LostItem keys = LostItem.builder().itemName("Keys").quantity(1).remainingQuantity(1)
+                .place("Lobby").build();
+        LostItem moreKeys = LostItem.builder().itemName("keys").quantity(2).remainingQuantity(2)
+                .place("Lobby").build();
+        String laptopKey = LostItem.mergeKeyOf("Laptop", "Library");
+        
+        when(multipartFile.isEmpty()).thenReturn(false);
+        when(multipartFile.getOriginalFilename()).thenReturn(filename);
+        when(multipartFile.getContentType()).thenReturn(contentType);
+        when(multipartFile.getSize()).thenReturn(256L);
+        givenFileContent("test content");
+        givenImportBatchSaved();
+        
+        when(parsingStrategyFactory.getStrategy(contentType, filename)).thenReturn(fileParsingStrategy);
+        when(fileParsingStrategy.parseFile(eq(multipartFile), eq(RecordTemplate.DEFAULT), anyInt(), any())).thenAnswer(invocation -> {
+            Consumer<List<LostItem>> consumer = invocation.getArgument(3);
+            consumer.accept(List.of(existingLaptops, moreLaptops, keys, moreKeys));
+            return new ParseResult(4, 0);
+        });
+        when(lostItemRepository.findMergeTargets(anyCollection())).thenReturn(List.of(mergeTarget(laptopKey, 1L)));
+        when(lostItemRepository.addQuantity(eq(List.of(1L)), eq(3), any(LocalDateTime.class))).thenReturn(1);
+        when(lostItemRepository.saveAll(List.of(keys))).thenReturn(List.of(keys));
+
+        // When
+        ImportResultDto result = lostItemService.uploadAndParseFile(multipartFile, ImportMode.MERGE);
+
+        // Then
+        assertThat(result.getMode()).isEqualTo(ImportMode.MERGE);
+        assertThat(result.getItemsCount()).isEqualTo(4);
+        // Both laptop records went into one existing item; the two keys records into one new item
+        assertThat(result.getCreatedCount()).isEqualTo(1);
+        assertThat(result.getMergedCount()).isEqualTo(1);
+        assertThat(keys.getImportBatchId()).isEqualTo(10L);
+        assertThat(keys.getQuantity()).isEqualTo(3);
+
+        verify(lostItemRepository).findMergeTargets(
+                argThat(mergeKeys -> mergeKeys.size() == 2 && mergeKeys.contains(laptopKey)));
+        verify(lostItemRepository).addQuantity(eq(List.of(1L)), eq(3), any(LocalDateTime.class));
+        // Merged items that had run out are available again
+        verify(lostItemRepository).countByPlaceWithRemainingQuantity(List.of(1L), 3);
+        verify(lostItemRepository).saveAll(List.of(keys));
+        verify(availabilityCounterService).recordCreated(List.of(keys));
+        verify(importMergeRepository).saveAll(argThat((List<ImportMerge> merges) -> merges.size() == 1
+                && merges.get(0).getLostItemId().equals(1L) && merges.get(0).getQuantity() == 3
+                && merges.get(0).getImportBatchId().equals(10L)));
+        verify(fileParsingStrategy, never()).parseFile(any(), any(RecordTemplate.class));
+    }
+
+    @Test
+    void backfillMergeKeys_ShouldUpdateEachPageInOneBatch() {
+        List<LostItemRepository.MergeKeySource> page = List.of(mergeKeySource(1L), mergeKeySource(2L));
+        Cache cache = mock(Cache.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(lostItemRepository.findWithoutMergeKey(any(Pageable.class))).thenReturn(page, List.of());
+
+        int updated = lostItemService.backfillMergeKeys();
+
+        assertThat(updated).isEqualTo(2);
+        verify(lostItemKeyRepository).updateMergeKeys(page);
+        verify(cache).evict(LostItem.class, 1L);
+        verify(cache).evict(LostItem.class, 2L);
+    }
+
+    @Test
+    void backfillSearchKeys_WhenEveryItemHasKeys_ShouldOnlyLookThemUp() {
+        when(lostItemRepository.findWithoutSearchKeys(any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(lostItemService.backfillSearchKeys()).isZero();
+        verifyNoInteractions(lostItemKeyRepository);
+    }
+
+    private static LostItemRepository.MergeKeySource mergeKeySource(Long id) {
+        return new LostItemRepository.MergeKeySource() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getItemName() {
+                return "Umbrella";
+            }
+
+            @Override
+            public String getPlace() {
+                return "Lobby";
+            }
+        };
+    }
+
+    private static LostItemRepository.MergeTarget mergeTarget(String mergeKey, Long id) {
+        return new LostItemRepository.MergeTarget() {
+            @Override
+            public String getMergeKey() {
+                return mergeKey;
+            }
+
+            @Override
+            public Long getId() {
+                return id;
+            }
+        };
+    }
+
+    @Test
+    void mergeKeyOf_IgnoresCaseAndWhitespace() {
+        assertThat(LostItem.mergeKeyOf("  Black   Umbrella ", "Main\tEntrance"))
+                .isEqualTo(LostItem.mergeKeyOf("black umbrella", "MAIN ENTRANCE"))
+                .hasSize(64);
+        assertThat(LostItem.mergeKeyOf("Umbrella", "Main Entrance"))
+                .isNotEqualTo(LostItem.mergeKeyOf("Umbrella Main", "Entrance"));
+    }
+
+    @Test
+    void searchKeyOf_IgnoresCaseAccentsAndWhitespace() {
+        assertThat(LostItem.searchKeyOf("  Café   CRÈME\tBrûlée ")).isEqualTo("cafe creme brulee");
+        assertThat(LostItem.searchKeyOf("İstanbul")).isEqualTo("istanbul");
+        assertThat(LostItem.searchKeyOf(null)).isNull();
+    }
+
+    @Test
+    void searchPattern_MatchesPrefixOrSubstringOfTheSearchKey() {
+        assertThat(LostItemService.searchPattern(" Umbr ", SearchMode.PREFIX)).isEqualTo("umbr%");
+        assertThat(LostItemService.searchPattern("Umbr", SearchMode.SUBSTRING)).isEqualTo("%umbr%");
+        assertThat(LostItemService.searchPattern("100%_off!", SearchMode.PREFIX)).isEqualTo("100!%!_off!!%");
+        assertThat(LostItemService.searchPattern("  ", SearchMode.PREFIX)).isNull();
+        assertThat(LostItemService.searchPattern(null, SearchMode.SUBSTRING)).isNull();
+    }
+
+    @Test
+    void searchAvailableItems_ShouldQueryTheSearchKeys() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("itemNameSearch"));
+        Pageable indexed = PageRequest.of(0, 20, Sort.by("itemNameSearch", "id"));
+        when(lostItemRepository.findAvailableItemsWithFilters("lapt%", null, indexed))
+                .thenReturn(new PageImpl<>(List.of(testLostItem1), indexed, 1));
+
+        Page<LostItemDto> result = lostItemService.searchAvailableItems("Lapt", "", SearchMode.PREFIX, pageable, false);
+
+        assertThat(result.getContent()).extracting(LostItemDto::getItemName).containsExactly("Laptop");
+        verifyNoInteractions(lostItemDetailsRepository);
+    }
+
+    @Test
+    void searchAvailableItems_SortNoSearchIndexCovers_ShouldBeRejected() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertThatThrownBy(() -> lostItemService.searchAvailableItems("Lapt", null, SearchMode.PREFIX, pageable, false))
+                .isInstanceOf(InvalidSortException.class);
+        verifyNoInteractions(lostItemRepository);
+    }
+
+    @Test
+    void getAvailableItems_Success() throws Exception {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
         List<LostItem> availableItems = List.of(testLostItem1, testLostItem2);
-        Page<LostItem> itemPage = new PageImpl<>(availableItems, pageable, 2);
 
-        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable)).thenReturn(itemPage);
+        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable)).thenReturn(availableItems);
 
         // When
-        Page<LostItemDto> result = lostItemService.getAvailableItems(pageable);
+        Page<LostItemDto> result = lostItemService.getAvailableItems(pageable, false);
 
         // Then
         assertThat(result).isNotNull();
@@ -286,15 +556,14 @@ class LostItemServiceTest {
     }
 
     @Test
-    void getAvailableItems_EmptyPage() {
+    void getAvailableItems_EmptyPage() throws Exception {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<LostItem> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable)).thenReturn(emptyPage);
+        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable)).thenReturn(List.of());
 
         // When
-        Page<LostItemDto> result = lostItemService.getAvailableItems(pageable);
+        Page<LostItemDto> result = lostItemService.getAvailableItems(pageable, false);
 
         // Then
         assertThat(result).isNotNull();
@@ -307,7 +576,7 @@ class LostItemServiceTest {
     }
 
     @Test
-    void getAvailableItems_UnavailableItems() {
+    void getAvailableItems_UnavailableItems() throws Exception {
         // Given
         Pageable pageable = PageRequest.of(1, 5);
         
@@ -325,12 +594,11 @@ class LostItemServiceTest {
 
         // Only available items should be returned
         List<LostItem> availableItems = List.of(testLostItem1);
-        Page<LostItem> itemPage = new PageImpl<>(availableItems, pageable, 1);
 
-        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable)).thenReturn(itemPage);
+        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable)).thenReturn(availableItems);
 
         // When
-        Page<LostItemDto> result = lostItemService.getAvailableItems(pageable);
+        Page<LostItemDto> result = lostItemService.getAvailableItems(pageable, false);
 
         // Then
         assertThat(result).isNotNull();
@@ -349,16 +617,16 @@ class LostItemServiceTest {
     }
 
     @Test
-    void getAvailableItems_DifferentPageSizes() {
+    void getAvailableItems_DifferentPageSizes() throws Exception {
         // Given
         Pageable smallPageable = PageRequest.of(0, 1);
         List<LostItem> singleItem = List.of(testLostItem1);
-        Page<LostItem> singleItemPage = new PageImpl<>(singleItem, smallPageable, 2);
 
-        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, smallPageable)).thenReturn(singleItemPage);
+        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, smallPageable)).thenReturn(singleItem);
+        when(availabilityCounterService.getAvailableItems()).thenReturn(2L);
 
         // When
-        Page<LostItemDto> result = lostItemService.getAvailableItems(smallPageable);
+        Page<LostItemDto> result = lostItemService.getAvailableItems(smallPageable, false);
 
         // Then
         assertThat(result).isNotNull();
@@ -372,36 +640,86 @@ class LostItemServiceTest {
     }
 
     @Test
-    void uploadAndParseFile_SingleItem() throws Exception {
+    void getImportItems_ShouldReturnPageOfCreatedItems() throws Exception {
         // Given
-        String filename = "single.pdf";
-        String contentType = "application/pdf";
-        List<LostItem> singleItem = List.of(testLostItem1);
-        
-        when(multipartFile.isEmpty()).thenReturn(false);
-        when(multipartFile.getOriginalFilename()).thenReturn(filename);
-        when(multipartFile.getContentType()).thenReturn(contentType);
-        when(multipartFile.getSize()).thenReturn(512L);
-        
-        when(parsingStrategyFactory.getStrategy(contentType, filename)).thenReturn(fileParsingStrategy);
-        when(fileParsingStrategy.parseFile(multipartFile)).thenReturn(singleItem);
-        when(lostItemRepository.saveAll(singleItem)).thenReturn(singleItem);
+        Pageable pageable = PageRequest.of(0, 50);
+        when(importBatchRepository.existsById(10L)).thenReturn(true);
+        when(lostItemRepository.findByImportBatchId(10L, pageable))
+                .thenReturn(new PageImpl<>(testLostItems, pageable, 2));
+        when(lostItemDetailsRepository.findDescriptions(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, "Dell Laptop", 2L, "iPhone"));
 
         // When
-        List<LostItemDto> result = lostItemService.uploadAndParseFile(multipartFile);
+        Page<LostItemDto> result = lostItemService.getImportItems(10L, pageable, true);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(2);
         
-        LostItemDto item = result.get(0);
-        assertThat(item.getId()).isEqualTo(1L);
-        assertThat(item.getItemName()).isEqualTo("Laptop");
-        assertThat(item.getQuantity()).isEqualTo(3);
-        assertThat(item.getRemainingQuantity()).isEqualTo(2);
+        LostItemDto item1 = result.getContent().get(0);
+        assertThat(item1.getId()).isEqualTo(1L);
+        assertThat(item1.getItemName()).isEqualTo("Laptop");
+        assertThat(item1.getQuantity()).isEqualTo(3);
+        assertThat(item1.getRemainingQuantity()).isEqualTo(2);
+        assertThat(item1.getPlace()).isEqualTo("Library");
+        assertThat(item1.getDescription()).isEqualTo("Dell Laptop");
+        assertThat(item1.isAvailable()).isTrue();
 
-        verify(parsingStrategyFactory).getStrategy(contentType, filename);
-        verify(fileParsingStrategy).parseFile(multipartFile);
-        verify(lostItemRepository).saveAll(singleItem);
+        LostItemDto item2 = result.getContent().get(1);
+        assertThat(item2.getId()).isEqualTo(2L);
+        assertThat(item2.getItemName()).isEqualTo("Phone");
+        assertThat(item2.getDescription()).isEqualTo("iPhone");
+    }
+
+    @Test
+    void getImportItems_UnknownImport() {
+        // Given
+        when(importBatchRepository.existsById(99L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> lostItemService.getImportItems(99L, PageRequest.of(0, 50), false))
+                .isInstanceOf(ImportNotFoundException.class)
+                .hasMessage("Import not found with id: 99");
+        verifyNoInteractions(lostItemRepository);
+    }
+
+    @Test
+    void getAvailableItems_WithoutDescription_ShouldNotReadDescriptions() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(lostItemRepository.findByRemainingQuantityGreaterThan(0, pageable)).thenReturn(testLostItems);
+
+        Page<LostItemDto> result = lostItemService.getAvailableItems(pageable, false);
+
+        assertThat(result.getContent()).extracting(LostItemDto::getDescription).containsOnlyNulls();
+        verifyNoInteractions(lostItemDetailsRepository);
+    }
+
+    @Test
+    void getAvailableItems_SortedByDescription_ShouldBeRejected() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+
+        assertThatThrownBy(() -> lostItemService.getAvailableItems(pageable, true))
+                .isInstanceOf(InvalidSortException.class)
+                .hasMessageStartingWith("Sorting items by description is not supported");
+        verifyNoInteractions(lostItemRepository);
+    }
+
+    @Test
+    void getItem_ShouldIncludeDescription() throws Exception {
+        when(lostItemRepository.findById(1L)).thenReturn(Optional.of(testLostItem1));
+        when(lostItemDetailsRepository.findDescriptions(List.of(1L))).thenReturn(Map.of(1L, "Dell Laptop"));
+
+        LostItemDto result = lostItemService.getItem(1L);
+
+        assertThat(result.getItemName()).isEqualTo("Laptop");
+        assertThat(result.getDescription()).isEqualTo("Dell Laptop");
+    }
+
+    @Test
+    void getItem_NotFound() {
+        when(lostItemRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> lostItemService.getItem(99L))
+                .isInstanceOf(LostItemNotFoundException.class)
+                .hasMessage("Lost item not found with id: 99");
     }
-} 
\ No newline at end of file
+}
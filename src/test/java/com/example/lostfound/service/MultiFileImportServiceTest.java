@@ -0,0 +1,181 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.FileImportResultDto;
+import com.example.lostfound.dto.FileImportResultDto.Status;
+import com.example.lostfound.dto.ImportResultDto;
+import com.example.lostfound.dto.MultiFileImportResultDto;
+import com.example.lostfound.entity.ImportBatch;
+import com.example.lostfound.entity.ImportMode;
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.FileParsingException;
+import com.example.lostfound.service.parser.CsvParsingStrategy;
+import com.example.lostfound.service.parser.FileParsingStrategyFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Multi-File Import Service Tests")
+class MultiFileImportServiceTest {
+
+    private static final MockMultipartFile MONDAY = csv("monday.csv", """
+            Item Name,Quantity,Place
+            Umbrella,2,Main Entrance
+            Keys,1,Lobby
+            """);
+    private static final MockMultipartFile TUESDAY = csv("tuesday.csv", """
+            Item Name,Quantity,Place
+            Laptop,1,Library
+            """);
+    private static final MockMultipartFile BROKEN = csv("broken.csv", """
+            Item Name,Quantity,Place
+            Laptop,none,Library
+            """);
+
+    @Mock
+    private LostItemService lostItemService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private MultiFileImportService multiFileImportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(2);
+        FileParsingStrategyFactory factory = new FileParsingStrategyFactory(List.of(
+                new CsvParsingStrategy(',',
+                        List.of("item name", "item", "name"),
+                        List.of("quantity", "qty", "count"),
+                        List.of("place", "location", "found at"),
+                        List.of("description", "details", "notes"))));
+        multiFileImportService = new MultiFileImportService(new ImportPipeline(lostItemService), factory, executor,
+                new TransactionTemplate(transactionManager), 3);
+
+        lenient().when(lostItemService.computeContentHash(any())).thenAnswer(invocation ->
+                invocation.<MultipartFile>getArgument(0).getOriginalFilename());
+        lenient().when(lostItemService.findPreviousImport(anyString())).thenReturn(Optional.empty());
+        lenient().when(lostItemService.saveImport(any(ImportBatch.class), anyList())).thenAnswer(invocation -> {
+            List<LostItem> items = invocation.getArgument(1);
+            return ImportResultDto.builder()
+                    .importId(20L)
+                    .itemsCount(items.size())
+                    .createdCount(items.size())
+                    .build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static MockMultipartFile csv(String filename, String content) {
+        return new MockMultipartFile("files", filename, "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should store good files and report failing ones with per-file transactions")
+    void shouldImportPerFile() throws Exception {
+        MockMultipartFile unsupported = new MockMultipartFile(
+                "files", "notes.docx", "application/msword", "notes".getBytes());
+
+        MultiFileImportResultDto result = multiFileImportService.importFiles(
+                List.of(MONDAY, BROKEN, unsupported), ImportMode.APPEND, ImportTransactionScope.PER_FILE);
+
+        assertThat(result.getFiles())
+                .extracting(FileImportResultDto::getFileName, FileImportResultDto::getStatus)
+                .containsExactly(
+                        tuple("monday.csv", Status.IMPORTED),
+                        tuple("broken.csv", Status.FAILED),
+                        tuple("notes.docx", Status.FAILED));
+        assertThat(result.getFiles().get(1).getError()).isEqualTo("No valid items found in the file");
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getItemsCount()).isEqualTo(2);
+
+        verify(lostItemService).saveImport(argThat(batch -> batch.getFileName().equals("monday.csv")), anyList());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should store all files in one transaction")
+    void shouldImportInSingleTransaction() throws Exception {
+        MultiFileImportResultDto result = multiFileImportService.importFiles(
+                List.of(MONDAY, TUESDAY), ImportMode.MERGE, ImportTransactionScope.SINGLE);
+
+        assertThat(result.getFiles()).extracting(FileImportResultDto::getStatus)
+                .containsExactly(Status.IMPORTED, Status.IMPORTED);
+        assertThat(result.getItemsCount()).isEqualTo(3);
+
+        verify(lostItemService, times(2)).saveImport(argThat(batch -> batch.getMode() == ImportMode.MERGE), anyList());
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should store nothing in a single transaction when any file fails")
+    void shouldStoreNothingWhenSingleTransactionFails() throws Exception {
+        MultiFileImportResultDto result = multiFileImportService.importFiles(
+                List.of(MONDAY, BROKEN), ImportMode.APPEND, ImportTransactionScope.SINGLE);
+
+        assertThat(result.getFiles()).extracting(FileImportResultDto::getStatus)
+                .containsExactly(Status.NOT_STORED, Status.FAILED);
+        assertThat(result.getImportedCount()).isZero();
+
+        verify(lostItemService, never()).saveImport(any(), anyList());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should report every file as failed when the single transaction is rolled back")
+    void shouldReportRollbackOfSingleTransaction() throws Exception {
+        when(lostItemService.saveImport(argThat(batch -> batch.getFileName().equals("tuesday.csv")), anyList()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        MultiFileImportResultDto result = multiFileImportService.importFiles(
+                List.of(MONDAY, TUESDAY), ImportMode.APPEND, ImportTransactionScope.SINGLE);
+
+        assertThat(result.getFiles())
+                .extracting(FileImportResultDto::getStatus, FileImportResultDto::getError)
+                .containsExactly(
+                        tuple(Status.FAILED, "Not stored: storing tuesday.csv failed and was rolled back"),
+                        tuple(Status.FAILED, "Failed to store items; no file was stored"));
+        assertThat(result.getImportedCount()).isZero();
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getItemsCount()).isZero();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should reject requests with more files than allowed")
+    void shouldRejectTooManyFiles() {
+        assertThatThrownBy(() -> multiFileImportService.importFiles(
+                Collections.nCopies(4, MONDAY), ImportMode.APPEND, ImportTransactionScope.PER_FILE))
+                .isInstanceOf(FileParsingException.class)
+                .hasMessageContaining("Too many files");
+    }
+}
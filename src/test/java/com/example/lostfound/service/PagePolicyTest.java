@@ -0,0 +1,92 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.exception.InvalidSortException;
+import com.example.lostfound.service.PagePolicy.Listing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PagePolicyTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PagePolicy pagePolicy = new PagePolicy(100, meterRegistry);
+
+    @Test
+    void apply_IndexedSort_ShouldAppendTheIdInTheSameDirection() throws Exception {
+        Pageable pageable = pagePolicy.apply(Listing.AVAILABLE_ITEMS,
+                PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(pageable.getPageNumber()).isEqualTo(2);
+        assertThat(pageable.getPageSize()).isEqualTo(20);
+        assertThat(pageable.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        assertThat(sortCount("items", "createdAt,desc")).isEqualTo(1.0);
+    }
+
+    @Test
+    void apply_LeadingPartOfAnIndex_ShouldBeAccepted() throws Exception {
+        Pageable pageable = pagePolicy.apply(Listing.CLAIMS, PageRequest.of(0, 20, Sort.by("status", "id")));
+
+        assertThat(pageable.getSort()).isEqualTo(Sort.by("status", "id"));
+        assertThat(sortCount("claims", "status,asc")).isEqualTo(1.0);
+    }
+
+    @Test
+    void apply_SortNoIndexCovers_ShouldBeRejected() {
+        assertThatThrownBy(() -> pagePolicy.apply(Listing.CLAIMS, PageRequest.of(0, 20, Sort.by("claimedQuantity"))))
+                .isInstanceOf(InvalidSortException.class)
+                .hasMessage("Sorting claims by claimedQuantity is not supported; sort by one of " +
+                        "id | claimDate | status,claimDate, all in one direction");
+        assertThatThrownBy(() -> pagePolicy.apply(Listing.AVAILABLE_ITEMS,
+                PageRequest.of(0, 20, Sort.by("itemName", "place"))))
+                .isInstanceOf(InvalidSortException.class);
+        assertThat(sortCount("claims", PagePolicy.REJECTED)).isEqualTo(1.0);
+        assertThat(sortCount("items", PagePolicy.REJECTED)).isEqualTo(1.0);
+    }
+
+    @Test
+    void apply_MixedDirections_ShouldBeRejected() {
+        Sort sort = Sort.by(Sort.Order.asc("place"), Sort.Order.desc("itemName"));
+
+        assertThatThrownBy(() -> pagePolicy.apply(Listing.AVAILABLE_ITEMS, PageRequest.of(0, 20, sort)))
+                .isInstanceOf(InvalidSortException.class);
+    }
+
+    @Test
+    void apply_ImportItems_ShouldOnlyAcceptTheId() throws Exception {
+        assertThat(pagePolicy.apply(Listing.IMPORT_ITEMS, PageRequest.of(0, 50, Sort.by("id"))).getSort())
+                .isEqualTo(Sort.by("id"));
+        assertThatThrownBy(() -> pagePolicy.apply(Listing.IMPORT_ITEMS, PageRequest.of(0, 50, Sort.by("itemName"))))
+                .isInstanceOf(InvalidSortException.class);
+    }
+
+    @Test
+    void apply_Search_ShouldOnlyAcceptTheSearchKeys() throws Exception {
+        assertThat(pagePolicy.apply(Listing.SEARCH, PageRequest.of(0, 20, Sort.by("placeSearch"))).getSort())
+                .isEqualTo(Sort.by("placeSearch", "id"));
+        assertThatThrownBy(() -> pagePolicy.apply(Listing.SEARCH, PageRequest.of(0, 20, Sort.by("createdAt"))))
+                .isInstanceOf(InvalidSortException.class)
+                .hasMessage("Sorting search by createdAt is not supported; sort by one of " +
+                        "id | itemNameSearch | placeSearch, all in one direction");
+        assertThat(sortCount("search", "placeSearch,asc")).isEqualTo(1.0);
+    }
+
+    @Test
+    void apply_LargePage_ShouldBeCappedAtTheMaximum() throws Exception {
+        Pageable unsorted = pagePolicy.apply(Listing.AVAILABLE_ITEMS, PageRequest.of(1, 2000));
+        Pageable sorted = pagePolicy.apply(Listing.CLAIMS, PageRequest.of(0, 500, Sort.by("claimDate")));
+
+        assertThat(unsorted.getPageSize()).isEqualTo(100);
+        assertThat(unsorted.getPageNumber()).isEqualTo(1);
+        assertThat(sorted.getPageSize()).isEqualTo(100);
+        assertThat(sortCount("items", PagePolicy.UNSORTED)).isEqualTo(1.0);
+    }
+
+    private double sortCount(String listing, String sort) {
+        return meterRegistry.get(PagePolicy.SORT_METRIC).tag("listing", listing).tag("sort", sort).counter().count();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.lostfound.service;
+
+import com.example.lostfound.dto.ParseTemplateRequest;
+import com.example.lostfound.entity.ParseTemplate;
+import com.example.lostfound.exception.InvalidParseTemplateException;
+import com.example.lostfound.exception.ParseTemplateNotFoundException;
+import com.example.lostfound.repository.ParseTemplateRepository;
+import com.example.lostfound.service.parser.RecordTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParseTemplateServiceTest {
+
+    @Mock
+    private ParseTemplateRepository parseTemplateRepository;
+
+    @InjectMocks
+    private ParseTemplateService parseTemplateService;
+
+    private ParseTemplate partnerTemplate;
+
+    @BeforeEach
+    void setUp() {
+        partnerTemplate = ParseTemplate.builder()
+                .id(1L)
+                .name("partner")
+                .itemNameLabel("Article")
+                .quantityLabel("Count")
+                .placeLabel("Found in")
+                .separator("=")
+                .version(0L)
+                .build();
+    }
+
+    @Test
+    void getRecordTemplate_WithoutName_ShouldReturnBuiltInLayout() throws ParseTemplateNotFoundException {
+        assertThat(parseTemplateService.getRecordTemplate(null)).isSameAs(RecordTemplate.DEFAULT);
+        assertThat(parseTemplateService.getRecordTemplate(" ")).isSameAs(RecordTemplate.DEFAULT);
+        verifyNoInteractions(parseTemplateRepository);
+    }
+
+    @Test
+    void getRecordTemplate_ShouldReuseCompiledTemplateUntilVersionChanges() throws ParseTemplateNotFoundException {
+        when(parseTemplateRepository.findByName("partner")).thenReturn(Optional.of(partnerTemplate));
+
+        RecordTemplate first = parseTemplateService.getRecordTemplate("partner");
+        RecordTemplate second = parseTemplateService.getRecordTemplate("partner");
+        partnerTemplate.setVersion(1L);
+        RecordTemplate afterUpdate = parseTemplateService.getRecordTemplate("partner");
+
+        assertThat(second).isSameAs(first);
+        assertThat(afterUpdate).isNotSameAs(first);
+    }
+
+    @Test
+    void getRecordTemplate_WithUnknownName_ShouldThrowException() {
+        when(parseTemplateRepository.findByName("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> parseTemplateService.getRecordTemplate("missing"))
+                .isInstanceOf(ParseTemplateNotFoundException.class)
+                .hasMessage("Parse template not found: missing");
+    }
+
+    @Test
+    void createTemplate_WithAmbiguousLabels_ShouldThrowException() {
+        ParseTemplateRequest request = ParseTemplateRequest.builder()
+                .name("partner")
+                .itemNameLabel("Article")
+                .quantityLabel("Found In")
+                .placeLabel("found in")
+                .build();
+        when(parseTemplateRepository.existsByName("partner")).thenReturn(false);
+
+        assertThatThrownBy(() -> parseTemplateService.createTemplate(request))
+                .isInstanceOf(InvalidParseTemplateException.class)
+                .hasMessage("The labels for quantity and place are the same");
+        verify(parseTemplateRepository, never()).save(any());
+    }
+}
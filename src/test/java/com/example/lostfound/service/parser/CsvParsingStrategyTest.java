@@ -0,0 +1,112 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.FileParsingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CSV Parsing Strategy Tests")
+class CsvParsingStrategyTest {
+
+    private CsvParsingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new CsvParsingStrategy(',',
+                List.of("item name", "item", "name"),
+                List.of("quantity", "qty", "count"),
+                List.of("place", "location", "found at"),
+                List.of("description", "details", "notes"));
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "items.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should map configured headers in any order and handle quoted fields")
+    void shouldParseQuotedFields() throws Exception {
+        String content = "\uFEFFLocation,Qty,Item_Name,Notes\r\n"
+                + "\"Library, 2nd Floor\",2,\"Water Bottle \"\"Blue\"\"\",\"Found near\nthe stairs\"\r\n"
+                + "Main Entrance,1,Umbrella,\r\n";
+
+        List<LostItem> items = strategy.parseFile(csv(content));
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).getItemName()).isEqualTo("Water Bottle \"Blue\"");
+        assertThat(items.get(0).getPlace()).isEqualTo("Library, 2nd Floor");
+        assertThat(items.get(0).getQuantity()).isEqualTo(2);
+        assertThat(items.get(0).getRemainingQuantity()).isEqualTo(2);
+        assertThat(items.get(0).getDescription()).isEqualTo("Found near\nthe stairs");
+        assertThat(items.get(1).getItemName()).isEqualTo("Umbrella");
+        assertThat(items.get(1).getDescription()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should skip blank and invalid rows")
+    void shouldSkipInvalidRows() throws Exception {
+        String content = """
+                item,quantity,place
+                Keys,0,Lobby
+
+                Wallet,two,Cafeteria
+                ,1,Library
+                Calculator,4,Computer Lab Room 103
+                """;
+
+        List<LostItem> items = strategy.parseFile(csv(content));
+
+        assertThat(items).extracting(LostItem::getItemName).containsExactly("Calculator");
+    }
+
+    @Test
+    @DisplayName("Should emit items in chunks of the requested size")
+    void shouldEmitChunks() throws Exception {
+        StringBuilder content = new StringBuilder("name,count,place\n");
+        for (int i = 0; i < 25; i++) {
+            content.append("Item ").append(i).append(',').append(i + 1).append(",Library\n");
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        int total = strategy.parseFile(csv(content.toString()), 10, chunk -> chunkSizes.add(chunk.size()));
+
+        assertThat(total).isEqualTo(25);
+        assertThat(chunkSizes).containsExactly(10, 10, 5);
+    }
+
+    @Test
+    @DisplayName("Should reject files without the required header columns")
+    void shouldRejectMissingHeaders() {
+        assertThatThrownBy(() -> strategy.parseFile(csv("item,colour\nKeys,black\n")))
+                .isInstanceOf(FileParsingException.class)
+                .hasMessageContaining("CSV header must contain");
+    }
+
+    @Test
+    @DisplayName("Should propagate consumer failures without wrapping them as parsing errors")
+    void shouldPropagateConsumerFailures() {
+        MockMultipartFile file = csv("item,qty,place\nKeys,1,Lobby\n");
+
+        assertThatThrownBy(() -> strategy.parseFile(file, 10, chunk -> {
+                    throw new IllegalStateException("Database unavailable");
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Database unavailable");
+    }
+
+    @Test
+    @DisplayName("Should support CSV content types and extensions")
+    void shouldSupportCsv() {
+        assertThat(strategy.supports("text/csv", "items.csv")).isTrue();
+        assertThat(strategy.supports("application/octet-stream", "ITEMS.CSV")).isTrue();
+        assertThat(strategy.supports("application/pdf", "items.pdf")).isFalse();
+    }
+}
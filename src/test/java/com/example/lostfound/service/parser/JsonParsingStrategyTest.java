@@ -0,0 +1,80 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.FileParsingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JSON Parsing Strategy Tests")
+class JsonParsingStrategyTest {
+
+    private final JsonParsingStrategy strategy = new JsonParsingStrategy();
+
+    private static MockMultipartFile json(String filename, String content) {
+        return new MockMultipartFile("file", filename, "application/json", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should parse a top-level array and ignore unknown fields")
+    void shouldParseArray() throws Exception {
+        String content = """
+                [
+                  {"itemName": "Laptop", "quantity": 1, "place": "Library", "description": "Grey Dell",
+                   "tags": ["electronics", {"nested": true}]},
+                  {"item_name": "Umbrella", "qty": "2", "location": "Main Entrance"}
+                ]
+                """;
+
+        List<LostItem> items = strategy.parseFile(json("items.json", content));
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).getItemName()).isEqualTo("Laptop");
+        assertThat(items.get(0).getQuantity()).isEqualTo(1);
+        assertThat(items.get(0).getPlace()).isEqualTo("Library");
+        assertThat(items.get(0).getDescription()).isEqualTo("Grey Dell");
+        assertThat(items.get(1).getItemName()).isEqualTo("Umbrella");
+        assertThat(items.get(1).getQuantity()).isEqualTo(2);
+        assertThat(items.get(1).getDescription()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should parse NDJSON and skip invalid records")
+    void shouldParseNdjson() throws Exception {
+        String content = """
+                {"itemName": "Keys", "quantity": 0, "place": "Lobby"}
+                {"itemName": "Wallet", "quantity": 1.5, "place": "Cafeteria"}
+                "not an object"
+                {"itemName": "Calculator", "quantity": 4, "place": "Computer Lab Room 103"}
+                {"itemName": "Notebook", "quantity": 2, "place": "Reading Room A"}
+                """;
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        int total = strategy.parseFile(json("items.ndjson", content), 1, chunk -> chunkSizes.add(chunk.size()));
+
+        assertThat(total).isEqualTo(2);
+        assertThat(chunkSizes).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("Should report malformed JSON as a parsing error")
+    void shouldRejectMalformedJson() {
+        assertThatThrownBy(() -> strategy.parseFile(json("items.json", "[{\"itemName\": \"Laptop\", ")))
+                .isInstanceOf(FileParsingException.class);
+    }
+
+    @Test
+    @DisplayName("Should support JSON and NDJSON content types and extensions")
+    void shouldSupportJson() {
+        assertThat(strategy.supports("application/json", "items.json")).isTrue();
+        assertThat(strategy.supports("application/x-ndjson", "export")).isTrue();
+        assertThat(strategy.supports(null, "export.jsonl")).isTrue();
+        assertThat(strategy.supports("text/csv", "items.csv")).isFalse();
+    }
+}
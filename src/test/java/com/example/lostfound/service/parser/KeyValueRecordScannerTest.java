@@ -0,0 +1,201 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.service.parser.RecordTemplate.Field;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Key-Value Record Scanner Tests")
+class KeyValueRecordScannerTest {
+
+    private static List<ParsedRecord> scanAll(CharSequence text) {
+        return scanAll(text, RecordTemplate.DEFAULT);
+    }
+
+    private static List<ParsedRecord> scanAll(CharSequence text, RecordTemplate template) {
+        return scanAll(new KeyValueRecordScanner(text, template, false));
+    }
+
+    private static List<ParsedRecord> scanAll(KeyValueRecordScanner scanner) {
+        List<ParsedRecord> records = new ArrayList<>();
+        ParsedRecord record;
+        while ((record = scanner.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Should parse complete records and skip header lines")
+    void shouldParseCompleteRecords() {
+        String text = """
+                Lost Items Report
+                =================
+                Item Name: MacBook Pro 14-inch
+                Quantity: 1
+                Place: Computer Lab Room 205
+
+                Item Name: iPhone 15
+                Quantity: 2
+                Place: Library Main Floor
+                """;
+
+        List<ParsedRecord> records = scanAll(text);
+
+        assertThat(records).hasSize(2).allMatch(ParsedRecord::isAccepted);
+        assertThat(records.get(0).itemName()).isEqualTo("MacBook Pro 14-inch");
+        assertThat(records.get(0).quantity()).isEqualTo(1);
+        assertThat(records.get(0).place()).isEqualTo("Computer Lab Room 205");
+        assertThat(records.get(0).line()).isEqualTo(3);
+        assertThat(records.get(1).itemName()).isEqualTo("iPhone 15");
+        assertThat(records.get(1).quantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should match keys case-insensitively with flexible whitespace and CRLF line endings")
+    void shouldMatchKeysCaseInsensitively() {
+        String text = "  ITEM NAME :  Umbrella  \r\nquantity:3\r\n  PlAcE\t: Main Entrance\r\nitemname: Keys\r\nQuantity: 1\r\nPlace: Lobby";
+
+        List<ParsedRecord> records = scanAll(text);
+
+        assertThat(records).extracting(ParsedRecord::itemName).containsExactly("Umbrella", "Keys");
+        assertThat(records).extracting(ParsedRecord::quantity).containsExactly(3, 1);
+        assertThat(records).extracting(ParsedRecord::place).containsExactly("Main Entrance", "Lobby");
+    }
+
+    @Test
+    @DisplayName("Should report invalid and incomplete records as rejected values")
+    void shouldReportInvalidRecordsAsValues() {
+        String text = """
+                Item Name: Wallet
+                Quantity: 0
+                Place: Parking Lot
+                Item Name: Keys
+                Quantity: abc
+                Place: Lobby
+                Item Name: Charger
+                Quantity: 99999999999
+                Item Name: Notebook
+                Quantity: 2
+                Place: Reading Room A
+                """;
+
+        List<ParsedRecord> records = scanAll(text);
+
+        assertThat(records).hasSize(4);
+        assertThat(records.get(0).isAccepted()).isFalse();
+        assertThat(records.get(0).rejectionReason()).isEqualTo("Quantity must be a positive number");
+        assertThat(records.get(1).isAccepted()).isFalse();
+        assertThat(records.get(1).line()).isEqualTo(4);
+        assertThat(records.get(2).isAccepted()).isFalse();
+        assertThat(records.get(3).isAccepted()).isTrue();
+        assertThat(records.get(3).itemName()).isEqualTo("Notebook");
+    }
+
+    @Test
+    @DisplayName("Should ignore fields that appear before the first item name and unknown keys")
+    void shouldIgnoreOrphanFields() {
+        String text = """
+                Quantity: 5
+                Place: Nowhere
+                Item Names: not a key
+                Item Name: Calculator
+                Color: Black
+                Quantity: 4
+                Place: Computer Lab Room 103
+                """;
+
+        List<ParsedRecord> records = scanAll(text);
+
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).itemName()).isEqualTo("Calculator");
+        assertThat(records.get(0).quantity()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should skip remarks inside a key-value record instead of reading them as items")
+    void shouldSkipRemarksInsideRecords() {
+        String text = """
+                Item Name: Laptop
+                Found under desk 4 near the window
+                Quantity: 1
+                Handed in by Smith, 2, Jones
+                Place: Library
+                Returned to the front desk 2 hours later
+
+                Umbrella, 2, Main Entrance
+                """;
+
+        List<ParsedRecord> records = scanAll(new KeyValueRecordScanner(text, true));
+
+        assertThat(records).extracting(ParsedRecord::itemName).containsExactly("Laptop", "Umbrella");
+        assertThat(records).extracting(ParsedRecord::quantity).containsExactly(1, 2);
+        assertThat(records).extracting(ParsedRecord::place).containsExactly("Library", "Main Entrance");
+        assertThat(records).allMatch(ParsedRecord::isAccepted);
+    }
+
+    @Test
+    @DisplayName("Should only read comma-separated lines with a name, a numeric quantity and a place as items")
+    void shouldRequireTheFullCommaSeparatedShape() {
+        String text = """
+                Please note, if unclaimed, items are donated
+                Keys, many, Lobby
+                , 3, Lobby
+                Wallet, 1,
+                Smartwatch, 1, Library Second Floor
+                """;
+
+        List<ParsedRecord> records = scanAll(new KeyValueRecordScanner(text, true));
+
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).itemName()).isEqualTo("Smartwatch");
+        assertThat(records.get(0).line()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should return no records for input without keys")
+    void shouldReturnNothingForEmptyInput() {
+        assertThat(scanAll("")).isEmpty();
+        assertThat(scanAll("\n\n   \n")).isEmpty();
+        assertThat(scanAll("MacBook Pro 1 Computer Lab")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read records in the layout of a custom template")
+    void shouldParseWithCustomTemplate() {
+        RecordTemplate template = RecordTemplate.compile(Map.of(
+                Field.ITEM_NAME, "Article",
+                Field.QUANTITY, "Count",
+                Field.PLACE, "Found in",
+                Field.DESCRIPTION, "Notes",
+                Field.DATE, "Found on"), "=>", "dd.MM.yyyy");
+        String text = """
+                ARTICLE => Umbrella
+                Count=>2
+                foundin => Main Entrance
+                Notes => Black, folding
+                Found on => 03.05.2024
+                Article => Keys
+                Count => 1
+                Found in => Lobby
+                Found on => 2024-05-03
+                Item Name: Wallet
+                """;
+
+        List<ParsedRecord> records = scanAll(text, template);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).isAccepted()).isTrue();
+        assertThat(records.get(0).place()).isEqualTo("Main Entrance");
+        assertThat(records.get(0).description()).isEqualTo("Black, folding");
+        assertThat(records.get(0).foundDate()).isEqualTo(LocalDate.of(2024, 5, 3));
+        assertThat(records.get(1).isAccepted()).isFalse();
+        assertThat(records.get(1).rejectionReason()).contains("2024-05-03").contains("dd.MM.yyyy");
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.entity.LostItem;
+import com.example.lostfound.exception.ParseBudgetExceededException;
+import com.example.lostfound.exception.ParseBudgetExceededException.Limit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Parse Budget Tests")
+class ParseBudgetTest {
+
+    private static final Duration NO_TIME_LIMIT = Duration.ofHours(1);
+
+    @TempDir
+    private Path spoolDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private static MockMultipartFile pdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int page = 1; page <= pages; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(font, 12);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 700);
+                    content.showText("Item Name: Laptop " + page);
+                    content.newLine();
+                    content.showText("Quantity: 1");
+                    content.newLine();
+                    content.showText("Place: Library");
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            document.save(bytes);
+            return new MockMultipartFile("file", "items.pdf", "application/pdf", bytes.toByteArray());
+        }
+    }
+
+    /**
+     * One page that draws a form, which draws another form {@code repeat} times; all of the work is in the
+     * nested form
+     */
+    private static MockMultipartFile pdfWithNestedForm(int repeat) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDFormXObject inner = form(document, new PDResources(), "q Q\n".repeat(1_000));
+            PDResources outerResources = new PDResources();
+            COSName innerName = outerResources.add(inner);
+            PDFormXObject outer = form(document, outerResources, ("/" + innerName.getName() + " Do\n").repeat(repeat));
+
+            PDPage page = new PDPage();
+            page.setResources(new PDResources());
+            COSName outerName = page.getResources().add(outer);
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.drawForm(outer);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            document.save(bytes);
+            return new MockMultipartFile("file", "nested.pdf", "application/pdf", bytes.toByteArray());
+        }
+    }
+
+    private static PDFormXObject form(PDDocument document, PDResources resources, String content) throws IOException {
+        PDFormXObject form = new PDFormXObject(document);
+        form.setBBox(new PDRectangle(100, 100));
+        form.setResources(resources);
+        try (OutputStream out = form.getContentStream().createOutputStream()) {
+            out.write(content.getBytes(StandardCharsets.US_ASCII));
+        }
+        return form;
+    }
+
+    private PdfParsingStrategy pdfStrategy(ParseBudgetPolicy policy) {
+        PdfParsingStrategy strategy = new PdfParsingStrategy();
+        strategy.setBudgetPolicy(policy);
+        return strategy;
+    }
+
+    private double exceededCount(String strategy, String limit) {
+        var counter = meterRegistry.find(ParseBudgetPolicy.EXCEEDED_METRIC)
+                .tags("strategy", strategy, "limit", limit)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("Should parse documents within the budget")
+    void shouldParseWithinBudget() throws Exception {
+        ParseBudgetPolicy policy = new ParseBudgetPolicy(3, 1_000, NO_TIME_LIMIT, NO_TIME_LIMIT, meterRegistry);
+
+        assertThat(pdfStrategy(policy).parseFile(pdf(3))).hasSize(3);
+        assertThat(meterRegistry.find(ParseBudgetPolicy.EXCEEDED_METRIC).counters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read a PDF spooled to disk from its file")
+    void shouldParseSpooledPdf() throws Exception {
+        ParseBudgetPolicy policy = new ParseBudgetPolicy(3, 1_000, NO_TIME_LIMIT, NO_TIME_LIMIT, meterRegistry);
+        Path spooled = Files.write(spoolDirectory.resolve("items.part"), pdf(2).getBytes());
+
+        assertThat(pdfStrategy(policy).parseFile(
+                new SpooledMultipartFile("items.pdf", "application/pdf", spooled, Files.size(spooled))))
+                .extracting(LostItem::getItemName)
+                .containsExactly("Laptop 1", "Laptop 2");
+        assertThat(spooled).exists();
+    }
+
+    @Test
+    @DisplayName("Should reject PDFs with more pages than allowed and count the rejection")
+    void shouldRejectTooManyPages() throws Exception {
+        PdfParsingStrategy strategy = pdfStrategy(
+                new ParseBudgetPolicy(2, 1_000, NO_TIME_LIMIT, NO_TIME_LIMIT, meterRegistry));
+
+        assertThatThrownBy(() -> strategy.parseFile(pdf(3)))
+                .isInstanceOfSatisfying(ParseBudgetExceededException.class,
+                        e -> assertThat(e.getLimit()).isEqualTo(Limit.PAGES))
+                .hasMessageContaining("3 pages");
+        assertThat(exceededCount(strategy.getStrategyName(), "pages")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop PDF text extraction after the character limit")
+    void shouldStopAfterCharacterLimit() throws Exception {
+        PdfParsingStrategy strategy = pdfStrategy(
+                new ParseBudgetPolicy(10, 50, NO_TIME_LIMIT, NO_TIME_LIMIT, meterRegistry));
+
+        assertThatThrownBy(() -> strategy.parseFile(pdf(3)))
+                .isInstanceOfSatisfying(ParseBudgetExceededException.class,
+                        e -> assertThat(e.getLimit()).isEqualTo(Limit.CHARACTERS));
+        assertThat(exceededCount(strategy.getStrategyName(), "characters")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop PDF text extraction inside a nested form once the wall time is used up")
+    void shouldStopInsideNestedForm() throws Exception {
+        PdfParsingStrategy strategy = pdfStrategy(
+                new ParseBudgetPolicy(10, 1_000, Duration.ofMillis(100), NO_TIME_LIMIT, meterRegistry));
+        MockMultipartFile file = pdfWithNestedForm(2_000); // about 2 s of operators without a budget
+        // PDFBox classes are loaded first, so that the budget runs out inside the form, not while loading
+        pdfStrategy(new ParseBudgetPolicy(10, 1_000, NO_TIME_LIMIT, NO_TIME_LIMIT, meterRegistry)).parseFile(pdf(1));
+
+        assertThatThrownBy(() -> strategy.parseFile(file))
+                .isInstanceOfSatisfying(ParseBudgetExceededException.class,
+                        e -> assertThat(e.getLimit()).isEqualTo(Limit.WALL_TIME));
+        assertThat(exceededCount(strategy.getStrategyName(), "wall_time")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cancel chunked text parsing once the wall time is used up")
+    void shouldCancelAfterWallTime() {
+        TextParsingStrategy strategy = new TextParsingStrategy(spoolDirectory);
+        strategy.setBudgetPolicy(
+                new ParseBudgetPolicy(10, 1_000, Duration.ZERO, NO_TIME_LIMIT, meterRegistry));
+        MockMultipartFile file = new MockMultipartFile("file", "items.txt", "text/plain",
+                "MacBook Pro 14-inch 1 Computer Lab Room 205\n".repeat(10).getBytes(StandardCharsets.UTF_8));
+        List<Object> stored = new ArrayList<>();
+
+        assertThatThrownBy(() -> strategy.parseFile(file, 2, stored::addAll))
+                .isInstanceOfSatisfying(ParseBudgetExceededException.class,
+                        e -> assertThat(e.getLimit()).isEqualTo(Limit.WALL_TIME));
+        assertThat(stored).isEmpty();
+        assertThat(exceededCount(strategy.getStrategyName(), "wall_time")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not charge time spent outside parsing to the budget")
+    void shouldExcludeTimeOutsideParsing() throws Exception {
+        ParseBudget budget = new ParseBudget(1, 1, Duration.ofMillis(50).toNanos(), Long.MAX_VALUE);
+
+        budget.excluding(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThatCode(budget::checkpoint).doesNotThrowAnyException();
+    }
+}
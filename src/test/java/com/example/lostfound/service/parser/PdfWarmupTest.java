@@ -0,0 +1,70 @@
+package com.example.lostfound.service.parser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PDF Warm-up Tests")
+class PdfWarmupTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<MeterRegistry> meterRegistryProvider() {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+        return provider;
+    }
+
+    @Test
+    @DisplayName("Should report out of service until the bundled PDF has been parsed")
+    void shouldBecomeReadyAfterWarmup() {
+        PdfWarmup warmup = new PdfWarmup(new PdfParsingStrategy(), meterRegistryProvider(), true);
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        warmup.warmUp();
+
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmup.health().getDetails()).containsEntry("warmup", "success");
+        Timer timer = meterRegistry.find(PdfWarmup.WARMUP_METRIC).tag("outcome", "success").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should become ready even when warm-up fails")
+    void shouldBecomeReadyWhenWarmupFails() throws Exception {
+        PdfParsingStrategy strategy = mock(PdfParsingStrategy.class);
+        when(strategy.parseFile(any())).thenThrow(new IllegalStateException("boom"));
+        PdfWarmup warmup = new PdfWarmup(strategy, meterRegistryProvider(), true);
+
+        warmup.warmUp();
+
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(meterRegistry.find(PdfWarmup.WARMUP_METRIC).tag("outcome", "failure").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should be ready immediately when warm-up is disabled")
+    void shouldBeReadyWhenDisabled() {
+        PdfWarmup warmup = new PdfWarmup(new PdfParsingStrategy(), meterRegistryProvider(), false);
+
+        warmup.startWarmup();
+
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
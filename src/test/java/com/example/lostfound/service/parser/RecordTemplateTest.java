@@ -0,0 +1,88 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.service.parser.RecordTemplate.Field;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Record Template Tests")
+class RecordTemplateTest {
+
+    private static Map<Field, String> labels(String itemName, String quantity, String place) {
+        Map<Field, String> labels = new HashMap<>();
+        labels.put(Field.ITEM_NAME, itemName);
+        labels.put(Field.QUANTITY, quantity);
+        labels.put(Field.PLACE, place);
+        return labels;
+    }
+
+    private static Field match(RecordTemplate template, String line) {
+        Field[] field = new Field[1];
+        return template.matchLabel(line, 0, line.length(), field) >= 0 ? field[0] : null;
+    }
+
+    @Test
+    @DisplayName("Should match labels that share a prefix to the right field")
+    void shouldMatchLabelsSharingPrefix() {
+        Map<Field, String> labels = labels("Item", "Item Count", "Item Place");
+        labels.put(Field.DESCRIPTION, "Item Notes");
+        RecordTemplate template = RecordTemplate.compile(labels, ":", null);
+
+        assertThat(match(template, "Item: Laptop")).isEqualTo(Field.ITEM_NAME);
+        assertThat(match(template, "item count: 2")).isEqualTo(Field.QUANTITY);
+        assertThat(match(template, "ITEMPLACE : Library")).isEqualTo(Field.PLACE);
+        assertThat(match(template, "Item   Notes: Black")).isEqualTo(Field.DESCRIPTION);
+        assertThat(match(template, "Item Colour: Black")).isNull();
+        assertThat(match(template, "Items: Laptop")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should require the whole separator after a label")
+    void shouldRequireWholeSeparator() {
+        RecordTemplate template = RecordTemplate.compile(labels("Article", "Count", "Room"), "=>", null);
+
+        assertThat(match(template, "Article => Laptop")).isEqualTo(Field.ITEM_NAME);
+        assertThat(match(template, "Article = Laptop")).isNull();
+        assertThat(match(template, "Article: Laptop")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject incomplete templates")
+    void shouldRejectIncompleteTemplates() {
+        assertThatThrownBy(() -> RecordTemplate.compile(labels("Article", null, "Room"), ":", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A label for quantity is required");
+        assertThatThrownBy(() -> RecordTemplate.compile(labels("Article", "Count", "Room"), " ", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Separator must not be blank");
+    }
+
+    @Test
+    @DisplayName("Should reject ambiguous labels")
+    void shouldRejectAmbiguousLabels() {
+        assertThatThrownBy(() -> RecordTemplate.compile(labels("Article", "Found In", "found  in"), ":", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The labels for quantity and place are the same");
+        assertThatThrownBy(() -> RecordTemplate.compile(labels("Article: Name", "Count", "Room"), ":", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not contain ':'");
+    }
+
+    @Test
+    @DisplayName("Should reject non-ASCII labels and invalid date patterns")
+    void shouldRejectInvalidSyntax() {
+        assertThatThrownBy(() -> RecordTemplate.compile(labels("Artikel", "Anzahl", "Fundort Büro"), ":", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("printable ASCII");
+
+        Map<Field, String> labels = labels("Article", "Count", "Room");
+        labels.put(Field.DATE, "Found on");
+        assertThatThrownBy(() -> RecordTemplate.compile(labels, ":", "yyyy-MM-bb"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid date pattern 'yyyy-MM-bb'");
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.lostfound.service.parser;
+
+import com.example.lostfound.entity.LostItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Text Parsing Strategy Tests")
+class TextParsingStrategyTest {
+
+    @TempDir
+    private Path spoolDirectory;
+
+    private TextParsingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new TextParsingStrategy(spoolDirectory);
+    }
+
+    private static MockMultipartFile text(String content) {
+        return new MockMultipartFile("file", "items.txt", "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should parse the bundled sample file in both formats")
+    void shouldParseSampleFile() throws Exception {
+        byte[] sample = Files.readAllBytes(Path.of("sample-data/sample_lost_items.txt"));
+
+        List<LostItem> items = strategy.parseFile(
+                new MockMultipartFile("file", "sample_lost_items.txt", "text/plain", sample));
+
+        assertThat(items).hasSize(15);
+        assertThat(items.get(0).getItemName()).isEqualTo("MacBook Pro 14-inch");
+        assertThat(items.get(9).getItemName()).isEqualTo("Charger Cable (USB-C)");
+        assertThat(items.get(10).getItemName()).isEqualTo("Smartwatch");
+        assertThat(items.get(10).getQuantity()).isEqualTo(1);
+        assertThat(items.get(10).getPlace()).isEqualTo("Library Second Floor");
+    }
+
+    @Test
+    @DisplayName("Should parse space-separated single-line records with numbers in names and places")
+    void shouldParseSpaceSeparatedLines() throws Exception {
+        String content = """
+                Lost Items Report
+                =================
+                item_name quantity location
+                MacBook Pro 14-inch 1 Computer Lab Room 205
+                iPhone 15 2 Library Main Floor
+                USB Flash Drive 5 Computer Lab Room 103
+                """;
+
+        List<LostItem> items = strategy.parseFile(text(content));
+
+        assertThat(items).extracting(LostItem::getItemName)
+                .containsExactly("MacBook Pro 14-inch", "iPhone 15", "USB Flash Drive");
+        assertThat(items).extracting(LostItem::getQuantity).containsExactly(1, 2, 5);
+        assertThat(items).extracting(LostItem::getPlace)
+                .containsExactly("Computer Lab Room 205", "Library Main Floor", "Computer Lab Room 103");
+    }
+
+    @Test
+    @DisplayName("Should decode UTF-8 values and skip a byte order mark")
+    void shouldDecodeUtf8() throws Exception {
+        String content = "\uFEFFItem Name: Café Thermos ☕\nQuantity: 1\nPlace: Bibliothèque\n";
+
+        List<LostItem> items = strategy.parseFile(text(content));
+
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).getItemName()).isEqualTo("Café Thermos ☕");
+        assertThat(items.get(0).getPlace()).isEqualTo("Bibliothèque");
+    }
+
+    @Test
+    @DisplayName("Should remove the spooled file after parsing")
+    void shouldCleanUpSpooledFile() throws Exception {
+        strategy.parseFile(text("Umbrella, 2, Main Entrance\n"));
+
+        try (var files = Files.list(spoolDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should map a file that is on disk already in place and leave it to its owner")
+    void shouldParseSpooledFileInPlace(@TempDir Path owner) throws Exception {
+        Path upload = Files.writeString(owner.resolve("north.part"), "Umbrella, 2, Main Entrance\n");
+
+        List<LostItem> items = strategy.parseFile(
+                new SpooledMultipartFile("north.txt", "text/plain", upload, Files.size(upload)));
+
+        assertThat(items).extracting(LostItem::getItemName).containsExactly("Umbrella");
+        assertThat(upload).exists();
+        try (var files = Files.list(spoolDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}